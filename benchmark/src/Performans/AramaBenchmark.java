@@ -0,0 +1,96 @@
+package Performans;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DersService;
+import Service.OgrenciService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OgrenciService#ogrenciAra(int)}, {@link DersService#dersAra(String)} ve
+ * {@link BolumService#bolumAra(String)} sorgularının kayıt sayısına göre verimini ölçer.
+ * <p>
+ * Her servis {@code kayitSayisi} kadar kayıtla doldurulur; sorgular sabit tohumla karıştırılmış
+ * mevcut anahtarlar üzerinde döngüsel olarak yapılır. Ders ve bölüm sorgularında anahtarlar büyük harfle
+ * verilir, böylece normalizasyon maliyeti de ölçüme dahil olur.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class AramaBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int kayitSayisi;
+
+    private OgrenciService ogrenciService;
+    private DersService dersService;
+    private BolumService bolumService;
+
+    private int[] ogrenciNolari;
+    private String[] dersKodlari;
+    private String[] bolumAdlari;
+    private int sira;
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        ogrenciService = new OgrenciService();
+        dersService = new DersService();
+        bolumService = new BolumService();
+
+        Bolum bolum = BenchmarkVerisi.bolum(0);
+        for (int i = 0; i < kayitSayisi; i++) {
+            bolumService.bolumEkle(BenchmarkVerisi.bolum(i));
+            dersService.dersEkle(BenchmarkVerisi.ders(i));
+            ogrenciService.ogrenciEkle(BenchmarkVerisi.ogrenci(i, bolum));
+        }
+
+        int[] indeksler = BenchmarkVerisi.sorguIndeksleri(kayitSayisi);
+        ogrenciNolari = new int[indeksler.length];
+        dersKodlari = new String[indeksler.length];
+        bolumAdlari = new String[indeksler.length];
+        for (int i = 0; i < indeksler.length; i++) {
+            ogrenciNolari[i] = BenchmarkVerisi.ILK_OGRENCI_NO + indeksler[i];
+            dersKodlari[i] = BenchmarkVerisi.ders(indeksler[i]).getKod().toUpperCase();
+            bolumAdlari[i] = BenchmarkVerisi.bolum(indeksler[i]).getAd().toUpperCase();
+        }
+    }
+
+    private int sonraki() {
+        return sira++ & (BenchmarkVerisi.SORGU_SAYISI - 1);
+    }
+
+    @Benchmark
+    public Ogrenci ogrenciAra() {
+        return ogrenciService.ogrenciAra(ogrenciNolari[sonraki()]);
+    }
+
+    @Benchmark
+    public Ders dersAra() {
+        return dersService.dersAra(dersKodlari[sonraki()]);
+    }
+
+    @Benchmark
+    public Bolum bolumAra() {
+        return bolumService.bolumAra(bolumAdlari[sonraki()]);
+    }
+}
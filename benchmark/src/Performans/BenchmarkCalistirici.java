@@ -0,0 +1,37 @@
+package Performans;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark paketini IDE'den çalıştırmak için giriş noktasıdır.
+ * <p>
+ * Tüm ölçümler GC profilleyicisiyle yapılır; sonuçlarda işlem başına verimin yanında
+ * {@code gc.alloc.rate.norm} (işlem başına ayrılan bayt) değeri de yer alır. Sonuçlar
+ * karşılaştırma için {@code benchmark-sonuclari.json} dosyasına yazılır.
+ * </p>
+ * <p>
+ * Kullanım: {@code BenchmarkCalistirici [benchmark-deseni] [kayitSayisi,...]}; örneğin
+ * {@code BenchmarkCalistirici Arama 1000,100000} yalnızca arama benchmark'larını iki boyutta çalıştırır.
+ * </p>
+ */
+public class BenchmarkCalistirici {
+
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder ayarlar = new OptionsBuilder();
+        ayarlar.include(args.length > 0 ? args[0] : BenchmarkCalistirici.class.getPackageName() + "\\..*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("benchmark-sonuclari.json");
+        if (args.length > 1) {
+            ayarlar.param("kayitSayisi", args[1].split(","));
+        }
+
+        Options secenekler = ayarlar.build();
+        new Runner(secenekler).run();
+    }
+}
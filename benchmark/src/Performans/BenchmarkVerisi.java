@@ -0,0 +1,63 @@
+package Performans;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.Ogrenci;
+
+import java.time.LocalDate;
+
+/**
+ * Benchmark durumlarının ortak kullandığı deterministik veri üretim yardımcılarıdır.
+ */
+final class BenchmarkVerisi {
+
+    /** Parametrelerde kullanılan en küçük 9 haneli öğrenci numarası. */
+    static final int ILK_OGRENCI_NO = 100_000_000;
+
+    /** Sorgu benchmark'larında döngüsel olarak kullanılan anahtar sayısı (2'nin kuvveti). */
+    static final int SORGU_SAYISI = 1 << 12;
+
+    private static final LocalDate DOGUM_TARIHI = LocalDate.of(2003, 9, 1);
+
+    private BenchmarkVerisi() {
+    }
+
+    /**
+     * Sayıyı yalnızca harflerden oluşan benzersiz bir metne dönüştürür (menülerin ad doğrulamasına uygun).
+     */
+    static String harfAdi(String onEk, int sayi) {
+        StringBuilder sb = new StringBuilder(onEk);
+        do {
+            sb.append((char) ('a' + sayi % 26));
+            sayi /= 26;
+        } while (sayi > 0);
+        return sb.toString();
+    }
+
+    static Bolum bolum(int i) {
+        return new Bolum(harfAdi("Bolum", i), null, null);
+    }
+
+    static Ders ders(int i) {
+        return new Ders(harfAdi("Ders", i), "D" + i, 1 + i % 8);
+    }
+
+    static Ogrenci ogrenci(int i, Bolum bolum) {
+        return new Ogrenci(harfAdi("Ad", i), harfAdi("Soyad", i), ILK_OGRENCI_NO + i, DOGUM_TARIHI, bolum);
+    }
+
+    /**
+     * [0, sinir) aralığından sabit tohumla karıştırılmış {@link #SORGU_SAYISI} adet indeks üretir.
+     */
+    static int[] sorguIndeksleri(int sinir) {
+        int[] indeksler = new int[SORGU_SAYISI];
+        long x = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < indeksler.length; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+            indeksler[i] = (int) Long.remainderUnsigned(x, sinir);
+        }
+        return indeksler;
+    }
+}
@@ -0,0 +1,96 @@
+package Performans;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.Ogrenci;
+import Service.GpaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GpaService#gpaHesapla(Ogrenci)} ve {@link GpaService#harfNotuKarsiligi(String)} verimini ölçer.
+ * <p>
+ * {@code kayitSayisi} toplam not kaydı sayısıdır: her öğrencinin {@link #OGRENCI_BASINA_NOT} dersten notu vardır.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class GpaBenchmark {
+
+    /** Her öğrenciye girilen not sayısı. */
+    static final int OGRENCI_BASINA_NOT = 4;
+    /** Notların dağıtıldığı ders sayısı. */
+    static final int DERS_SAYISI = 16;
+
+    private static final String[] HARF_NOTLARI = {"AA", "ba", " BB", "CB", "cc ", "DC", "DD", "FF"};
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int kayitSayisi;
+
+    private GpaService gpaService;
+    private Ogrenci[] sorguOgrencileri;
+    private int sira;
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        gpaService = new GpaService();
+        Ogrenci[] ogrenciler = notluOgrenciler(gpaService, kayitSayisi);
+
+        int[] indeksler = BenchmarkVerisi.sorguIndeksleri(ogrenciler.length);
+        sorguOgrencileri = new Ogrenci[indeksler.length];
+        for (int i = 0; i < indeksler.length; i++) {
+            sorguOgrencileri[i] = ogrenciler[indeksler[i]];
+        }
+    }
+
+    /**
+     * Servise toplam {@code kayitSayisi} not kaydı girer ve notu girilen öğrencileri döndürür.
+     */
+    static Ogrenci[] notluOgrenciler(GpaService gpaService, int kayitSayisi) {
+        Bolum bolum = BenchmarkVerisi.bolum(0);
+        Ders[] dersler = new Ders[DERS_SAYISI];
+        for (int i = 0; i < dersler.length; i++) {
+            dersler[i] = BenchmarkVerisi.ders(i);
+        }
+
+        Ogrenci[] ogrenciler = new Ogrenci[Math.max(1, kayitSayisi / OGRENCI_BASINA_NOT)];
+        for (int i = 0; i < ogrenciler.length; i++) {
+            ogrenciler[i] = BenchmarkVerisi.ogrenci(i, bolum);
+            for (int j = 0; j < OGRENCI_BASINA_NOT; j++) {
+                gpaService.notEkle(ogrenciler[i], dersler[(i + j * 5) % DERS_SAYISI], HARF_NOTLARI[(i + j) & 7]);
+            }
+        }
+        return ogrenciler;
+    }
+
+    @Benchmark
+    public double gpaHesapla() {
+        return gpaService.gpaHesapla(sorguOgrencileri[sira++ & (BenchmarkVerisi.SORGU_SAYISI - 1)]);
+    }
+
+    /**
+     * Harf notu dönüşümü depodaki kayıt sayısından bağımsızdır; her boyutta aynı sonucu vermesi beklenir
+     * ve boyuta bağlı bir sapma önbellek etkilerini gösterir.
+     */
+    @Benchmark
+    public double harfNotuKarsiligi() {
+        return gpaService.harfNotuKarsiligi(HARF_NOTLARI[sira++ & 7]);
+    }
+}
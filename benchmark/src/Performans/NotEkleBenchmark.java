@@ -0,0 +1,72 @@
+package Performans;
+
+import Model.Ders;
+import Model.Ogrenci;
+import Service.GpaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GpaService#notEkle(Ogrenci, Ders, String)} verimini, içinde {@code kayitSayisi} not kaydı bulunan bir depoya ekleme olarak ölçer.
+ * <p>
+ * Her çağrı daha önce girilmemiş bir öğrenci/ders ikilisine not ekler; ikililer mevcut öğrenciler ile
+ * yalnızca bu benchmark için oluşturulan ders havuzunun çarpımından sırayla seçilir. Eklenen kayıtlar depoyu
+ * büyüttüğü için depo her ölçüm iterasyonundan önce baştan kurulur.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class NotEkleBenchmark {
+
+    /** Bir iterasyonda tükenmemesi gereken en az öğrenci/ders ikilisi sayısı. */
+    private static final long EN_AZ_IKILI = 50_000_000L;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int kayitSayisi;
+
+    private GpaService gpaService;
+    private Ogrenci[] ogrenciler;
+    private Ders[] ekDersler;
+    private long sira;
+
+    @Setup(Level.Trial)
+    public void dersleriHazirla() {
+        int ogrenciSayisi = Math.max(1, kayitSayisi / GpaBenchmark.OGRENCI_BASINA_NOT);
+        ekDersler = new Ders[(int) Math.max(64, EN_AZ_IKILI / ogrenciSayisi)];
+        for (int i = 0; i < ekDersler.length; i++) {
+            ekDersler[i] = BenchmarkVerisi.ders(GpaBenchmark.DERS_SAYISI + i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void depoyuHazirla() {
+        gpaService = new GpaService();
+        ogrenciler = GpaBenchmark.notluOgrenciler(gpaService, kayitSayisi);
+        sira = 0;
+    }
+
+    @Benchmark
+    public boolean notEkle() {
+        long s = sira++;
+        int ogrenci = (int) (s % ogrenciler.length);
+        int ders = (int) (s / ogrenciler.length % ekDersler.length);
+        return gpaService.notEkle(ogrenciler[ogrenci], ekDersler[ders], "BB");
+    }
+}
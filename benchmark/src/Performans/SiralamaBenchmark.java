@@ -0,0 +1,57 @@
+package Performans;
+
+import Model.Ogrenci;
+import Service.GpaService;
+import Service.GpaSiralamasi;
+import Service.SiralamaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SiralamaService#gpaSiralamasi(java.util.Collection)} ile tüm öğrencilerin GPA sıralamasını ölçer.
+ * <p>
+ * {@code kayitSayisi} toplam not kaydı sayısıdır; sıralanan öğrenci sayısı bunun
+ * {@link GpaBenchmark#OGRENCI_BASINA_NOT} ile bölümüdür.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SiralamaBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int kayitSayisi;
+
+    private SiralamaService siralamaService;
+    private List<Ogrenci> ogrenciler;
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        GpaService gpaService = new GpaService();
+        ogrenciler = Arrays.asList(GpaBenchmark.notluOgrenciler(gpaService, kayitSayisi));
+        siralamaService = new SiralamaService(gpaService);
+    }
+
+    @Benchmark
+    public GpaSiralamasi gpaSiralamasi() {
+        return siralamaService.gpaSiralamasi(ogrenciler);
+    }
+}
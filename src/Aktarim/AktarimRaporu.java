@@ -0,0 +1,118 @@
+package Aktarim;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bir toplu aktarım işleminin sonucunu (eklenen kayıt sayısı ve reddedilen satırlar) tutan sınıftır.
+ * <p>
+ * Tamamen hatalı büyük bir dosya belleği doldurmasın diye reddedilen satırların yalnızca ilk
+ * {@link #EN_FAZLA_RED} tanesi ayrıntısıyla tutulur; sonrakiler yalnızca sayılır.
+ * </p>
+ */
+public class AktarimRaporu {
+
+    /** Ayrıntısı (satır içeriği ve sebebi) tutulan en fazla reddedilen satır sayısı. */
+    public static final int EN_FAZLA_RED = 100_000;
+
+    /**
+     * Reddedilen tek bir CSV satırını ve red sebebini temsil eder.
+     */
+    public static class Red {
+        private final long satirNo;
+        private final String satir;
+        private final String sebep;
+
+        Red(long satirNo, String satir, String sebep) {
+            this.satirNo = satirNo;
+            this.satir = satir;
+            this.sebep = sebep;
+        }
+
+        /** Satırın dosyadaki numarası (başlık satırı 1'dir). */
+        public long getSatirNo() {
+            return satirNo;
+        }
+
+        /** Satırın ham içeriği. */
+        public String getSatir() {
+            return satir;
+        }
+
+        /** Satırın neden reddedildiği. */
+        public String getSebep() {
+            return sebep;
+        }
+    }
+
+    private final Path kaynak;
+    private final List<Red> redler = new ArrayList<>();
+    private long eklenen;
+    private long reddedilen;
+
+    AktarimRaporu(Path kaynak) {
+        this.kaynak = kaynak;
+    }
+
+    void eklendi() {
+        eklenen++;
+    }
+
+    void reddedildi(long satirNo, String satir, String sebep) {
+        reddedilen++;
+        if (redler.size() < EN_FAZLA_RED) {
+            redler.add(new Red(satirNo, satir, sebep));
+        }
+    }
+
+    /** Aktarılan CSV dosyası. */
+    public Path getKaynak() {
+        return kaynak;
+    }
+
+    /** Başarıyla eklenen kayıt sayısı. */
+    public long getEklenen() {
+        return eklenen;
+    }
+
+    /** Reddedilen satır sayısı; ayrıntısı tutulmayanlar dahil. */
+    public long getReddedilen() {
+        return reddedilen;
+    }
+
+    /** Reddedilen satırlardan ilk {@link #EN_FAZLA_RED} tanesi, dosyadaki sıralarıyla. */
+    public List<Red> getRedler() {
+        return Collections.unmodifiableList(redler);
+    }
+
+    /**
+     * Ayrıntısı tutulan reddedilen satırları "satir;sebep;icerik" sütunlarıyla bir CSV dosyasına yazar.
+     *
+     * @param hedef Raporun yazılacağı dosya.
+     * @throws IOException Dosya yazılamazsa.
+     */
+    public void yaz(Path hedef) throws IOException {
+        try (BufferedWriter yazici = Files.newBufferedWriter(hedef, StandardCharsets.UTF_8)) {
+            yazici.write("satir;sebep;icerik");
+            yazici.newLine();
+            for (Red red : redler) {
+                yazici.write(Long.toString(red.satirNo));
+                yazici.write(';');
+                yazici.write(tirnakla(red.sebep));
+                yazici.write(';');
+                yazici.write(tirnakla(red.satir));
+                yazici.newLine();
+            }
+        }
+    }
+
+    private static String tirnakla(String metin) {
+        return '"' + metin.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,88 @@
+package Aktarim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV satırlarını alanlarına ayıran yardımcı sınıftır.
+ * <p>
+ * Alanlar çift tırnak içine alınabilir; tırnak içindeki ayırıcılar alanın parçası sayılır
+ * ve {@code ""} tek bir tırnak karakteri olarak okunur. Ayırıcı, dosyanın başlık satırından
+ * belirlenir: başlıkta virgül yoksa ve noktalı virgül varsa (Türkçe Excel çıktıları) {@code ';'},
+ * aksi halde {@code ','} kullanılır.
+ * </p>
+ */
+public final class CsvAyristirici {
+
+    private CsvAyristirici() {
+    }
+
+    /**
+     * Başlık satırına bakarak dosyada kullanılan alan ayırıcısını belirler.
+     *
+     * @param baslik Dosyanın ilk satırı.
+     * @return {@code ';'} veya {@code ','}.
+     */
+    public static char ayiriciBul(String baslik) {
+        if (baslik != null && baslik.indexOf(',') < 0 && baslik.indexOf(';') >= 0) {
+            return ';';
+        }
+        return ',';
+    }
+
+    /**
+     * Bir CSV satırını alanlarına ayırır. Tırnak içine alınmamış alanların baştaki ve sondaki boşlukları atılır.
+     *
+     * @param satir   Ayrıştırılacak satır.
+     * @param ayirici Alan ayırıcısı.
+     * @return Alanlar; tırnağı kapanmamış satırlarda null.
+     */
+    public static String[] ayir(String satir, char ayirici) {
+        List<String> alanlar = new ArrayList<>(8);
+        StringBuilder alan = new StringBuilder();
+        int i = 0;
+        int n = satir.length();
+
+        while (true) {
+            while (i < n && satir.charAt(i) == ' ') {
+                i++;
+            }
+
+            if (i < n && satir.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= n) {
+                        return null;
+                    }
+                    char c = satir.charAt(i++);
+                    if (c == '"') {
+                        if (i < n && satir.charAt(i) == '"') {
+                            alan.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        alan.append(c);
+                    }
+                }
+                while (i < n && satir.charAt(i) != ayirici) {
+                    i++;
+                }
+                alanlar.add(alan.toString());
+            } else {
+                int bas = i;
+                while (i < n && satir.charAt(i) != ayirici) {
+                    i++;
+                }
+                alanlar.add(satir.substring(bas, i).trim());
+            }
+            alan.setLength(0);
+
+            if (i >= n) {
+                return alanlar.toArray(new String[0]);
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package Aktarim;
+
+/**
+ * GPA sıralamasının dışa aktarılabileceği dosya formatlarıdır.
+ */
+public enum DisaAktarimFormati {
+
+    /** "no - isim soyisim | GPA: 3.50" biçiminde düz metin (önceki 'sonuclar.txt' düzeni). */
+    METIN("sonuclar.txt"),
+    /** Başlık satırlı, virgülle ayrılmış değerler. */
+    CSV("sonuclar.csv"),
+    /** Her satırda bir JSON nesnesi (JSON Lines). */
+    JSONL("sonuclar.jsonl");
+
+    private final String varsayilanDosya;
+
+    DisaAktarimFormati(String varsayilanDosya) {
+        this.varsayilanDosya = varsayilanDosya;
+    }
+
+    /**
+     * Kullanıcı bir yol belirtmediğinde kullanılacak dosya adını döndürür.
+     *
+     * @return Varsayılan dosya adı.
+     */
+    public String getVarsayilanDosya() {
+        return varsayilanDosya;
+    }
+}
@@ -0,0 +1,330 @@
+package Aktarim;
+
+import Metrik.DisaAktarimOlayi;
+import Model.Ogrenci;
+import Service.GpaSiralamasi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * GPA sıralamasını büyük bir tampon üzerinden NIO kanalına akış halinde yazan dışa aktarıcıdır.
+ * <p>
+ * Satırlar ara {@code String} nesneleri oluşturulmadan doğrudan bayt tamponuna kodlanır
+ * (UTF-8); tampon dolduğunda tek seferde kanala yazılır. GPA değerleri iki ondalık basamağa
+ * yukarı yuvarlanır (HALF_UP); {@code double} gösterimindeki küçük hatalar nedeniyle
+ * yarıya çok yakın kalan değerler de tam yarı kabul edilir, böylece sonuç
+ * {@code String.format("%.2f")} ile aynı olur.
+ * </p>
+ * <p>
+ * Dosya önce hedefle aynı dizinde geçici bir dosyaya yazılır, diske senkronize edilir ve
+ * ardından atomik olarak hedefin yerine taşınır; yarım kalmış bir dışa aktarım mevcut dosyayı bozmaz.
+ * </p>
+ * <p>
+ * Her dışa aktarım, başarısız olanlar dahil, bir {@link DisaAktarimOlayi} Java Flight Recorder olayı olarak kaydedilir.
+ * </p>
+ */
+public class SiralamaDisaAktarici {
+
+    /** Yazma tamponunun boyutu. */
+    private static final int TAMPON_BOYUTU = 1024 * 1024;
+
+    /** Yuvarlamada tam yarı kabul edilecek en büyük sapma (GPA x 100 ölçeğinde). */
+    private static final double YARIM_TOLERANSI = 1e-9;
+
+    private static final byte[] CSV_BASLIK = ascii("sira,ogrenciNo,isim,soyisim,gpa\n");
+    private static final byte[] METIN_AYRAC = ascii(" - ");
+    private static final byte[] METIN_GPA = ascii(" | GPA: ");
+    private static final byte[] JSON_SIRA = ascii("{\"sira\":");
+    private static final byte[] JSON_NO = ascii(",\"ogrenciNo\":");
+    private static final byte[] JSON_ISIM = ascii(",\"isim\":\"");
+    private static final byte[] JSON_SOYISIM = ascii("\",\"soyisim\":\"");
+    private static final byte[] JSON_GPA = ascii("\",\"gpa\":");
+    private static final byte[] ONALTILIK = ascii("0123456789abcdef");
+
+    private final ByteBuffer tampon = ByteBuffer.allocateDirect(TAMPON_BOYUTU);
+    private final char metinOndalikAyiraci;
+    private FileChannel kanal;
+
+    /**
+     * METIN formatında ondalık ayırıcı olarak nokta kullanan bir dışa aktarıcı oluşturur.
+     */
+    public SiralamaDisaAktarici() {
+        this('.');
+    }
+
+    /**
+     * METIN formatında verilen ondalık ayırıcıyı kullanan bir dışa aktarıcı oluşturur.
+     * CSV ve JSONL formatları her zaman nokta kullanır.
+     *
+     * @param metinOndalikAyiraci METIN formatındaki GPA değerlerinin ondalık ayırıcısı.
+     */
+    public SiralamaDisaAktarici(char metinOndalikAyiraci) {
+        this.metinOndalikAyiraci = metinOndalikAyiraci;
+    }
+
+    /**
+     * Sıralamayı verilen formatta dosyaya yazar.
+     *
+     * @param siralama Yazılacak GPA sıralaması.
+     * @param hedef    Hedef dosya; varsa üzerine yazılır.
+     * @param format   Çıktı formatı.
+     * @throws IOException Dosya yazılamazsa; bu durumda hedef dosya değişmez.
+     */
+    public synchronized void yaz(GpaSiralamasi siralama, Path hedef, DisaAktarimFormati format) throws IOException {
+        DisaAktarimOlayi olay = new DisaAktarimOlayi();
+        olay.begin();
+        Path mutlak = hedef.toAbsolutePath();
+        olay.dosya = mutlak.toString();
+        olay.format = format.name();
+        olay.kayitSayisi = siralama.boyut();
+        try {
+            Path gecici = Files.createTempFile(mutlak.getParent(), mutlak.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel k = FileChannel.open(gecici, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    kanal = k;
+                    tampon.clear();
+                    switch (format) {
+                        case METIN -> metinYaz(siralama);
+                        case CSV -> csvYaz(siralama);
+                        case JSONL -> jsonYaz(siralama);
+                    }
+                    bosalt();
+                    k.force(true);
+                    olay.bayt = k.size();
+                } finally {
+                    kanal = null;
+                }
+                try {
+                    Files.move(gecici, mutlak, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(gecici, mutlak, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(gecici);
+                throw e;
+            }
+            olay.basarili = true;
+        } finally {
+            olay.commit();
+        }
+    }
+
+    private void metinYaz(GpaSiralamasi siralama) throws IOException {
+        for (int i = 0; i < siralama.boyut(); i++) {
+            Ogrenci o = siralama.ogrenci(i);
+            yer(32);
+            tamSayi(o.getOgrenciNo());
+            tampon.put(METIN_AYRAC);
+            metin(o.getIsim());
+            yer(1);
+            tampon.put((byte) ' ');
+            metin(o.getSoyisim());
+            yer(24);
+            tampon.put(METIN_GPA);
+            gpa(siralama.gpa(i), metinOndalikAyiraci);
+            tampon.put((byte) '\n');
+        }
+    }
+
+    private void csvYaz(GpaSiralamasi siralama) throws IOException {
+        yer(CSV_BASLIK.length);
+        tampon.put(CSV_BASLIK);
+        for (int i = 0; i < siralama.boyut(); i++) {
+            Ogrenci o = siralama.ogrenci(i);
+            yer(32);
+            tamSayi(i + 1);
+            tampon.put((byte) ',');
+            tamSayi(o.getOgrenciNo());
+            tampon.put((byte) ',');
+            csvAlan(o.getIsim());
+            yer(1);
+            tampon.put((byte) ',');
+            csvAlan(o.getSoyisim());
+            yer(16);
+            tampon.put((byte) ',');
+            gpa(siralama.gpa(i), '.');
+            tampon.put((byte) '\n');
+        }
+    }
+
+    private void jsonYaz(GpaSiralamasi siralama) throws IOException {
+        for (int i = 0; i < siralama.boyut(); i++) {
+            Ogrenci o = siralama.ogrenci(i);
+            yer(64);
+            tampon.put(JSON_SIRA);
+            tamSayi(i + 1);
+            tampon.put(JSON_NO);
+            tamSayi(o.getOgrenciNo());
+            tampon.put(JSON_ISIM);
+            jsonMetin(o.getIsim());
+            yer(JSON_SOYISIM.length);
+            tampon.put(JSON_SOYISIM);
+            jsonMetin(o.getSoyisim());
+            yer(24);
+            tampon.put(JSON_GPA);
+            gpa(siralama.gpa(i), '.');
+            tampon.put((byte) '}');
+            tampon.put((byte) '\n');
+        }
+    }
+
+    /**
+     * GPA değerini iki ondalık basamakla yazar.
+     */
+    private void gpa(double deger, char ondalikAyiraci) {
+        double olcekli = Math.abs(deger) * 100;
+        long yuzde = (long) Math.floor(olcekli + 0.5 + YARIM_TOLERANSI);
+        if (deger < 0 && yuzde != 0) {
+            tampon.put((byte) '-');
+        }
+        tamSayi(yuzde / 100);
+        tampon.put((byte) ondalikAyiraci);
+        tampon.put((byte) ('0' + (yuzde / 10) % 10));
+        tampon.put((byte) ('0' + yuzde % 10));
+    }
+
+    /**
+     * Tam sayıyı ara nesne oluşturmadan ondalık basamaklarıyla yazar.
+     */
+    private void tamSayi(long deger) {
+        if (deger < 0) {
+            tampon.put((byte) '-');
+            deger = -deger;
+        }
+        long bolen = 1;
+        while (bolen <= deger / 10) {
+            bolen *= 10;
+        }
+        for (; bolen > 0; bolen /= 10) {
+            tampon.put((byte) ('0' + (deger / bolen) % 10));
+        }
+    }
+
+    private void csvAlan(String deger) throws IOException {
+        if (deger == null) {
+            return;
+        }
+        boolean tirnak = false;
+        for (int i = 0; i < deger.length() && !tirnak; i++) {
+            char c = deger.charAt(i);
+            tirnak = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!tirnak) {
+            metin(deger);
+            return;
+        }
+        yer(1);
+        tampon.put((byte) '"');
+        for (int i = 0; i < deger.length(); i++) {
+            char c = deger.charAt(i);
+            if (c == '"') {
+                yer(1);
+                tampon.put((byte) '"');
+            }
+            karakter(deger, i);
+            if (Character.isHighSurrogate(c) && i + 1 < deger.length()) {
+                i++;
+            }
+        }
+        yer(1);
+        tampon.put((byte) '"');
+    }
+
+    private void jsonMetin(String deger) throws IOException {
+        if (deger == null) {
+            return;
+        }
+        for (int i = 0; i < deger.length(); i++) {
+            char c = deger.charAt(i);
+            if (c == '"' || c == '\\') {
+                yer(2);
+                tampon.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                yer(6);
+                tampon.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(ONALTILIK[c >> 4]).put(ONALTILIK[c & 0xF]);
+            } else {
+                karakter(deger, i);
+                if (Character.isHighSurrogate(c) && i + 1 < deger.length()) {
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Metni UTF-8 olarak yazar.
+     */
+    private void metin(String deger) throws IOException {
+        if (deger == null) {
+            return;
+        }
+        for (int i = 0; i < deger.length(); i++) {
+            char c = deger.charAt(i);
+            karakter(deger, i);
+            if (Character.isHighSurrogate(c) && i + 1 < deger.length()) {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Metnin verilen konumundaki karakteri UTF-8 olarak yazar. Vekil çiftlerinde (surrogate pair)
+     * iki karakter birlikte kodlanır; çağıran taraf bu durumda bir sonraki karakteri atlamalıdır.
+     */
+    private void karakter(String deger, int i) throws IOException {
+        yer(4);
+        char c = deger.charAt(i);
+        if (c < 0x80) {
+            tampon.put((byte) c);
+        } else if (c < 0x800) {
+            tampon.put((byte) (0xC0 | (c >> 6)));
+            tampon.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && i + 1 < deger.length()
+                && Character.isLowSurrogate(deger.charAt(i + 1))) {
+            int kod = Character.toCodePoint(c, deger.charAt(i + 1));
+            tampon.put((byte) (0xF0 | (kod >> 18)));
+            tampon.put((byte) (0x80 | ((kod >> 12) & 0x3F)));
+            tampon.put((byte) (0x80 | ((kod >> 6) & 0x3F)));
+            tampon.put((byte) (0x80 | (kod & 0x3F)));
+        } else if (Character.isSurrogate(c)) {
+            tampon.put((byte) '?');
+        } else {
+            tampon.put((byte) (0xE0 | (c >> 12)));
+            tampon.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            tampon.put((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    /**
+     * Tamponda en az {@code gerekli} bayt boş yer olmasını sağlar.
+     */
+    private void yer(int gerekli) throws IOException {
+        if (tampon.remaining() < gerekli) {
+            bosalt();
+        }
+    }
+
+    private void bosalt() throws IOException {
+        tampon.flip();
+        while (tampon.hasRemaining()) {
+            kanal.write(tampon);
+        }
+        tampon.clear();
+    }
+
+    private static byte[] ascii(String metin) {
+        byte[] baytlar = new byte[metin.length()];
+        for (int i = 0; i < baytlar.length; i++) {
+            baytlar[i] = (byte) metin.charAt(i);
+        }
+        return baytlar;
+    }
+}
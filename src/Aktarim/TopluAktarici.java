@@ -0,0 +1,465 @@
+package Aktarim;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+import Service.TopluNotSonucu;
+import Util.DateUtil;
+import Util.DogrulamaUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bölüm, ders, öğrenci ve not kayıtlarını CSV dosyalarından toplu olarak sisteme aktaran sınıftır.
+ * <p>
+ * Dosya satır satır akış (stream) halinde okunur ve sabit boyutlu parçalara bölünür. Her parça
+ * bir iş parçacığı havuzunda paralel olarak ayrıştırılır ve satır bazında doğrulanır (alan sayısı,
+ * 9 haneli öğrenci numarası, pozitif AKTS, 0-100 arası puan, tarih formatı vb.). Doğrulanan parçalar
+ * ardından dosyadaki sıralarıyla, tek iş parçacığından servislere uygulanır; benzersizlik ve
+ * varlık kontrolleri (aynı kodlu ders, kayıtlı bölüm, mükerrer not vb.) bu aşamada yapılır. Not
+ * parçaları derslere göre gruplanıp her ders için tek bir {@link GpaService#notEkleToplu} çağrısıyla uygulanır.
+ * Bellekte aynı anda yalnızca sınırlı sayıda parça tutulur.
+ * </p>
+ * <p>
+ * Her dosyanın ilk satırı başlık kabul edilir ve atlanır; boş satırlar yok sayılır. Beklenen sütunlar:
+ * </p>
+ * <ul>
+ *     <li>Bölüm: ad, webSayfasi, kurulusTarihi (gg.aa.yyyy)</li>
+ *     <li>Ders: ad, kod, akts</li>
+ *     <li>Öğrenci: isim, soyisim, ogrenciNo, dogumTarihi (gg.aa.yyyy), bolumAdi</li>
+ *     <li>Not: ogrenciNo, dersKodu, puan (0-100)</li>
+ * </ul>
+ */
+public class TopluAktarici {
+
+    /** Paralel ayrıştırılan her parçadaki satır sayısı. */
+    private static final int PARCA_BOYUTU = 4096;
+
+    private final BolumService bolumService;
+    private final DersService dersService;
+    private final OgrenciService ogrenciService;
+    private final GpaService gpaService;
+    private final int paralellik;
+
+    /**
+     * Kullanılabilir işlemci sayısı kadar iş parçacığıyla ayrıştırma yapan bir aktarıcı oluşturur.
+     */
+    public TopluAktarici(BolumService bolumService, DersService dersService,
+                         OgrenciService ogrenciService, GpaService gpaService) {
+        this(bolumService, dersService, ogrenciService, gpaService, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Belirtilen sayıda iş parçacığıyla ayrıştırma yapan bir aktarıcı oluşturur.
+     *
+     * @param paralellik Ayrıştırma ve doğrulamada kullanılacak iş parçacığı sayısı.
+     */
+    public TopluAktarici(BolumService bolumService, DersService dersService,
+                         OgrenciService ogrenciService, GpaService gpaService, int paralellik) {
+        this.bolumService = bolumService;
+        this.dersService = dersService;
+        this.ogrenciService = ogrenciService;
+        this.gpaService = gpaService;
+        this.paralellik = Math.max(1, paralellik);
+    }
+
+    /**
+     * Bölüm kayıtlarını aktarır.
+     *
+     * @param dosya Aktarılacak CSV dosyası.
+     * @return Aktarım raporu.
+     * @throws IOException Dosya okunamazsa.
+     */
+    public AktarimRaporu bolumleriAktar(Path dosya) throws IOException {
+        return aktar(dosya, 3, alanlar -> {
+            String ad = metinDogrula(alanlar[0], "Bölüm adı");
+            uzunlukDogrula(alanlar[1], "Web sayfası");
+            LocalDate tarih = tarihDogrula(alanlar[2], "Kuruluş tarihi");
+            return new Bolum(ad, alanlar[1], tarih);
+        }, satirSatir(bolum -> {
+            if (bolumService.bolumVarMi(bolum.getAd())) {
+                return "Bu isimde bir bölüm zaten mevcut";
+            }
+            return bolumService.bolumEkle(bolum) ? null : "Bölüm eklenemedi";
+        }));
+    }
+
+    /**
+     * Ders kayıtlarını aktarır.
+     *
+     * @param dosya Aktarılacak CSV dosyası.
+     * @return Aktarım raporu.
+     * @throws IOException Dosya okunamazsa.
+     */
+    public AktarimRaporu dersleriAktar(Path dosya) throws IOException {
+        return aktar(dosya, 3, alanlar -> {
+            String ad = metinDogrula(alanlar[0], "Ders adı");
+            if (alanlar[1].isEmpty()) {
+                throw new SatirHatasi("Ders kodu boş olamaz");
+            }
+            uzunlukDogrula(alanlar[1], "Ders kodu");
+            int akts = sayiDogrula(alanlar[2], "AKTS");
+            if (akts <= 0) {
+                throw new SatirHatasi("AKTS değeri 0'dan büyük olmalıdır");
+            }
+            return new Ders(ad, alanlar[1], akts);
+        }, satirSatir(ders -> {
+            if (dersService.dersVarMi(ders.getKod())) {
+                return "Bu kodla bir ders zaten mevcut";
+            }
+            return dersService.dersEkle(ders) ? null : "Ders eklenemedi";
+        }));
+    }
+
+    /**
+     * Öğrenci kayıtlarını aktarır. Öğrencinin bölümü sistemde kayıtlı olmalıdır.
+     *
+     * @param dosya Aktarılacak CSV dosyası.
+     * @return Aktarım raporu.
+     * @throws IOException Dosya okunamazsa.
+     */
+    public AktarimRaporu ogrencileriAktar(Path dosya) throws IOException {
+        return aktar(dosya, 5, alanlar -> {
+            String isim = metinDogrula(alanlar[0], "İsim");
+            String soyisim = metinDogrula(alanlar[1], "Soyisim");
+            int no = ogrenciNoDogrula(alanlar[2]);
+            LocalDate tarih = tarihDogrula(alanlar[3], "Doğum tarihi");
+            if (alanlar[4].isEmpty()) {
+                throw new SatirHatasi("Bölüm adı boş olamaz");
+            }
+            return new OgrenciSatiri(isim, soyisim, no, tarih, alanlar[4]);
+        }, satirSatir(satir -> {
+            if (ogrenciService.ogrenciVarMi(satir.no)) {
+                return "Bu öğrenci numarası sistemde zaten kayıtlı";
+            }
+            Bolum bolum = bolumService.bolumAra(satir.bolumAdi);
+            if (bolum == null) {
+                return "Bölüm bulunamadı: " + satir.bolumAdi;
+            }
+            Ogrenci ogrenci = new Ogrenci(satir.isim, satir.soyisim, satir.no, satir.dogumTarihi, bolum);
+            return ogrenciService.ogrenciEkle(ogrenci) ? null : "Öğrenci eklenemedi";
+        }));
+    }
+
+    /**
+     * Not kayıtlarını aktarır. Öğrenci ve ders sistemde kayıtlı olmalıdır.
+     * <p>
+     * Her parçanın satırları derslere göre gruplanır ve her ders {@link GpaService#notEkleToplu} ile tek
+     * seferde işlenir; puanlar orada harf notuna çevrilir. Aynı parçada aynı öğrencinin aynı derse ait
+     * birden fazla satırı varsa yalnızca ilki eklenir.
+     * </p>
+     *
+     * @param dosya Aktarılacak CSV dosyası.
+     * @return Aktarım raporu.
+     * @throws IOException Dosya okunamazsa.
+     */
+    public AktarimRaporu notlariAktar(Path dosya) throws IOException {
+        return aktar(dosya, 3, alanlar -> {
+            int no = ogrenciNoDogrula(alanlar[0]);
+            if (alanlar[1].isEmpty()) {
+                throw new SatirHatasi("Ders kodu boş olamaz");
+            }
+            int puan = sayiDogrula(alanlar[2], "Puan");
+            if (puan < 0 || puan > 100) {
+                throw new SatirHatasi("Puan 0 ile 100 arasında olmalıdır");
+            }
+            return new NotSatiri(no, alanlar[1], puan);
+        }, this::notParcasiniUygula);
+    }
+
+    /**
+     * Bir not parçasının hatasız satırlarını ders bazında gruplayıp toplu olarak ekler.
+     */
+    private void notParcasiniUygula(Parca<NotSatiri> parca) {
+        Map<String, List<Integer>> dersSatirlari = new LinkedHashMap<>();
+        for (int i = 0; i < parca.adet; i++) {
+            if (parca.hatalar[i] == null) {
+                dersSatirlari.computeIfAbsent(parca.kayit(i).dersKodu, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<String, List<Integer>> grup : dersSatirlari.entrySet()) {
+            List<Integer> satirlar = grup.getValue();
+            Ders ders = dersService.dersAra(grup.getKey());
+            if (ders == null) {
+                for (int i : satirlar) {
+                    parca.hatalar[i] = "Ders bulunamadı: " + grup.getKey();
+                }
+                continue;
+            }
+
+            int[] nolar = new int[satirlar.size()];
+            int[] puanlar = new int[satirlar.size()];
+            for (int j = 0; j < nolar.length; j++) {
+                NotSatiri satir = parca.kayit(satirlar.get(j));
+                nolar[j] = satir.no;
+                puanlar[j] = satir.puan;
+            }
+            TopluNotSonucu[] sonuclar = gpaService.notEkleToplu(ders, nolar, puanlar, ogrenciService::ogrenciAra);
+            for (int j = 0; j < nolar.length; j++) {
+                TopluNotSonucu sonuc = sonuclar[j];
+                if (sonuc == TopluNotSonucu.OGRENCI_BULUNAMADI) {
+                    parca.hatalar[satirlar.get(j)] = "Öğrenci bulunamadı: " + nolar[j];
+                } else if (sonuc != TopluNotSonucu.EKLENDI) {
+                    parca.hatalar[satirlar.get(j)] = sonuc.getAciklama();
+                }
+            }
+        }
+    }
+
+    /**
+     * Dosyayı parçalar halinde okuyup paralel olarak ayrıştırır ve sonuçları sırayla uygular.
+     */
+    private <T> AktarimRaporu aktar(Path dosya, int alanSayisi, Ayristirici<T> ayristirici,
+                                    ParcaUygulayici<T> uygulayici) throws IOException {
+        AktarimRaporu rapor = new AktarimRaporu(dosya);
+        ExecutorService havuz = Executors.newFixedThreadPool(paralellik, r -> {
+            Thread t = new Thread(r, "toplu-aktarim");
+            t.setDaemon(true);
+            return t;
+        });
+        ArrayDeque<Future<Parca<T>>> bekleyenler = new ArrayDeque<>();
+
+        try (BufferedReader okuyucu = Files.newBufferedReader(dosya, StandardCharsets.UTF_8)) {
+            String baslik = okuyucu.readLine();
+            if (baslik == null) {
+                return rapor;
+            }
+            char ayirici = CsvAyristirici.ayiriciBul(baslik);
+
+            Parca<T> parca = new Parca<>();
+            long satirNo = 1;
+            String satir;
+            while ((satir = okuyucu.readLine()) != null) {
+                satirNo++;
+                if (satir.isBlank()) {
+                    continue;
+                }
+                parca.ekle(satirNo, satir);
+                if (parca.adet == PARCA_BOYUTU) {
+                    bekleyenler.add(gonder(havuz, parca, ayirici, alanSayisi, ayristirici));
+                    parca = new Parca<>();
+                    // Okuma, uygulamanın çok önüne geçip belleği doldurmasın.
+                    while (bekleyenler.size() > paralellik * 2) {
+                        uygula(bekleyenler.poll().get(), uygulayici, rapor);
+                    }
+                }
+            }
+            if (parca.adet > 0) {
+                bekleyenler.add(gonder(havuz, parca, ayirici, alanSayisi, ayristirici));
+            }
+            while (!bekleyenler.isEmpty()) {
+                uygula(bekleyenler.poll().get(), uygulayici, rapor);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Aktarım kesildi.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Aktarım sırasında beklenmeyen bir hata oluştu.", e.getCause());
+        } finally {
+            havuz.shutdownNow();
+        }
+        return rapor;
+    }
+
+    private static <T> Future<Parca<T>> gonder(ExecutorService havuz, Parca<T> parca, char ayirici,
+                                               int alanSayisi, Ayristirici<T> ayristirici) {
+        return havuz.submit(() -> {
+            parca.ayristir(ayirici, alanSayisi, ayristirici);
+            return parca;
+        });
+    }
+
+    private static <T> void uygula(Parca<T> parca, ParcaUygulayici<T> uygulayici, AktarimRaporu rapor) {
+        uygulayici.uygula(parca);
+        for (int i = 0; i < parca.adet; i++) {
+            String hata = parca.hatalar[i];
+            if (hata == null) {
+                rapor.eklendi();
+            } else {
+                rapor.reddedildi(parca.satirNolari[i], parca.satirlar[i], hata);
+            }
+        }
+    }
+
+    private static String metinDogrula(String deger, String alanAdi) throws SatirHatasi {
+        if (!DogrulamaUtil.metinGecerliMi(deger)) {
+            throw new SatirHatasi(alanAdi + " sadece harf içermeli ve en az 2 karakter olmalıdır");
+        }
+        return deger;
+    }
+
+    private static void uzunlukDogrula(String deger, String alanAdi) throws SatirHatasi {
+        if (!DogrulamaUtil.uzunlukGecerliMi(deger)) {
+            throw new SatirHatasi(alanAdi + " en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir");
+        }
+    }
+
+    private static int sayiDogrula(String deger, String alanAdi) throws SatirHatasi {
+        try {
+            return Integer.parseInt(deger);
+        } catch (NumberFormatException e) {
+            throw new SatirHatasi(alanAdi + " geçerli bir tam sayı değil");
+        }
+    }
+
+    private static int ogrenciNoDogrula(String deger) throws SatirHatasi {
+        if (deger.length() != 9 || deger.charAt(0) == '0') {
+            throw new SatirHatasi("Öğrenci numarası 9 haneli olmalıdır");
+        }
+        for (int i = 0; i < 9; i++) {
+            char c = deger.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new SatirHatasi("Öğrenci numarası 9 haneli olmalıdır");
+            }
+        }
+        return Integer.parseInt(deger);
+    }
+
+    private static LocalDate tarihDogrula(String deger, String alanAdi) throws SatirHatasi {
+        LocalDate tarih = DateUtil.parseDate(deger);
+        if (tarih == null) {
+            throw new SatirHatasi(alanAdi + " formatı hatalı (gg.aa.yyyy)");
+        }
+        if (!DateUtil.isMantikliTarih(tarih)) {
+            throw new SatirHatasi(alanAdi + " gelecekte veya 01.01.1900'den önce olamaz");
+        }
+        return tarih;
+    }
+
+    /**
+     * Bir satırın alanlarını doğrulayıp kayda dönüştüren işlem; birden çok iş parçacığından çağrılır.
+     */
+    @FunctionalInterface
+    private interface Ayristirici<T> {
+        T ayristir(String[] alanlar) throws SatirHatasi;
+    }
+
+    /**
+     * Ayrıştırılmış bir kaydı servislere uygulayan işlem; başarılıysa null, değilse red sebebini döndürür.
+     */
+    @FunctionalInterface
+    private interface Uygulayici<T> {
+        String uygula(T kayit);
+    }
+
+    /**
+     * Bir parçanın hatasız satırlarını servislere uygulayan işlem; reddedilen satırların sebebini
+     * {@link Parca#hatalar} dizisine yazar.
+     */
+    @FunctionalInterface
+    private interface ParcaUygulayici<T> {
+        void uygula(Parca<T> parca);
+    }
+
+    /**
+     * Kayıtları dosyadaki sırasıyla tek tek uygulayan parça uygulayıcısı oluşturur.
+     */
+    private static <T> ParcaUygulayici<T> satirSatir(Uygulayici<T> uygulayici) {
+        return parca -> {
+            for (int i = 0; i < parca.adet; i++) {
+                if (parca.hatalar[i] == null) {
+                    parca.hatalar[i] = uygulayici.uygula(parca.kayit(i));
+                }
+            }
+        };
+    }
+
+    /**
+     * Satır doğrulama hatası. Yalnızca red sebebini taşıdığından yığın izi (stack trace) oluşturulmaz.
+     */
+    private static class SatirHatasi extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        SatirHatasi(String sebep) {
+            super(sebep, null, false, false);
+        }
+    }
+
+    /**
+     * Birlikte ayrıştırılan ardışık satırlar ve ayrıştırma sonuçları.
+     */
+    private static class Parca<T> {
+        private final long[] satirNolari = new long[PARCA_BOYUTU];
+        private final String[] satirlar = new String[PARCA_BOYUTU];
+        private final Object[] kayitlar = new Object[PARCA_BOYUTU];
+        private final String[] hatalar = new String[PARCA_BOYUTU];
+        private int adet;
+
+        void ekle(long satirNo, String satir) {
+            satirNolari[adet] = satirNo;
+            satirlar[adet] = satir;
+            adet++;
+        }
+
+        void ayristir(char ayirici, int alanSayisi, Ayristirici<T> ayristirici) {
+            for (int i = 0; i < adet; i++) {
+                String[] alanlar = CsvAyristirici.ayir(satirlar[i], ayirici);
+                if (alanlar == null) {
+                    hatalar[i] = "Kapanmamış tırnak işareti";
+                } else if (alanlar.length != alanSayisi) {
+                    hatalar[i] = alanSayisi + " alan bekleniyordu, " + alanlar.length + " alan bulundu";
+                } else {
+                    try {
+                        kayitlar[i] = ayristirici.ayristir(alanlar);
+                    } catch (SatirHatasi e) {
+                        hatalar[i] = e.getMessage();
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T kayit(int i) {
+            return (T) kayitlar[i];
+        }
+    }
+
+    /** Bölümü henüz çözümlenmemiş öğrenci satırı. */
+    private static class OgrenciSatiri {
+        private final String isim;
+        private final String soyisim;
+        private final int no;
+        private final LocalDate dogumTarihi;
+        private final String bolumAdi;
+
+        OgrenciSatiri(String isim, String soyisim, int no, LocalDate dogumTarihi, String bolumAdi) {
+            this.isim = isim;
+            this.soyisim = soyisim;
+            this.no = no;
+            this.dogumTarihi = dogumTarihi;
+            this.bolumAdi = bolumAdi;
+        }
+    }
+
+    /** Öğrenci ve dersi henüz çözümlenmemiş not satırı. */
+    private static class NotSatiri {
+        private final int no;
+        private final String dersKodu;
+        private final int puan;
+
+        NotSatiri(int no, String dersKodu, int puan) {
+            this.no = no;
+            this.dersKodu = dersKodu;
+            this.puan = puan;
+        }
+    }
+}
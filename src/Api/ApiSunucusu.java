@@ -0,0 +1,833 @@
+package Api;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.NotDagilimi;
+import Service.OgrenciService;
+import Service.OgrenciSorgusu;
+import Service.SilmeSonucu;
+import Service.SorguPlani;
+import Service.SorguService;
+import Service.TopluNotSonucu;
+import Util.DateUtil;
+import Util.DogrulamaUtil;
+import Util.Sayfa;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Servis katmanını JSON tabanlı bir HTTP API olarak sunan gömülü sunucudur.
+ * <p>
+ * JDK'nın {@code com.sun.net.httpserver} sunucusu kullanılır ve her istek kendi sanal iş parçacığında
+ * (virtual thread) işlenir; böylece binlerce eş zamanlı istek az sayıda platform iş parçacığıyla karşılanır.
+ * Servisler eş zamanlı kullanıma uygun olduğundan API, konsol menüleriyle aynı anda çalışabilir.
+ * </p>
+ * <p>
+ * Uç noktalar (tüm gövdeler JSON'dur; tarihler "gg.aa.yyyy" biçimindedir):
+ * </p>
+ * <ul>
+ *     <li>{@code GET/POST /api/bolumler}, {@code GET/DELETE /api/bolumler/{ad}}, {@code GET /api/bolumler/{ad}/ogrenciler}</li>
+ *     <li>{@code GET/POST /api/dersler}, {@code GET/DELETE /api/dersler/{kod}}, {@code GET /api/dersler/{kod}/ogrenciler},
+ *     {@code POST /api/dersler/{kod}/notlar} (toplu not çizelgesi), {@code GET /api/dersler/{kod}/dagilim}</li>
+ *     <li>{@code GET/POST /api/ogrenciler}, {@code GET/PUT/DELETE /api/ogrenciler/{no}}</li>
+ *     <li>{@code POST /api/ogrenciler/sorgu} (bolum, dogumTarihiBas, dogumTarihiSon, gpaEnAz, gpaEnCok ölçütleriyle sorgu)</li>
+ *     <li>{@code GET /api/ogrenciler/ara/{metin}} (isim/soyisim ile önek ve yazım hatası toleranslı arama, en fazla 50 sonuç)</li>
+ *     <li>{@code GET/POST /api/ogrenciler/{no}/notlar}, {@code GET/PUT /api/ogrenciler/{no}/notlar/{dersKodu}},
+ *     {@code GET /api/ogrenciler/{no}/gpa}</li>
+ * </ul>
+ * <p>
+ * {@code GET /api/bolumler}, {@code GET /api/dersler} ve {@code GET /api/ogrenciler} her zaman sayfalıdır: sırasıyla
+ * ad, ders kodu ve öğrenci numarasına göre sıralı tek bir sayfa {@code {"ogeler", "toplam", "baslangic",
+ * "oncekiImlec", "sonrakiImlec"}} nesnesi olarak döner. Sayfa boyutu {@code ?boyut=} ile en fazla
+ * {@link Sayfa#EN_BUYUK_BOYUT} olarak seçilir (varsayılan {@link Sayfa#VARSAYILAN_BOYUT}); komşu sayfalar
+ * yanıttaki imleçlerle ({@code ?imlec=...}) istenir (bkz. {@link Sayfa}). Böylece tek bir isteğin bellek
+ * kullanımı ve yanıt boyutu kayıt sayısından bağımsız kalır.
+ * </p>
+ * <p>
+ * Hatalı istekler {@code {"hata": "..."}} gövdesiyle 400 (geçersiz veri), 404 (bulunamadı),
+ * 405 (desteklenmeyen metod) veya 409 (çakışma; örn. öğrencisi olan bölümün ya da notu olan dersin silinmesi)
+ * durum koduyla yanıtlanır.
+ * </p>
+ * <p>
+ * Sunucu varsayılan olarak yalnızca loopback adresini dinler; başka makinelerden erişim için adres
+ * açıkça verilmelidir.
+ * </p>
+ */
+public class ApiSunucusu implements Closeable {
+
+    /** Kabul edilen en büyük istek gövdesi. */
+    private static final int AZAMI_GOVDE = 1024 * 1024;
+    /** İsim aramasında döndürülecek en fazla öğrenci sayısı. */
+    private static final int ISIM_ARAMA_SINIRI = 50;
+
+    private final BolumService bolumService;
+    private final DersService dersService;
+    private final OgrenciService ogrenciService;
+    private final GpaService gpaService;
+    private final SorguService sorguService;
+
+    private final HttpServer sunucu;
+    private final ExecutorService yurutucu;
+
+    /**
+     * Verilen portu yalnızca yerel makineden (loopback) gelen bağlantılar için dinleyen bir API sunucusu oluşturur;
+     * sunucu {@link #baslat()} çağrılana kadar istek kabul etmez.
+     *
+     * @param port Dinlenecek TCP portu; 0 verilirse boş bir port seçilir.
+     * @throws IOException Port açılamazsa.
+     */
+    public ApiSunucusu(int port, BolumService bolumService, DersService dersService,
+                       OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        this(InetAddress.getLoopbackAddress(), port, bolumService, dersService, ogrenciService, gpaService);
+    }
+
+    /**
+     * Verilen adres ve portu dinleyen bir API sunucusu oluşturur; sunucu {@link #baslat()} çağrılana kadar istek kabul etmez.
+     * <p>
+     * API kimlik doğrulaması yapmaz; loopback dışındaki bir adres (örn. tüm arayüzler için {@code 0.0.0.0})
+     * yalnızca ağa açılması bilinçli olarak istendiğinde verilmelidir.
+     * </p>
+     *
+     * @param adres Dinlenecek yerel adres.
+     * @param port  Dinlenecek TCP portu; 0 verilirse boş bir port seçilir.
+     * @throws IOException Port açılamazsa.
+     */
+    public ApiSunucusu(InetAddress adres, int port, BolumService bolumService, DersService dersService,
+                       OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        this.bolumService = bolumService;
+        this.dersService = dersService;
+        this.ogrenciService = ogrenciService;
+        this.gpaService = gpaService;
+        this.sorguService = new SorguService(ogrenciService, gpaService);
+
+        this.sunucu = HttpServer.create(new InetSocketAddress(adres, port), 1024);
+        this.yurutucu = Executors.newVirtualThreadPerTaskExecutor();
+        sunucu.setExecutor(yurutucu);
+        sunucu.createContext("/api/bolumler", istek -> isle(istek, this::bolumler));
+        sunucu.createContext("/api/dersler", istek -> isle(istek, this::dersler));
+        sunucu.createContext("/api/ogrenciler", istek -> isle(istek, this::ogrenciler));
+    }
+
+    /**
+     * Sunucuyu başlatır.
+     */
+    public void baslat() {
+        sunucu.start();
+    }
+
+    /**
+     * Sunucunun dinlediği portu döndürür.
+     *
+     * @return Port numarası.
+     */
+    public int getPort() {
+        return sunucu.getAddress().getPort();
+    }
+
+    /**
+     * Yeni istek kabulünü durdurur, süren isteklerin bitmesini en fazla bir saniye bekler ve sunucuyu kapatır.
+     */
+    @Override
+    public void close() {
+        sunucu.stop(1);
+        yurutucu.close();
+    }
+
+    // ---------------------------------------------------------------- Bölümler
+
+    private Yanit bolumler(String metod, String[] yol, Map<String, Object> govde) {
+        if (yol.length == 0) {
+            if (metod.equals("GET")) {
+                return sayfaYaniti(bolumService.bolumSayfasi(imlec(govde), sayfaBoyutu(govde)), ApiSunucusu::bolumJson);
+            }
+            if (metod.equals("POST")) {
+                String ad = metin(govde, "ad", true);
+                if (!DogrulamaUtil.metinGecerliMi(ad)) {
+                    throw new ApiHatasi(400, "Bölüm adı sadece harf içermeli ve en az 2 karakter olmalıdır.");
+                }
+                Bolum bolum = new Bolum(ad, metin(govde, "webSayfasi", false), tarih(govde, "kurulusTarihi"));
+                if (!bolumService.bolumEkle(bolum)) {
+                    throw new ApiHatasi(409, "Bu isimde bir bölüm zaten mevcut.");
+                }
+                return new Yanit(201, bolumJson(bolum));
+            }
+            throw metodDesteklenmiyor();
+        }
+
+        if (yol.length == 1) {
+            if (metod.equals("GET")) {
+                return Yanit.tamam(bolumJson(bolumBul(yol[0])));
+            }
+            if (metod.equals("DELETE")) {
+                Bolum bolum = bolumBul(yol[0]);
+                SilmeSonucu sonuc = bolumService.bosBolumuSil(bolum.getAd(), ogrenciService);
+                if (sonuc == SilmeSonucu.KULLANIMDA) {
+                    throw new ApiHatasi(409, "Bu bölüme kayıtlı öğrenciler var.");
+                }
+                if (sonuc == SilmeSonucu.BULUNAMADI) {
+                    throw new ApiHatasi(404, "Bölüm bulunamadı.");
+                }
+                return Yanit.bos();
+            }
+            throw metodDesteklenmiyor();
+        }
+
+        if (yol.length == 2 && yol[1].equals("ogrenciler")) {
+            if (!metod.equals("GET")) {
+                throw metodDesteklenmiyor();
+            }
+            List<Object> liste = new ArrayList<>();
+            for (Ogrenci ogrenci : ogrenciService.bolumOgrencileri(bolumBul(yol[0]).getAd())) {
+                liste.add(ogrenciJson(ogrenci));
+            }
+            return Yanit.tamam(liste);
+        }
+
+        throw new ApiHatasi(404, "Kaynak bulunamadı.");
+    }
+
+    // ---------------------------------------------------------------- Dersler
+
+    private Yanit dersler(String metod, String[] yol, Map<String, Object> govde) {
+        if (yol.length == 0) {
+            if (metod.equals("GET")) {
+                return sayfaYaniti(dersService.dersSayfasi(imlec(govde), sayfaBoyutu(govde)), ApiSunucusu::dersJson);
+            }
+            if (metod.equals("POST")) {
+                String ad = metin(govde, "ad", true);
+                if (!DogrulamaUtil.metinGecerliMi(ad)) {
+                    throw new ApiHatasi(400, "Ders adı sadece harf içermeli ve en az 2 karakter olmalıdır.");
+                }
+                String kod = metin(govde, "kod", true);
+                long akts = sayi(govde, "akts");
+                if (akts <= 0 || akts > Integer.MAX_VALUE) {
+                    throw new ApiHatasi(400, "AKTS değeri 0'dan büyük olmalıdır.");
+                }
+                Ders ders = new Ders(ad, kod, (int) akts);
+                if (!dersService.dersEkle(ders)) {
+                    throw new ApiHatasi(409, "Bu kodla bir ders zaten mevcut.");
+                }
+                return new Yanit(201, dersJson(ders));
+            }
+            throw metodDesteklenmiyor();
+        }
+
+        Ders ders = dersBul(yol[0]);
+
+        if (yol.length == 1) {
+            if (metod.equals("GET")) {
+                return Yanit.tamam(dersJson(ders));
+            }
+            if (metod.equals("DELETE")) {
+                SilmeSonucu sonuc = dersService.notuOlmayanDersiSil(ders.getKod(), gpaService);
+                if (sonuc == SilmeSonucu.KULLANIMDA) {
+                    throw new ApiHatasi(409, "Bu derse ait notlar var.");
+                }
+                if (sonuc == SilmeSonucu.BULUNAMADI) {
+                    throw new ApiHatasi(404, "Ders bulunamadı.");
+                }
+                return Yanit.bos();
+            }
+            throw metodDesteklenmiyor();
+        }
+
+        if (yol.length == 2 && yol[1].equals("ogrenciler")) {
+            if (!metod.equals("GET")) {
+                throw metodDesteklenmiyor();
+            }
+            List<Object> liste = new ArrayList<>();
+            for (Ogrenci ogrenci : gpaService.dersiAlanOgrenciler(ders)) {
+                liste.add(ogrenciJson(ogrenci));
+            }
+            return Yanit.tamam(liste);
+        }
+
+        if (yol.length == 2 && yol[1].equals("dagilim")) {
+            if (!metod.equals("GET")) {
+                throw metodDesteklenmiyor();
+            }
+            NotDagilimi dagilim = gpaService.notDagilimi(ders);
+            Map<String, Object> adetler = new LinkedHashMap<>();
+            for (byte kod = HarfNotu.AA; kod < HarfNotu.ADET; kod++) {
+                adetler.put(HarfNotu.metin(kod), dagilim.adet(kod));
+            }
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("dersKodu", ders.getKod());
+            json.put("dagilim", adetler);
+            json.put("gecen", dagilim.gecen());
+            json.put("kalan", dagilim.kalan());
+            json.put("toplam", dagilim.toplam());
+            return Yanit.tamam(json);
+        }
+
+        if (yol.length == 2 && yol[1].equals("notlar")) {
+            if (!metod.equals("POST")) {
+                throw metodDesteklenmiyor();
+            }
+            return notCizelgesiEkle(ders, govde);
+        }
+
+        throw new ApiHatasi(404, "Kaynak bulunamadı.");
+    }
+
+    /**
+     * {@code {"notlar": [{"ogrenciNo": ..., "puan": ...}, ...]}} gövdesindeki not çizelgesini tek seferde ekler
+     * ve her satırın sonucunu döndürür. Hatalı satırlar isteğin tamamını reddetmez; yalnızca biçimi bozuk
+     * bir çizelge 400 ile yanıtlanır.
+     */
+    private Yanit notCizelgesiEkle(Ders ders, Map<String, Object> govde) {
+        if (!(govde.get("notlar") instanceof List<?> satirlar)) {
+            throw new ApiHatasi(400, "'notlar' alanı dizi olmalıdır.");
+        }
+        int[] nolar = new int[satirlar.size()];
+        int[] puanlar = new int[satirlar.size()];
+        for (int i = 0; i < satirlar.size(); i++) {
+            if (!(satirlar.get(i) instanceof Map<?, ?> satir)) {
+                throw new ApiHatasi(400, "'notlar' dizisinin " + (i + 1) + ". elemanı nesne olmalıdır.");
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> alanlar = (Map<String, Object>) satir;
+            long no = sayi(alanlar, "ogrenciNo");
+            long puan = sayi(alanlar, "puan");
+            // Aralık dışı değerler servisin satır sonucuna bırakılır; int'e sığmayanlar yine aralık dışı kalacak şekilde kırpılır.
+            nolar[i] = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, no));
+            puanlar[i] = (int) Math.max(-1, Math.min(101, puan));
+        }
+
+        TopluNotSonucu[] sonuclar = gpaService.notEkleToplu(ders, nolar, puanlar, ogrenciService::ogrenciAra);
+        List<Object> liste = new ArrayList<>(sonuclar.length);
+        int eklenen = 0;
+        for (int i = 0; i < sonuclar.length; i++) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("ogrenciNo", nolar[i]);
+            json.put("sonuc", sonuclar[i].name());
+            if (sonuclar[i] == TopluNotSonucu.EKLENDI) {
+                eklenen++;
+            } else {
+                json.put("aciklama", sonuclar[i].getAciklama());
+            }
+            liste.add(json);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("dersKodu", ders.getKod());
+        json.put("eklenen", eklenen);
+        json.put("reddedilen", sonuclar.length - eklenen);
+        json.put("sonuclar", liste);
+        return Yanit.tamam(json);
+    }
+
+    // ---------------------------------------------------------------- Öğrenciler ve notlar
+
+    private Yanit ogrenciler(String metod, String[] yol, Map<String, Object> govde) {
+        if (yol.length == 0) {
+            if (metod.equals("GET")) {
+                return sayfaYaniti(ogrenciService.ogrenciSayfasi(imlec(govde), sayfaBoyutu(govde)), ApiSunucusu::ogrenciJson);
+            }
+            if (metod.equals("POST")) {
+                return ogrenciEkle(govde);
+            }
+            throw metodDesteklenmiyor();
+        }
+
+        if (yol.length == 1 && yol[0].equals("sorgu")) {
+            if (!metod.equals("POST")) {
+                throw metodDesteklenmiyor();
+            }
+            return ogrenciSorgula(govde);
+        }
+
+        if (yol.length == 2 && yol[0].equals("ara")) {
+            if (!metod.equals("GET")) {
+                throw metodDesteklenmiyor();
+            }
+            List<Object> liste = new ArrayList<>();
+            for (Ogrenci ogrenci : ogrenciService.isimAra(yol[1], ISIM_ARAMA_SINIRI)) {
+                liste.add(ogrenciJson(ogrenci));
+            }
+            return Yanit.tamam(liste);
+        }
+
+        Ogrenci ogrenci = ogrenciBul(yol[0]);
+
+        if (yol.length == 1) {
+            switch (metod) {
+                case "GET":
+                    return Yanit.tamam(ogrenciJson(ogrenci));
+                case "PUT": {
+                    String isim = metin(govde, "isim", true);
+                    String soyisim = metin(govde, "soyisim", true);
+                    if (!DogrulamaUtil.metinGecerliMi(isim) || !DogrulamaUtil.metinGecerliMi(soyisim)) {
+                        throw new ApiHatasi(400, "İsim ve soyisim sadece harf içermeli ve en az 2 karakter olmalıdır.");
+                    }
+                    Ogrenci guncel = new Ogrenci(isim, soyisim, ogrenci.getOgrenciNo(),
+                            ogrenci.getDogumTarihi(), ogrenci.getBolum());
+                    if (!ogrenciService.ogrenciGuncelle(guncel)) {
+                        throw new ApiHatasi(404, "Öğrenci bulunamadı.");
+                    }
+                    return Yanit.tamam(ogrenciJson(ogrenci));
+                }
+                case "DELETE":
+                    if (!ogrenciService.ogrenciVeNotlariniSil(ogrenci.getOgrenciNo(), gpaService)) {
+                        throw new ApiHatasi(404, "Öğrenci bulunamadı.");
+                    }
+                    return Yanit.bos();
+                default:
+                    throw metodDesteklenmiyor();
+            }
+        }
+
+        if (yol[1].equals("gpa") && yol.length == 2) {
+            if (!metod.equals("GET")) {
+                throw metodDesteklenmiyor();
+            }
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("ogrenciNo", ogrenci.getOgrenciNo());
+            json.put("gpa", gpaService.gpaHesapla(ogrenci));
+            return Yanit.tamam(json);
+        }
+
+        if (yol[1].equals("notlar")) {
+            if (yol.length == 2) {
+                if (metod.equals("GET")) {
+                    List<Object> liste = new ArrayList<>();
+                    for (Ders ders : gpaService.ogrencininDersleri(ogrenci)) {
+                        String harfNotu = gpaService.harfNotuBul(ogrenci, ders);
+                        if (harfNotu != null) {
+                            liste.add(notJson(ders, harfNotu));
+                        }
+                    }
+                    return Yanit.tamam(liste);
+                }
+                if (metod.equals("POST")) {
+                    Ders ders = dersBul(metin(govde, "dersKodu", true));
+                    String harfNotu = harfNotu(govde);
+                    if (!gpaService.notEkle(ogrenci, ders, harfNotu)) {
+                        throw new ApiHatasi(409, "Bu derse ait not zaten mevcut.");
+                    }
+                    return new Yanit(201, notJson(ders, harfNotu));
+                }
+                throw metodDesteklenmiyor();
+            }
+            if (yol.length == 3) {
+                Ders ders = dersBul(yol[2]);
+                if (metod.equals("GET")) {
+                    String harfNotu = gpaService.harfNotuBul(ogrenci, ders);
+                    if (harfNotu == null) {
+                        throw new ApiHatasi(404, "Not kaydı bulunamadı.");
+                    }
+                    return Yanit.tamam(notJson(ders, harfNotu));
+                }
+                if (metod.equals("PUT")) {
+                    String harfNotu = harfNotu(govde);
+                    if (!gpaService.notGuncelle(ogrenci, ders, harfNotu)) {
+                        throw new ApiHatasi(404, "Not kaydı bulunamadı.");
+                    }
+                    return Yanit.tamam(notJson(ders, harfNotu));
+                }
+                throw metodDesteklenmiyor();
+            }
+        }
+
+        throw new ApiHatasi(404, "Kaynak bulunamadı.");
+    }
+
+    private Yanit ogrenciEkle(Map<String, Object> govde) {
+        String isim = metin(govde, "isim", true);
+        String soyisim = metin(govde, "soyisim", true);
+        if (!DogrulamaUtil.metinGecerliMi(isim) || !DogrulamaUtil.metinGecerliMi(soyisim)) {
+            throw new ApiHatasi(400, "İsim ve soyisim sadece harf içermeli ve en az 2 karakter olmalıdır.");
+        }
+        long no = sayi(govde, "ogrenciNo");
+        if (!DogrulamaUtil.ogrenciNoGecerliMi(no)) {
+            throw new ApiHatasi(400, "Öğrenci numarası 9 haneli olmalıdır.");
+        }
+        LocalDate dogumTarihi = tarih(govde, "dogumTarihi");
+        if (dogumTarihi == null) {
+            throw new ApiHatasi(400, "'dogumTarihi' alanı zorunludur.");
+        }
+        Bolum bolum = bolumService.bolumAra(metin(govde, "bolum", true));
+        if (bolum == null) {
+            throw new ApiHatasi(400, "Bölüm bulunamadı.");
+        }
+
+        Ogrenci ogrenci = new Ogrenci(isim, soyisim, (int) no, dogumTarihi, bolum);
+        if (!ogrenciService.ogrenciEkle(ogrenci)) {
+            throw new ApiHatasi(409, "Bu öğrenci numarası sistemde zaten kayıtlı.");
+        }
+        return new Yanit(201, ogrenciJson(ogrenci));
+    }
+
+    // ---------------------------------------------------------------- Yardımcılar
+
+    private Yanit ogrenciSorgula(Map<String, Object> govde) {
+        OgrenciSorgusu sorgu = new OgrenciSorgusu();
+        sorgu.setBolum(metin(govde, "bolum", false));
+        sorgu.setDogumTarihiAraligi(tarih(govde, "dogumTarihiBas"), tarih(govde, "dogumTarihiSon"));
+        sorgu.setGpaAraligi(ondalik(govde, "gpaEnAz"), ondalik(govde, "gpaEnCok"));
+
+        SorguPlani plan = sorguService.planla(sorgu);
+        List<Object> liste = new ArrayList<>();
+        sorguService.sorgula(sorgu).forEach(ogrenci -> liste.add(ogrenciJson(ogrenci)));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("indeks", plan.getIndeks().name());
+        json.put("adaySayisi", plan.getAdaySayisi());
+        json.put("ogrenciler", liste);
+        return Yanit.tamam(json);
+    }
+
+    /**
+     * İmleci okur. İmleç bir kayıt anahtarının yanında sayfa konumunu da taşıdığından metin alanlarının
+     * uzunluk sınırına tabi değildir; geçersiz imleçler servis tarafından reddedilir.
+     */
+    private static String imlec(Map<String, Object> govde) {
+        Object deger = govde.get("imlec");
+        if (deger != null && !(deger instanceof String)) {
+            throw new ApiHatasi(400, "'imlec' alanı metin olmalıdır.");
+        }
+        return deger != null ? ((String) deger).trim() : null;
+    }
+
+    private static int sayfaBoyutu(Map<String, Object> govde) {
+        Object deger = govde.get("boyut");
+        if (deger == null) {
+            return Sayfa.VARSAYILAN_BOYUT;
+        }
+        try {
+            int boyut = Integer.parseInt(deger.toString().trim());
+            if (boyut >= 1 && boyut <= Sayfa.EN_BUYUK_BOYUT) {
+                return boyut;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new ApiHatasi(400, "'boyut' 1 ile " + Sayfa.EN_BUYUK_BOYUT + " arasında bir tam sayı olmalıdır.");
+    }
+
+    private static <T> Yanit sayfaYaniti(Sayfa<T> sayfa, Function<T, Map<String, Object>> donustur) {
+        if (sayfa == null) {
+            throw new ApiHatasi(400, "Geçersiz imleç.");
+        }
+        List<Object> ogeler = new ArrayList<>();
+        for (T oge : sayfa.getOgeler()) {
+            ogeler.add(donustur.apply(oge));
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("ogeler", ogeler);
+        json.put("toplam", sayfa.getToplam());
+        json.put("baslangic", sayfa.getBaslangic());
+        json.put("oncekiImlec", sayfa.getOncekiImlec());
+        json.put("sonrakiImlec", sayfa.getSonrakiImlec());
+        return Yanit.tamam(json);
+    }
+
+    private Bolum bolumBul(String ad) {
+        Bolum bolum = bolumService.bolumAra(ad);
+        if (bolum == null) {
+            throw new ApiHatasi(404, "Bölüm bulunamadı.");
+        }
+        return bolum;
+    }
+
+    private Ders dersBul(String kod) {
+        Ders ders = dersService.dersAra(kod);
+        if (ders == null) {
+            throw new ApiHatasi(404, "Ders bulunamadı.");
+        }
+        return ders;
+    }
+
+    private Ogrenci ogrenciBul(String no) {
+        Ogrenci ogrenci;
+        try {
+            ogrenci = ogrenciService.ogrenciAra(Integer.parseInt(no));
+        } catch (NumberFormatException e) {
+            ogrenci = null;
+        }
+        if (ogrenci == null) {
+            throw new ApiHatasi(404, "Öğrenci bulunamadı.");
+        }
+        return ogrenci;
+    }
+
+    /**
+     * Gövdedeki "puan" (0-100) veya "harfNotu" alanından harf notunu belirler.
+     */
+    private String harfNotu(Map<String, Object> govde) {
+        if (govde.get("puan") != null) {
+            long puan = sayi(govde, "puan");
+            if (puan < 0 || puan > 100) {
+                throw new ApiHatasi(400, "Puan 0 ile 100 arasında olmalıdır.");
+            }
+            return gpaService.puaniHarfeCevir((int) puan);
+        }
+        byte kod = HarfNotu.kodla(metin(govde, "harfNotu", true));
+        if (kod == HarfNotu.GECERSIZ) {
+            throw new ApiHatasi(400, "Geçersiz harf notu.");
+        }
+        return HarfNotu.metin(kod);
+    }
+
+    private static String metin(Map<String, Object> govde, String alan, boolean zorunlu) {
+        Object deger = govde.get(alan);
+        if (deger == null) {
+            if (zorunlu) {
+                throw new ApiHatasi(400, "'" + alan + "' alanı zorunludur.");
+            }
+            return null;
+        }
+        if (!(deger instanceof String s)) {
+            throw new ApiHatasi(400, "'" + alan + "' alanı metin olmalıdır.");
+        }
+        String kirpilmis = s.trim();
+        if (zorunlu && kirpilmis.isEmpty()) {
+            throw new ApiHatasi(400, "'" + alan + "' alanı boş olamaz.");
+        }
+        if (!DogrulamaUtil.uzunlukGecerliMi(kirpilmis)) {
+            throw new ApiHatasi(400, "'" + alan + "' alanı en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir.");
+        }
+        return kirpilmis;
+    }
+
+    private static long sayi(Map<String, Object> govde, String alan) {
+        Object deger = govde.get(alan);
+        if (deger instanceof Long l) {
+            return l;
+        }
+        if (deger == null) {
+            throw new ApiHatasi(400, "'" + alan + "' alanı zorunludur.");
+        }
+        throw new ApiHatasi(400, "'" + alan + "' alanı tam sayı olmalıdır.");
+    }
+
+    private static Double ondalik(Map<String, Object> govde, String alan) {
+        Object deger = govde.get(alan);
+        if (deger == null) {
+            return null;
+        }
+        if (deger instanceof Long l) {
+            return l.doubleValue();
+        }
+        if (deger instanceof Double d) {
+            return d;
+        }
+        throw new ApiHatasi(400, "'" + alan + "' alanı sayı olmalıdır.");
+    }
+
+    private static LocalDate tarih(Map<String, Object> govde, String alan) {
+        String metin = metin(govde, alan, false);
+        if (metin == null) {
+            return null;
+        }
+        LocalDate tarih = DateUtil.parseDate(metin);
+        if (tarih == null) {
+            throw new ApiHatasi(400, "'" + alan + "' formatı hatalı (gg.aa.yyyy).");
+        }
+        if (!DateUtil.isMantikliTarih(tarih)) {
+            throw new ApiHatasi(400, "'" + alan + "' gelecekte veya 01.01.1900'den önce olamaz.");
+        }
+        return tarih;
+    }
+
+    private static Map<String, Object> bolumJson(Bolum bolum) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("ad", bolum.getAd());
+        json.put("webSayfasi", bolum.getWebSayfasi());
+        json.put("kurulusTarihi", bolum.getKurulusTarihi() != null ? DateUtil.formatDate(bolum.getKurulusTarihi()) : null);
+        return json;
+    }
+
+    private static Map<String, Object> dersJson(Ders ders) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("ad", ders.getAd());
+        json.put("kod", ders.getKod());
+        json.put("akts", ders.getAkts());
+        return json;
+    }
+
+    private static Map<String, Object> ogrenciJson(Ogrenci ogrenci) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("ogrenciNo", ogrenci.getOgrenciNo());
+        json.put("isim", ogrenci.getIsim());
+        json.put("soyisim", ogrenci.getSoyisim());
+        json.put("dogumTarihi", ogrenci.getDogumTarihi() != null ? DateUtil.formatDate(ogrenci.getDogumTarihi()) : null);
+        json.put("bolum", ogrenci.getBolum() != null ? ogrenci.getBolum().getAd() : null);
+        return json;
+    }
+
+    private static Map<String, Object> notJson(Ders ders, String harfNotu) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("dersKodu", ders.getKod());
+        json.put("dersAdi", ders.getAd());
+        json.put("akts", ders.getAkts());
+        json.put("harfNotu", harfNotu);
+        return json;
+    }
+
+    private static ApiHatasi metodDesteklenmiyor() {
+        return new ApiHatasi(405, "Bu kaynak için metod desteklenmiyor.");
+    }
+
+    // ---------------------------------------------------------------- İstek işleme
+
+    /**
+     * Bir kaynak altındaki isteği yorumlayan işlem.
+     */
+    @FunctionalInterface
+    private interface Kaynak {
+        /**
+         * @param metod HTTP metodu.
+         * @param yol   Kaynak kökünden sonraki yol parçaları.
+         * @param govde JSON gövdesi; gövdesiz isteklerde boş nesne.
+         */
+        Yanit isle(String metod, String[] yol, Map<String, Object> govde);
+    }
+
+    /**
+     * İsteğin yolunu ve gövdesini çözümler, kaynağa iletir ve yanıtı JSON olarak yazar.
+     */
+    private static void isle(HttpExchange istek, Kaynak kaynak) throws IOException {
+        Yanit yanit;
+        try {
+            String kok = istek.getHttpContext().getPath();
+            String kalan = istek.getRequestURI().getPath().substring(kok.length());
+            if (!kalan.isEmpty() && !kalan.startsWith("/")) {
+                throw new ApiHatasi(404, "Kaynak bulunamadı.");
+            }
+            String[] yol = parcala(kalan);
+            String metod = istek.getRequestMethod().toUpperCase();
+            // GET isteklerinin gövdesi olmaz; sorgu parametreleri gövde alanları gibi okunur.
+            String sorgu = istek.getRequestURI().getRawQuery();
+            Map<String, Object> govde = metod.equals("GET") && sorgu != null ? sorguParametreleri(sorgu) : govdeOku(istek);
+            yanit = kaynak.isle(metod, yol, govde);
+        } catch (ApiHatasi e) {
+            yanit = new Yanit(e.durum, Map.of("hata", e.getMessage()));
+        } catch (RuntimeException e) {
+            yanit = new Yanit(500, Map.of("hata", "Sunucu hatası."));
+        }
+
+        try (istek) {
+            if (yanit.govde == null) {
+                istek.sendResponseHeaders(yanit.durum, -1);
+                return;
+            }
+            byte[] baytlar = Json.yaz(yanit.govde).getBytes(StandardCharsets.UTF_8);
+            istek.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            istek.sendResponseHeaders(yanit.durum, baytlar.length);
+            try (OutputStream cikis = istek.getResponseBody()) {
+                cikis.write(baytlar);
+            }
+        }
+    }
+
+    private static Map<String, Object> sorguParametreleri(String sorgu) {
+        Map<String, Object> parametreler = new LinkedHashMap<>();
+        for (String parca : sorgu.split("&")) {
+            if (parca.isEmpty()) {
+                continue;
+            }
+            int esittir = parca.indexOf('=');
+            String ad = esittir < 0 ? parca : parca.substring(0, esittir);
+            String deger = esittir < 0 ? "" : parca.substring(esittir + 1);
+            try {
+                parametreler.put(URLDecoder.decode(ad, StandardCharsets.UTF_8), URLDecoder.decode(deger, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new ApiHatasi(400, "Geçersiz sorgu parametresi: " + parca);
+            }
+        }
+        return parametreler;
+    }
+
+    private static String[] parcala(String yol) {
+        List<String> parcalar = new ArrayList<>();
+        for (String parca : yol.split("/")) {
+            if (!parca.isEmpty()) {
+                parcalar.add(parca);
+            }
+        }
+        return parcalar.toArray(new String[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> govdeOku(HttpExchange istek) throws IOException {
+        byte[] baytlar;
+        try (InputStream giris = istek.getRequestBody()) {
+            baytlar = giris.readNBytes(AZAMI_GOVDE + 1);
+        }
+        if (baytlar.length > AZAMI_GOVDE) {
+            throw new ApiHatasi(413, "İstek gövdesi çok büyük.");
+        }
+        String metin = new String(baytlar, StandardCharsets.UTF_8);
+        if (metin.isBlank()) {
+            return Map.of();
+        }
+        Object deger;
+        try {
+            deger = Json.oku(metin);
+        } catch (IllegalArgumentException e) {
+            throw new ApiHatasi(400, "Geçersiz JSON: " + e.getMessage());
+        }
+        if (!(deger instanceof Map)) {
+            throw new ApiHatasi(400, "İstek gövdesi bir JSON nesnesi olmalıdır.");
+        }
+        return (Map<String, Object>) deger;
+    }
+
+    /**
+     * HTTP durum kodu ve JSON gövdesinden oluşan yanıt.
+     */
+    private static class Yanit {
+        final int durum;
+        final Object govde;
+
+        Yanit(int durum, Object govde) {
+            this.durum = durum;
+            this.govde = govde;
+        }
+
+        static Yanit tamam(Object govde) {
+            return new Yanit(200, govde);
+        }
+
+        static Yanit bos() {
+            return new Yanit(204, null);
+        }
+    }
+
+    /**
+     * İsteğin belirli bir HTTP durum koduyla reddedilmesi gerektiğini bildiren hata.
+     */
+    private static class ApiHatasi extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int durum;
+
+        ApiHatasi(int durum, String mesaj) {
+            super(mesaj, null, false, false);
+            this.durum = durum;
+        }
+    }
+}
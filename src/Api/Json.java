@@ -0,0 +1,292 @@
+package Api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP API'nin istek ve yanıt gövdeleri için kullanılan küçük bir JSON okuyucu/yazıcıdır.
+ * <p>
+ * Nesneler {@link Map}, diziler {@link List}, sayılar {@link Long} veya {@link Double},
+ * metinler {@link String}, mantıksal değerler {@link Boolean} ve {@code null} olarak temsil edilir.
+ * Dış kütüphane bağımlılığı olmaması için yalnızca API'nin ihtiyaç duyduğu kadarını destekler.
+ * </p>
+ */
+public final class Json {
+
+    /**
+     * Okunabilecek en fazla iç içe nesne/dizi derinliği.
+     * <p>
+     * Ayrıştırıcı özyinelemeli olduğundan sınırsız derinlik, çok sayıda açılış parantezinden oluşan küçük
+     * bir istek gövdesiyle {@link StackOverflowError} oluşturabilir. API gövdeleri birkaç seviyeyi aşmaz.
+     * </p>
+     */
+    private static final int EN_BUYUK_DERINLIK = 64;
+
+    private final String metin;
+    private int konum;
+    private int derinlik;
+
+    private Json(String metin) {
+        this.metin = metin;
+    }
+
+    /**
+     * JSON metnini ayrıştırır.
+     *
+     * @param metin Ayrıştırılacak JSON metni.
+     * @return Ayrıştırılan değer.
+     * @throws IllegalArgumentException Metin geçerli bir JSON değilse veya {@value #EN_BUYUK_DERINLIK} seviyeden
+     *                                  daha derin iç içe nesne/dizi içeriyorsa.
+     */
+    public static Object oku(String metin) {
+        Json okuyucu = new Json(metin);
+        okuyucu.bosluklariAtla();
+        Object deger = okuyucu.deger();
+        okuyucu.bosluklariAtla();
+        if (okuyucu.konum != metin.length()) {
+            throw okuyucu.hata("Beklenmeyen karakter");
+        }
+        return deger;
+    }
+
+    /**
+     * Değeri JSON metnine dönüştürür.
+     *
+     * @param deger Map, Collection, String, Number, Boolean veya null.
+     * @return JSON metni.
+     */
+    public static String yaz(Object deger) {
+        StringBuilder sb = new StringBuilder();
+        yaz(sb, deger);
+        return sb.toString();
+    }
+
+    private static void yaz(StringBuilder sb, Object deger) {
+        if (deger == null) {
+            sb.append("null");
+        } else if (deger instanceof String s) {
+            metinYaz(sb, s);
+        } else if (deger instanceof Double d) {
+            sb.append(d.isNaN() || d.isInfinite() ? "null" : d.toString());
+        } else if (deger instanceof Number || deger instanceof Boolean) {
+            sb.append(deger);
+        } else if (deger instanceof Map<?, ?> nesne) {
+            sb.append('{');
+            boolean ilk = true;
+            for (Map.Entry<?, ?> alan : nesne.entrySet()) {
+                if (!ilk) {
+                    sb.append(',');
+                }
+                ilk = false;
+                metinYaz(sb, String.valueOf(alan.getKey()));
+                sb.append(':');
+                yaz(sb, alan.getValue());
+            }
+            sb.append('}');
+        } else if (deger instanceof Iterable<?> dizi) {
+            sb.append('[');
+            boolean ilk = true;
+            for (Object eleman : dizi) {
+                if (!ilk) {
+                    sb.append(',');
+                }
+                ilk = false;
+                yaz(sb, eleman);
+            }
+            sb.append(']');
+        } else {
+            metinYaz(sb, deger.toString());
+        }
+    }
+
+    private static void metinYaz(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private Object deger() {
+        if (konum >= metin.length()) {
+            throw hata("Beklenmeyen metin sonu");
+        }
+        char c = metin.charAt(konum);
+        switch (c) {
+            case '{':
+            case '[':
+                if (++derinlik > EN_BUYUK_DERINLIK) {
+                    throw hata("İç içe nesne/dizi derinliği " + EN_BUYUK_DERINLIK + " sınırını aşıyor");
+                }
+                Object kap = c == '{' ? nesne() : dizi();
+                derinlik--;
+                return kap;
+            case '"':
+                return metinOku();
+            case 't':
+                sabit("true");
+                return Boolean.TRUE;
+            case 'f':
+                sabit("false");
+                return Boolean.FALSE;
+            case 'n':
+                sabit("null");
+                return null;
+            default:
+                return sayi();
+        }
+    }
+
+    private Map<String, Object> nesne() {
+        Map<String, Object> nesne = new LinkedHashMap<>();
+        konum++;
+        bosluklariAtla();
+        if (karakterVar('}')) {
+            return nesne;
+        }
+        while (true) {
+            bosluklariAtla();
+            if (konum >= metin.length() || metin.charAt(konum) != '"') {
+                throw hata("Alan adı bekleniyordu");
+            }
+            String ad = metinOku();
+            bosluklariAtla();
+            if (!karakterVar(':')) {
+                throw hata("':' bekleniyordu");
+            }
+            bosluklariAtla();
+            nesne.put(ad, deger());
+            bosluklariAtla();
+            if (karakterVar('}')) {
+                return nesne;
+            }
+            if (!karakterVar(',')) {
+                throw hata("',' veya '}' bekleniyordu");
+            }
+        }
+    }
+
+    private List<Object> dizi() {
+        List<Object> dizi = new ArrayList<>();
+        konum++;
+        bosluklariAtla();
+        if (karakterVar(']')) {
+            return dizi;
+        }
+        while (true) {
+            bosluklariAtla();
+            dizi.add(deger());
+            bosluklariAtla();
+            if (karakterVar(']')) {
+                return dizi;
+            }
+            if (!karakterVar(',')) {
+                throw hata("',' veya ']' bekleniyordu");
+            }
+        }
+    }
+
+    private String metinOku() {
+        konum++;
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            if (konum >= metin.length()) {
+                throw hata("Kapanmamış metin");
+            }
+            char c = metin.charAt(konum++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (konum >= metin.length()) {
+                throw hata("Kapanmamış metin");
+            }
+            char kacis = metin.charAt(konum++);
+            switch (kacis) {
+                case '"', '\\', '/' -> sb.append(kacis);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (konum + 4 > metin.length()) {
+                        throw hata("Geçersiz \\u kaçışı");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(metin.substring(konum, konum + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw hata("Geçersiz \\u kaçışı");
+                    }
+                    konum += 4;
+                }
+                default -> throw hata("Geçersiz kaçış karakteri");
+            }
+        }
+    }
+
+    private Object sayi() {
+        int bas = konum;
+        boolean ondalik = false;
+        while (konum < metin.length()) {
+            char c = metin.charAt(konum);
+            if (c == '.' || c == 'e' || c == 'E') {
+                ondalik = true;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            konum++;
+        }
+        String sayi = metin.substring(bas, konum);
+        try {
+            return ondalik ? (Object) Double.parseDouble(sayi) : (Object) Long.parseLong(sayi);
+        } catch (NumberFormatException e) {
+            konum = bas;
+            throw hata("Geçersiz değer");
+        }
+    }
+
+    private void sabit(String beklenen) {
+        if (!metin.startsWith(beklenen, konum)) {
+            throw hata("Geçersiz değer");
+        }
+        konum += beklenen.length();
+    }
+
+    private boolean karakterVar(char c) {
+        if (konum < metin.length() && metin.charAt(konum) == c) {
+            konum++;
+            return true;
+        }
+        return false;
+    }
+
+    private void bosluklariAtla() {
+        while (konum < metin.length() && Character.isWhitespace(metin.charAt(konum))) {
+            konum++;
+        }
+    }
+
+    private IllegalArgumentException hata(String mesaj) {
+        return new IllegalArgumentException(mesaj + " (konum " + konum + ")");
+    }
+}
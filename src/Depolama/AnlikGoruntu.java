@@ -0,0 +1,338 @@
+package Depolama;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+import Util.IntIndeks;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dört servisin bellekteki durumunu tek bir ikili (binary) dosyaya yazan ve geri yükleyen anlık görüntü (snapshot) sınıfıdır.
+ * <p>
+ * Görüntü, alındığı andaki işlem günlüğü konumunu da saklar. Açılışta önce görüntü yüklenir,
+ * ardından işlem günlüğü yalnızca bu konumdan sonra yazılmış kayıtlar için oynatılır.
+ * Dosya okunurken {@link FileChannel#map} ile belleğe eşlenir (memory-mapped); kayıtlar
+ * ara kopya veya akış katmanı olmadan doğrudan eşlenen bölgeden çözülür.
+ * </p>
+ * <p>
+ * Dosya biçimi: başlık (sihirli sayı, sürüm, günlük konumu ve bölüm sayıları), ardından
+ * sırasıyla bölümler, dersler, öğrenciler ve notlar; en sonda bitiş işareti. Notlar sabit
+ * 9 baytlık kayıtlardır (öğrenci no, ders sırası, harf notu kodu). Dosya önce geçici bir
+ * dosyaya yazılır ve tamamlandığında atomik olarak yerine taşınır.
+ * </p>
+ */
+public class AnlikGoruntu {
+
+    /** Dosyanın başındaki sihirli sayı ("OBSS"). */
+    private static final int SIHIRLI_SAYI = 0x4F425353;
+    /** Dosyanın sonundaki bitiş işareti ("SSBO"). */
+    private static final int BITIS_ISARETI = 0x5353424F;
+    /** Görüntü biçiminin sürümü. */
+    private static final byte SURUM = 1;
+
+    /** Başlıktaki not sayısının dosya içindeki konumu; notlar tek geçişte yazıldıktan sonra doldurulur. */
+    private static final int NOT_SAYISI_KONUMU = 4 + 1 + 8 + 4 + 4 + 4;
+
+    /** Boş (null) metinleri temsil eden uzunluk değeri. */
+    private static final int BOS_METIN = 0xFFFF;
+    /** Boş (null) tarihleri temsil eden gün değeri. */
+    private static final int BOS_TARIH = Integer.MIN_VALUE;
+
+    /** Yazma tamponunun boyutu. */
+    private static final int TAMPON_BOYUTU = 1024 * 1024;
+
+    private AnlikGoruntu() {
+    }
+
+    /**
+     * Servislerin mevcut durumunu verilen dosyaya yazar.
+     * <p>
+     * Silinmiş ancak hâlâ bir öğrenci veya not tarafından kullanılan bölüm ve dersler de
+     * "pasif" olarak yazılır; yüklemede servislere eklenmez, yalnızca ilgili kayıtlar tarafından kullanılır.
+     * </p>
+     * <p>
+     * Görüntü alınırken servislerde değişiklik yapılmamalıdır; {@link Kalicilik} bunu değişiklikleri
+     * {@link Service.DegisiklikKilidi} ile durdurarak sağlar. Notlar tek geçişte yazılır; başlıktaki
+     * not sayısı yazma bittikten sonra doldurulur.
+     * </p>
+     *
+     * @param dosya         Görüntünün yazılacağı dosya.
+     * @param gunlukKonumu  Görüntünün karşılık geldiği işlem günlüğü konumu.
+     * @throws IOException Dosya yazılamazsa.
+     */
+    public static void yaz(Path dosya, long gunlukKonumu, BolumService bolumService, DersService dersService,
+                           OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        List<Ogrenci> ogrenciler = ogrenciService.ogrenciListele();
+
+        Map<Bolum, Integer> bolumSiralari = new IdentityHashMap<>();
+        List<Bolum> bolumler = new ArrayList<>(bolumService.bolumListele());
+        int aktifBolumSayisi = bolumler.size();
+        for (Ogrenci ogrenci : ogrenciler) {
+            if (ogrenci.getBolum() != null && !bolumSiralari.containsKey(ogrenci.getBolum())) {
+                bolumSiralari.put(ogrenci.getBolum(), -1);
+            }
+        }
+        for (int i = 0; i < bolumler.size(); i++) {
+            bolumSiralari.put(bolumler.get(i), i);
+        }
+        for (Map.Entry<Bolum, Integer> giris : bolumSiralari.entrySet()) {
+            if (giris.getValue() == -1) {
+                giris.setValue(bolumler.size());
+                bolumler.add(giris.getKey());
+            }
+        }
+
+        Map<Ders, Integer> dersSiralari = new IdentityHashMap<>();
+        List<Ders> dersler = new ArrayList<>(dersService.dersListele());
+        int aktifDersSayisi = dersler.size();
+        for (int i = 0; i < dersler.size(); i++) {
+            dersSiralari.put(dersler.get(i), i);
+        }
+        for (Ders ders : gpaService.notuOlanDersler()) {
+            if (!dersSiralari.containsKey(ders)) {
+                dersSiralari.put(ders, dersler.size());
+                dersler.add(ders);
+            }
+        }
+
+        Path gecici = dosya.resolveSibling(dosya.getFileName() + ".tmp");
+        try (FileChannel kanal = FileChannel.open(gecici, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Yazici yazici = new Yazici(kanal);
+
+            yazici.tampon(4 + 1 + 8 + 4 + 4 + 8)
+                    .putInt(SIHIRLI_SAYI).put(SURUM).putLong(gunlukKonumu)
+                    .putInt(bolumler.size()).putInt(dersler.size());
+            // Not sayısı notlar yazıldıktan sonra doldurulur (bkz. NOT_SAYISI_KONUMU).
+            yazici.tampon(4 + 8).putInt(ogrenciler.size()).putLong(0);
+
+            for (int i = 0; i < bolumler.size(); i++) {
+                Bolum bolum = bolumler.get(i);
+                yazici.tampon(1).put((byte) (i < aktifBolumSayisi ? 1 : 0));
+                yazici.metin(bolum.getAd());
+                yazici.metin(bolum.getWebSayfasi());
+                yazici.tarih(bolum.getKurulusTarihi());
+            }
+
+            for (int i = 0; i < dersler.size(); i++) {
+                Ders ders = dersler.get(i);
+                yazici.tampon(1).put((byte) (i < aktifDersSayisi ? 1 : 0));
+                yazici.metin(ders.getAd());
+                yazici.metin(ders.getKod());
+                yazici.tampon(4).putInt(ders.getAkts());
+            }
+
+            for (Ogrenci ogrenci : ogrenciler) {
+                yazici.metin(ogrenci.getIsim());
+                yazici.metin(ogrenci.getSoyisim());
+                yazici.tampon(4).putInt(ogrenci.getOgrenciNo());
+                yazici.tarih(ogrenci.getDogumTarihi());
+                yazici.tampon(4).putInt(ogrenci.getBolum() != null ? bolumSiralari.get(ogrenci.getBolum()) : -1);
+            }
+
+            long[] notSayisi = new long[1];
+            IOException[] hata = new IOException[1];
+            gpaService.notlariGez((ogrenci, ders, harfNotu) -> {
+                if (hata[0] != null) {
+                    return;
+                }
+                Integer dersSirasi = dersSiralari.get(ders);
+                if (dersSirasi == null) {
+                    hata[0] = new IOException("Anlık görüntü alınırken notlar değiştirildi.");
+                    return;
+                }
+                try {
+                    yazici.tampon(9).putInt(ogrenci.getOgrenciNo()).putInt(dersSirasi).put(harfNotu);
+                    notSayisi[0]++;
+                } catch (IOException e) {
+                    hata[0] = e;
+                }
+            });
+            if (hata[0] != null) {
+                throw hata[0];
+            }
+
+            yazici.tampon(4).putInt(BITIS_ISARETI);
+            yazici.bosalt();
+            ByteBuffer sayi = ByteBuffer.allocate(8).putLong(0, notSayisi[0]);
+            while (sayi.hasRemaining()) {
+                kanal.write(sayi, NOT_SAYISI_KONUMU + sayi.position());
+            }
+            kanal.force(true);
+        }
+
+        Files.move(gecici, dosya, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Verilen dosyadaki görüntüyü belleğe eşleyerek boş servislere yükler.
+     * <p>
+     * Servislerin boş olması ve henüz bir dinleyiciye (işlem günlüğü) bağlanmamış olması gerekir.
+     * Notlar kayıt kayıt {@link GpaService#notEkle} ile değil, {@link GpaService#notlariYukle} ile
+     * bayt kodlarıyla toplu olarak yüklenir.
+     * </p>
+     *
+     * @param dosya Görüntü dosyası.
+     * @return Görüntünün karşılık geldiği işlem günlüğü konumu; dosya yoksa -1.
+     * @throws IOException Dosya okunamazsa veya bozuksa.
+     */
+    public static long yukle(Path dosya, BolumService bolumService, DersService dersService,
+                             OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        if (!Files.exists(dosya)) {
+            return -1;
+        }
+
+        try (FileChannel kanal = FileChannel.open(dosya, StandardOpenOption.READ)) {
+            if (kanal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Anlık görüntü tek bir bellek eşlemesi için çok büyük: " + dosya);
+            }
+            MappedByteBuffer veri = kanal.map(FileChannel.MapMode.READ_ONLY, 0, kanal.size());
+
+            if (veri.remaining() < 33 || veri.getInt() != SIHIRLI_SAYI || veri.get() != SURUM
+                    || veri.getInt(veri.limit() - 4) != BITIS_ISARETI) {
+                throw new IOException("Geçersiz veya yarım kalmış anlık görüntü dosyası: " + dosya);
+            }
+            long gunlukKonumu = veri.getLong();
+            int bolumSayisi = veri.getInt();
+            int dersSayisi = veri.getInt();
+            int ogrenciSayisi = veri.getInt();
+            long notSayisi = veri.getLong();
+
+            Bolum[] bolumler = new Bolum[bolumSayisi];
+            for (int i = 0; i < bolumSayisi; i++) {
+                boolean aktif = veri.get() == 1;
+                String ad = metinOku(veri);
+                String web = metinOku(veri);
+                bolumler[i] = new Bolum(ad, web, tarihOku(veri));
+                if (aktif) {
+                    bolumService.bolumEkle(bolumler[i]);
+                }
+            }
+
+            Ders[] dersler = new Ders[dersSayisi];
+            for (int i = 0; i < dersSayisi; i++) {
+                boolean aktif = veri.get() == 1;
+                String ad = metinOku(veri);
+                String kod = metinOku(veri);
+                dersler[i] = new Ders(ad, kod, veri.getInt());
+                if (aktif) {
+                    dersService.dersEkle(dersler[i]);
+                }
+            }
+
+            IntIndeks<Ogrenci> ogrenciler = new IntIndeks<>(ogrenciSayisi);
+            for (int i = 0; i < ogrenciSayisi; i++) {
+                String isim = metinOku(veri);
+                String soyisim = metinOku(veri);
+                int no = veri.getInt();
+                LocalDate dogumTarihi = tarihOku(veri);
+                int bolum = veri.getInt();
+                Ogrenci ogrenci = new Ogrenci(isim, soyisim, no, dogumTarihi, bolum >= 0 ? bolumler[bolum] : null);
+                if (ogrenciService.ogrenciEkle(ogrenci)) {
+                    ogrenciler.put(no, ogrenci);
+                }
+            }
+
+            gpaService.notlariYukle(yukle -> {
+                for (long i = 0; i < notSayisi; i++) {
+                    Ogrenci ogrenci = ogrenciler.get(veri.getInt());
+                    Ders ders = dersler[veri.getInt()];
+                    byte harfNotu = veri.get();
+                    if (!HarfNotu.gecerliMi(harfNotu)) {
+                        throw new IllegalArgumentException("Geçersiz harf notu kodu: " + harfNotu);
+                    }
+                    if (ogrenci != null) {
+                        yukle.ziyaret(ogrenci, ders, harfNotu);
+                    }
+                }
+            });
+
+            return gunlukKonumu;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | DateTimeException e) {
+            // Kesilmiş veya bozulmuş dosyada sayılar ve sıralar dosyanın dışını ya da olmayan kayıtları gösterebilir.
+            throw new IOException("Bozuk anlık görüntü dosyası: " + dosya, e);
+        }
+    }
+
+    private static String metinOku(ByteBuffer veri) {
+        int uzunluk = veri.getShort() & 0xFFFF;
+        if (uzunluk == BOS_METIN) {
+            return null;
+        }
+        byte[] baytlar = new byte[uzunluk];
+        veri.get(baytlar);
+        return new String(baytlar, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDate tarihOku(ByteBuffer veri) {
+        int gun = veri.getInt();
+        return gun == BOS_TARIH ? null : LocalDate.ofEpochDay(gun);
+    }
+
+    /**
+     * Büyük bir doğrudan (direct) tampon üzerinden kanala sıralı yazan yardımcı sınıf.
+     */
+    private static class Yazici {
+        private final FileChannel kanal;
+        private final ByteBuffer tampon = ByteBuffer.allocateDirect(TAMPON_BOYUTU);
+
+        Yazici(FileChannel kanal) {
+            this.kanal = kanal;
+        }
+
+        /**
+         * Tamponda en az {@code gerekli} bayt yer olmasını sağlar ve tamponu döndürür.
+         */
+        ByteBuffer tampon(int gerekli) throws IOException {
+            if (tampon.remaining() < gerekli) {
+                bosalt();
+            }
+            return tampon;
+        }
+
+        void metin(String metin) throws IOException {
+            if (metin == null) {
+                tampon(2).putShort((short) BOS_METIN);
+                return;
+            }
+            byte[] baytlar = metin.getBytes(StandardCharsets.UTF_8);
+            if (baytlar.length >= BOS_METIN) {
+                throw new IOException("Metin anlık görüntü için çok uzun: " + baytlar.length + " bayt");
+            }
+            tampon(2 + baytlar.length).putShort((short) baytlar.length).put(baytlar);
+        }
+
+        void tarih(LocalDate tarih) throws IOException {
+            tampon(4).putInt(tarih == null ? BOS_TARIH : (int) tarih.toEpochDay());
+        }
+
+        void bosalt() throws IOException {
+            tampon.flip();
+            while (tampon.hasRemaining()) {
+                kanal.write(tampon);
+            }
+            tampon.clear();
+        }
+    }
+}
@@ -0,0 +1,641 @@
+package Depolama;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DegisiklikDinleyicisi;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Servis katmanındaki tüm başarılı değişiklikleri ikili (binary) bir dosyaya ekleyen işlem günlüğüdür (write-ahead log).
+ * <p>
+ * Günlük bir {@link DegisiklikDinleyicisi} olarak servislere bağlanır ve her değişikliği
+ * kompakt bir kayıt olarak dosyanın sonuna ekler. Program yeniden başlatıldığında
+ * {@link #oynat(BolumService, DersService, OgrenciService, GpaService)} ile kayıtlar sırayla
+ * servislere uygulanarak bellekteki durum yeniden kurulur.
+ * </p>
+ * <p>
+ * Yazmalar bellekteki bir tampon üzerinden gruplanır: diske senkronizasyon (fsync) her
+ * {@code grupBoyutu} kayıtta bir veya arka planda belirli aralıklarla yapılır. Böylece toplu
+ * not yüklemesi gibi işlemler kayıt başına bir disk senkronizasyonu beklemez.
+ * </p>
+ * <p>
+ * Dosya biçimi: 4 bayt sihirli sayı, 1 bayt sürüm ve 8 bayt konum kaydırmasından oluşan başlığın ardından
+ * gelen kayıtlar. Günlük konumları ({@link #konum()}) dosyadaki konuma kaydırmanın eklenmesiyle bulunur; böylece
+ * bir anlık görüntü günlüğü kapsadığında {@link #yenidenBaslat(long)} ile dosya boşaltılsa da konumlar artmaya
+ * devam eder ve görüntüde saklanan konum geçerli kalır. Kaydırması olmayan 1. sürüm dosyalar da okunur. Her kayıt {@code [int uzunluk][byte tür][gövde][int crc32]} şeklindedir; uzunluk tür ve gövdeyi,
+ * CRC ise yine tür ve gövdeyi kapsar. Yarım yazılmış son kayıt oynatma sırasında atılır.
+ * </p>
+ */
+public final class IslemGunlugu implements DegisiklikDinleyicisi, Closeable {
+
+    /** Dosyanın başındaki sihirli sayı ("OBSW"). */
+    private static final int SIHIRLI_SAYI = 0x4F425357;
+    /** Günlük biçiminin sürümü. */
+    private static final byte SURUM = 2;
+    /** Başlığında konum kaydırması bulunmayan önceki biçim sürümü. */
+    private static final byte ESKI_SURUM = 1;
+    /** Dosya başlığının bayt cinsinden uzunluğu. */
+    private static final int BASLIK_UZUNLUGU = 4 + 1 + 8;
+    /** Önceki sürümdeki dosya başlığının bayt cinsinden uzunluğu. */
+    private static final int ESKI_BASLIK_UZUNLUGU = 4 + 1;
+
+    static final byte BOLUM_EKLE = 1;
+    static final byte BOLUM_SIL = 2;
+    static final byte DERS_EKLE = 3;
+    static final byte DERS_SIL = 4;
+    static final byte OGRENCI_EKLE = 5;
+    static final byte OGRENCI_GUNCELLE = 6;
+    static final byte OGRENCI_SIL = 7;
+    static final byte NOT_EKLE = 8;
+    static final byte NOT_GUNCELLE = 9;
+    static final byte NOTLARI_TEMIZLE = 10;
+
+    /** Boş (null) metinleri temsil eden uzunluk değeri. */
+    private static final int BOS_METIN = 0xFFFF;
+    /** Boş (null) tarihleri temsil eden gün değeri. */
+    private static final int BOS_TARIH = Integer.MIN_VALUE;
+
+    /** Varsayılan yazma tamponu boyutu. */
+    private static final int TAMPON_BOYUTU = 256 * 1024;
+    /** Varsayılan olarak kaç kayıtta bir diske senkronizasyon yapılacağı. */
+    private static final int VARSAYILAN_GRUP_BOYUTU = 1024;
+    /** Varsayılan arka plan senkronizasyon aralığı (milisaniye). */
+    private static final long VARSAYILAN_SENKRON_ARALIGI = 200;
+
+    private final Path dosya;
+    private final ByteBuffer tampon;
+    private final CRC32 crc = new CRC32();
+    private final int grupBoyutu;
+    private final ScheduledExecutorService zamanlayici;
+
+    /** Günlük dosyası; {@link #yenidenBaslat(long)} ile yeni bir dosyayla değiştirilebilir. */
+    private FileChannel kanal;
+    /** Dosya başlığının uzunluğu (ilk kaydın dosyadaki konumu). */
+    private int baslikUzunlugu;
+    /** Dosyadaki konumlara eklenerek günlük konumlarının bulunduğu kaydırma. */
+    private long kaydirma;
+    /** Tampondaki verinin dosyada yazılacağı konum. */
+    private long yazilanKonum;
+    /** Son senkronizasyondan bu yana eklenen kayıt sayısı. */
+    private int bekleyenKayit;
+    /** Tamponda o an yazılmakta olan kaydın başlangıç konumu. */
+    private int kayitBaslangici;
+
+    /**
+     * Varsayılan gruplama ayarlarıyla bir işlem günlüğü açar.
+     *
+     * @param dosya Günlük dosyasının yolu; yoksa oluşturulur.
+     * @throws IOException Dosya açılamazsa veya geçerli bir günlük dosyası değilse.
+     */
+    public IslemGunlugu(Path dosya) throws IOException {
+        this(dosya, VARSAYILAN_GRUP_BOYUTU, VARSAYILAN_SENKRON_ARALIGI);
+    }
+
+    /**
+     * Verilen gruplama ayarlarıyla bir işlem günlüğü açar.
+     *
+     * @param dosya           Günlük dosyasının yolu; yoksa oluşturulur.
+     * @param grupBoyutu      Kaç kayıtta bir diske senkronizasyon yapılacağı.
+     * @param senkronAraligi  Bekleyen kayıtların en geç kaç milisaniye içinde senkronize edileceği;
+     *                        0 verilirse arka plan senkronizasyonu yapılmaz.
+     * @throws IOException Dosya açılamazsa veya geçerli bir günlük dosyası değilse.
+     */
+    public IslemGunlugu(Path dosya, int grupBoyutu, long senkronAraligi) throws IOException {
+        this.dosya = dosya;
+        this.kanal = FileChannel.open(dosya, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.tampon = ByteBuffer.allocate(TAMPON_BOYUTU);
+        this.grupBoyutu = Math.max(1, grupBoyutu);
+
+        if (kanal.size() == 0) {
+            baslikYaz(kanal, 0);
+            this.baslikUzunlugu = BASLIK_UZUNLUGU;
+        } else {
+            ByteBuffer baslik = ByteBuffer.allocate(BASLIK_UZUNLUGU);
+            kanal.read(baslik, 0);
+            baslik.flip();
+            byte surum = baslik.remaining() >= ESKI_BASLIK_UZUNLUGU && baslik.getInt() == SIHIRLI_SAYI ? baslik.get() : 0;
+            if (surum == ESKI_SURUM) {
+                this.baslikUzunlugu = ESKI_BASLIK_UZUNLUGU;
+            } else if (surum == SURUM && baslik.remaining() >= 8) {
+                this.baslikUzunlugu = BASLIK_UZUNLUGU;
+                this.kaydirma = baslik.getLong();
+            } else {
+                kanal.close();
+                throw new IOException("Geçersiz işlem günlüğü dosyası: " + dosya);
+            }
+        }
+        this.yazilanKonum = kanal.size();
+
+        if (senkronAraligi > 0) {
+            this.zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "islem-gunlugu-senkron");
+                t.setDaemon(true);
+                return t;
+            });
+            zamanlayici.scheduleWithFixedDelay(this::arkaPlanSenkronu,
+                    senkronAraligi, senkronAraligi, TimeUnit.MILLISECONDS);
+        } else {
+            this.zamanlayici = null;
+        }
+    }
+
+    /**
+     * Günlükteki tüm kayıtları baştan itibaren servislere uygular.
+     *
+     * @return Uygulanan kayıt sayısı.
+     * @throws IOException Dosya okunamazsa.
+     * @see #oynat(long, BolumService, DersService, OgrenciService, GpaService)
+     */
+    public int oynat(BolumService bolumService, DersService dersService,
+                     OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        return oynat(ilkKayitKonumu(), bolumService, dersService, ogrenciService, gpaService);
+    }
+
+    /**
+     * Günlükteki kayıtları verilen konumdan itibaren sırayla servislere uygular.
+     * <p>
+     * Servislere henüz bu günlük dinleyici olarak bağlanmamış olmalıdır; aksi halde oynatılan
+     * kayıtlar günlüğe tekrar yazılır. Bozuk veya yarım kalmış bir kayda rastlanırsa oynatma
+     * orada durur ve dosya son geçerli kayıttan sonra kesilir.
+     * </p>
+     *
+     * @param baslangic Oynatmanın başlayacağı günlük konumu (bkz. {@link #konum()}).
+     * @return Uygulanan kayıt sayısı.
+     * @throws IOException Dosya okunamazsa.
+     */
+    public synchronized int oynat(long baslangic, BolumService bolumService, DersService dersService,
+                                  OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        bosalt();
+
+        long boyut = kanal.size();
+        long konum = Math.min(Math.max(baslangic - kaydirma, baslikUzunlugu), boyut);
+        kanal.position(konum);
+        DataInputStream giris = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(kanal), 64 * 1024));
+        byte[] kayit = new byte[256];
+        int sayac = 0;
+
+        try {
+            while (konum + 4 <= boyut) {
+                int uzunluk = giris.readInt();
+                if (uzunluk <= 0 || uzunluk > boyut - konum - 8) {
+                    break;
+                }
+                if (kayit.length < uzunluk + 4) {
+                    kayit = new byte[Math.max(uzunluk + 4, kayit.length * 2)];
+                }
+                giris.readFully(kayit, 0, uzunluk + 4);
+
+                crc.reset();
+                crc.update(kayit, 0, uzunluk);
+                if ((int) crc.getValue() != ByteBuffer.wrap(kayit, uzunluk, 4).getInt()) {
+                    break;
+                }
+
+                uygula(kayit[0], ByteBuffer.wrap(kayit, 1, uzunluk - 1),
+                        bolumService, dersService, ogrenciService, gpaService);
+                konum += 8 + uzunluk;
+                sayac++;
+            }
+        } catch (EOFException e) {
+            // Yarım yazılmış son kayıt; aşağıda dosyadan atılır.
+        }
+
+        if (konum < boyut) {
+            kanal.truncate(konum);
+        }
+        yazilanKonum = konum;
+        return sayac;
+    }
+
+    /**
+     * Tek bir günlük kaydını ilgili servis metoduna çevirerek uygular.
+     */
+    private static void uygula(byte tur, ByteBuffer govde, BolumService bolumService, DersService dersService,
+                               OgrenciService ogrenciService, GpaService gpaService) {
+        switch (tur) {
+            case BOLUM_EKLE -> {
+                String ad = metinOku(govde);
+                String web = metinOku(govde);
+                bolumService.bolumEkle(new Bolum(ad, web, tarihOku(govde)));
+            }
+            case BOLUM_SIL -> bolumService.bolumSil(metinOku(govde));
+            case DERS_EKLE -> {
+                String ad = metinOku(govde);
+                String kod = metinOku(govde);
+                dersService.dersEkle(new Ders(ad, kod, govde.getInt()));
+            }
+            case DERS_SIL -> dersService.dersSil(metinOku(govde));
+            case OGRENCI_EKLE -> {
+                String isim = metinOku(govde);
+                String soyisim = metinOku(govde);
+                int no = govde.getInt();
+                LocalDate dogumTarihi = tarihOku(govde);
+                Bolum bolum = bolumService.bolumAra(metinOku(govde));
+                if (bolum != null) {
+                    ogrenciService.ogrenciEkle(new Ogrenci(isim, soyisim, no, dogumTarihi, bolum));
+                }
+            }
+            case OGRENCI_GUNCELLE -> {
+                Ogrenci mevcut = ogrenciService.ogrenciAra(govde.getInt());
+                String isim = metinOku(govde);
+                String soyisim = metinOku(govde);
+                if (mevcut != null) {
+                    ogrenciService.ogrenciGuncelle(new Ogrenci(isim, soyisim, mevcut.getOgrenciNo(),
+                            mevcut.getDogumTarihi(), mevcut.getBolum()));
+                }
+            }
+            case OGRENCI_SIL -> ogrenciService.ogrenciSil(govde.getInt());
+            case NOT_EKLE, NOT_GUNCELLE -> {
+                Ogrenci ogrenci = ogrenciService.ogrenciAra(govde.getInt());
+                Ders ders = dersService.dersAra(metinOku(govde));
+                String harfNotu = HarfNotu.metin(govde.get());
+                if (tur == NOT_EKLE) {
+                    gpaService.notEkle(ogrenci, ders, harfNotu);
+                } else {
+                    gpaService.notGuncelle(ogrenci, ders, harfNotu);
+                }
+            }
+            case NOTLARI_TEMIZLE -> gpaService.notlariTemizle(ogrenciService.ogrenciAra(govde.getInt()));
+            default -> {
+                // Bilinmeyen kayıt türleri (daha yeni bir sürüm tarafından yazılmış) atlanır.
+            }
+        }
+    }
+
+    /**
+     * Günlüğü verilen servislere dinleyici olarak bağlar.
+     * <p>
+     * Bu çağrıdan sonra servislerde yapılan her başarılı değişiklik günlüğe yazılır.
+     * </p>
+     */
+    public void baglan(BolumService bolumService, DersService dersService,
+                       OgrenciService ogrenciService, GpaService gpaService) {
+        bolumService.setDinleyici(this);
+        dersService.setDinleyici(this);
+        ogrenciService.setDinleyici(this);
+        gpaService.setDinleyici(this);
+    }
+
+    /**
+     * Bir sonraki kaydın yazılacağı günlük konumunu (tampondaki veriler dahil) döndürür.
+     * <p>
+     * Konumlar günlük yeniden başlatıldığında sıfırlanmaz; bir anlık görüntüde saklanan konum, günlükte o
+     * noktadan sonra yazılan kayıtları göstermeye devam eder.
+     * </p>
+     *
+     * @return Günlüğün mantıksal sonu.
+     */
+    public synchronized long konum() {
+        return kaydirma + yazilanKonum + tampon.position();
+    }
+
+    /**
+     * @return Dosyadaki ilk kaydın günlük konumu.
+     */
+    public synchronized long ilkKayitKonumu() {
+        return kaydirma + baslikUzunlugu;
+    }
+
+    /**
+     * Günlüğü, ilk kaydı verilen konumda başlayacak boş bir dosyayla değiştirir.
+     * <p>
+     * Bir anlık görüntü günlüğün tamamını kapsadıktan sonra eski kayıtların tutulmasına ve açılışta
+     * okunmasına gerek kalmaz. Yeni dosya önce geçici bir dosyaya yazılıp senkronize edilir, ardından
+     * atomik olarak eskisinin yerine taşınır; işlem yarıda kalırsa eski günlük olduğu gibi kullanılmaya
+     * devam eder ve görüntünün konumundan sonrasında oynatılacak kayıt içermez.
+     * </p>
+     *
+     * @param ilkKayitKonumu Yeni dosyadaki ilk kaydın günlük konumu; günlüğün şimdiki sonundan küçük olamaz.
+     * @throws IOException Yeni dosya yazılamaz veya taşınamazsa; bu durumda eski günlük kullanılmaya devam eder.
+     */
+    public synchronized void yenidenBaslat(long ilkKayitKonumu) throws IOException {
+        senkronize();
+        if (ilkKayitKonumu < konum()) {
+            throw new IllegalArgumentException("Günlük, kapsanmayan kayıtlar varken yeniden başlatılamaz.");
+        }
+
+        Path gecici = dosya.resolveSibling(dosya.getFileName() + ".tmp");
+        FileChannel yeni = FileChannel.open(gecici, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            baslikYaz(yeni, ilkKayitKonumu - BASLIK_UZUNLUGU);
+            Files.move(gecici, dosya, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            yeni.close();
+            Files.deleteIfExists(gecici);
+            throw e;
+        }
+
+        kanal.close();
+        kanal = yeni;
+        baslikUzunlugu = BASLIK_UZUNLUGU;
+        kaydirma = ilkKayitKonumu - BASLIK_UZUNLUGU;
+        yazilanKonum = BASLIK_UZUNLUGU;
+    }
+
+    /**
+     * Dosyanın başına güncel sürümün başlığını yazar ve senkronize eder.
+     */
+    private static void baslikYaz(FileChannel kanal, long kaydirma) throws IOException {
+        ByteBuffer baslik = ByteBuffer.allocate(BASLIK_UZUNLUGU);
+        baslik.putInt(SIHIRLI_SAYI).put(SURUM).putLong(kaydirma).flip();
+        kanal.write(baslik, 0);
+        kanal.force(true);
+    }
+
+    /**
+     * Tampondaki kayıtları dosyaya yazar ve diske senkronize eder.
+     *
+     * @throws IOException Yazma veya senkronizasyon başarısız olursa.
+     */
+    public synchronized void senkronize() throws IOException {
+        bosalt();
+        kanal.force(false);
+        bekleyenKayit = 0;
+    }
+
+    /**
+     * Bekleyen kayıtları senkronize eder, arka plan iş parçacığını durdurur ve dosyayı kapatır.
+     *
+     * @throws IOException Son senkronizasyon veya kapatma başarısız olursa.
+     */
+    @Override
+    public void close() throws IOException {
+        if (zamanlayici != null) {
+            // Kesme (interrupt), senkronizasyon sırasında dosya kanalını kapatır ve tampondaki kayıtlar yazılamaz;
+            // bu yüzden yalnızca sürmekte olan senkronizasyonun bitmesi beklenir.
+            zamanlayici.shutdown();
+            try {
+                zamanlayici.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (kanal.isOpen()) {
+                senkronize();
+                kanal.close();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void bolumEklendi(Bolum bolum) {
+        byte[] ad = utf8(bolum.getAd());
+        byte[] web = utf8(bolum.getWebSayfasi());
+        kaydet(BOLUM_EKLE, metinBoyu(ad) + metinBoyu(web) + 4, () -> {
+            metinYaz(ad);
+            metinYaz(web);
+            tarihYaz(bolum.getKurulusTarihi());
+        });
+    }
+
+    @Override
+    public synchronized void bolumSilindi(String bolumAdi) {
+        byte[] ad = utf8(bolumAdi);
+        kaydet(BOLUM_SIL, metinBoyu(ad), () -> metinYaz(ad));
+    }
+
+    @Override
+    public synchronized void dersEklendi(Ders ders) {
+        byte[] ad = utf8(ders.getAd());
+        byte[] kod = utf8(ders.getKod());
+        kaydet(DERS_EKLE, metinBoyu(ad) + metinBoyu(kod) + 4, () -> {
+            metinYaz(ad);
+            metinYaz(kod);
+            tampon.putInt(ders.getAkts());
+        });
+    }
+
+    @Override
+    public synchronized void dersSilindi(String dersKodu) {
+        byte[] kod = utf8(dersKodu);
+        kaydet(DERS_SIL, metinBoyu(kod), () -> metinYaz(kod));
+    }
+
+    @Override
+    public synchronized void ogrenciEklendi(Ogrenci ogrenci) {
+        byte[] isim = utf8(ogrenci.getIsim());
+        byte[] soyisim = utf8(ogrenci.getSoyisim());
+        byte[] bolum = utf8(ogrenci.getBolum() != null ? ogrenci.getBolum().getAd() : null);
+        kaydet(OGRENCI_EKLE, metinBoyu(isim) + metinBoyu(soyisim) + 4 + 4 + metinBoyu(bolum), () -> {
+            metinYaz(isim);
+            metinYaz(soyisim);
+            tampon.putInt(ogrenci.getOgrenciNo());
+            tarihYaz(ogrenci.getDogumTarihi());
+            metinYaz(bolum);
+        });
+    }
+
+    @Override
+    public synchronized void ogrenciGuncellendi(Ogrenci ogrenci) {
+        byte[] isim = utf8(ogrenci.getIsim());
+        byte[] soyisim = utf8(ogrenci.getSoyisim());
+        kaydet(OGRENCI_GUNCELLE, 4 + metinBoyu(isim) + metinBoyu(soyisim), () -> {
+            tampon.putInt(ogrenci.getOgrenciNo());
+            metinYaz(isim);
+            metinYaz(soyisim);
+        });
+    }
+
+    @Override
+    public synchronized void ogrenciSilindi(int ogrenciNo) {
+        kaydet(OGRENCI_SIL, 4, () -> tampon.putInt(ogrenciNo));
+    }
+
+    @Override
+    public synchronized void notEklendi(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        notKaydiYaz(NOT_EKLE, ogrenci, ders, harfNotu);
+    }
+
+    @Override
+    public synchronized void notGuncellendi(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        notKaydiYaz(NOT_GUNCELLE, ogrenci, ders, harfNotu);
+    }
+
+    @Override
+    public synchronized void notlarTemizlendi(Ogrenci ogrenci) {
+        kaydet(NOTLARI_TEMIZLE, 4, () -> tampon.putInt(ogrenci.getOgrenciNo()));
+    }
+
+    private void notKaydiYaz(byte tur, Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        byte[] kod = utf8(ders.getKod());
+        kaydet(tur, 4 + metinBoyu(kod) + 1, () -> {
+            tampon.putInt(ogrenci.getOgrenciNo());
+            metinYaz(kod);
+            tampon.put(harfNotu);
+        });
+    }
+
+    /**
+     * Tek bir kaydı tampona yazar.
+     * <p>
+     * Gövde yazılırken bir hata oluşursa yarım kalan kayıt tampondan geri alınır; aksi halde dosyaya
+     * yazılan bozuk kayıt, sonraki açılışta oynatmayı o noktada durdurur ve ardından gelen tüm kayıtlar
+     * kaybolurdu.
+     * </p>
+     *
+     * @param tur           Kayıt türü.
+     * @param govdeUzunlugu Gövdenin bayt cinsinden uzunluğu; metin uzunlukları bu değer hesaplanırken doğrulanır.
+     * @param govde         Gövdeyi tampona yazan işlem.
+     */
+    private void kaydet(byte tur, int govdeUzunlugu, Runnable govde) {
+        kayitBaslat(tur, govdeUzunlugu);
+        try {
+            govde.run();
+        } catch (RuntimeException e) {
+            kayitIptal();
+            throw e;
+        }
+        kayitBitir();
+    }
+
+    /**
+     * Tamponda yeni bir kayıt için yer açar ve kayıt başlığını yazar.
+     */
+    private void kayitBaslat(byte tur, int govdeUzunlugu) {
+        int toplam = 4 + 1 + govdeUzunlugu + 4;
+        if (tampon.remaining() < toplam) {
+            try {
+                bosalt();
+            } catch (IOException e) {
+                throw new UncheckedIOException("İşlem günlüğüne yazılamadı", e);
+            }
+            if (tampon.capacity() < toplam) {
+                throw new IllegalArgumentException("Günlük kaydı tampondan büyük: " + toplam + " bayt");
+            }
+        }
+        kayitBaslangici = tampon.position();
+        tampon.putInt(1 + govdeUzunlugu);
+        tampon.put(tur);
+    }
+
+    /**
+     * Kaydın CRC değerini yazar ve gerekirse grup senkronizasyonunu tetikler.
+     * <p>
+     * Gövde, başlıkta bildirilen uzunlukta yazılmadıysa kayıt tampondan geri alınır.
+     * </p>
+     */
+    private void kayitBitir() {
+        int bas = kayitBaslangici + 4;
+        if (tampon.position() - bas != tampon.getInt(kayitBaslangici)) {
+            kayitIptal();
+            throw new IllegalStateException("Günlük kaydının gövdesi bildirilen uzunlukta değil");
+        }
+        crc.reset();
+        crc.update(tampon.array(), bas, tampon.position() - bas);
+        tampon.putInt((int) crc.getValue());
+
+        if (++bekleyenKayit >= grupBoyutu) {
+            try {
+                senkronize();
+            } catch (IOException e) {
+                throw new UncheckedIOException("İşlem günlüğü senkronize edilemedi", e);
+            }
+        }
+    }
+
+    /**
+     * Yazılmakta olan kaydı tampondan geri alır; tamponda yalnızca tamamlanmış kayıtlar kalır.
+     */
+    private void kayitIptal() {
+        tampon.position(kayitBaslangici);
+    }
+
+    /**
+     * Tampondaki veriyi dosyaya yazar (senkronizasyon yapmaz).
+     */
+    private void bosalt() throws IOException {
+        tampon.flip();
+        while (tampon.hasRemaining()) {
+            yazilanKonum += kanal.write(tampon, yazilanKonum);
+        }
+        tampon.clear();
+    }
+
+    private void arkaPlanSenkronu() {
+        synchronized (this) {
+            if (bekleyenKayit == 0 || !kanal.isOpen()) {
+                return;
+            }
+            try {
+                senkronize();
+            } catch (IOException e) {
+                System.out.println("Hata: İşlem günlüğü diske yazılamadı: " + e.getMessage());
+            }
+        }
+    }
+
+    private static byte[] utf8(String metin) {
+        return metin == null ? null : metin.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Metnin kayıtta kaplayacağı bayt sayısını döndürür.
+     * <p>
+     * Uzunluk sınırı burada, kayıt tampona yazılmaya başlamadan önce kontrol edilir; böylece çok uzun bir
+     * metin tamponda yarım bir kayıt bırakmaz.
+     * </p>
+     */
+    private static int metinBoyu(byte[] metin) {
+        if (metin != null && metin.length >= BOS_METIN) {
+            throw new IllegalArgumentException("Metin günlük kaydı için çok uzun: " + metin.length + " bayt");
+        }
+        return 2 + (metin == null ? 0 : metin.length);
+    }
+
+    private void metinYaz(byte[] metin) {
+        if (metin == null) {
+            tampon.putShort((short) BOS_METIN);
+            return;
+        }
+        tampon.putShort((short) metin.length);
+        tampon.put(metin);
+    }
+
+    private void tarihYaz(LocalDate tarih) {
+        tampon.putInt(tarih == null ? BOS_TARIH : (int) tarih.toEpochDay());
+    }
+
+    static String metinOku(ByteBuffer govde) {
+        int uzunluk = govde.getShort() & 0xFFFF;
+        if (uzunluk == BOS_METIN) {
+            return null;
+        }
+        String metin = new String(govde.array(), govde.arrayOffset() + govde.position(), uzunluk, StandardCharsets.UTF_8);
+        govde.position(govde.position() + uzunluk);
+        return metin;
+    }
+
+    static LocalDate tarihOku(ByteBuffer govde) {
+        int gun = govde.getInt();
+        return gun == BOS_TARIH ? null : LocalDate.ofEpochDay(gun);
+    }
+}
@@ -0,0 +1,235 @@
+package Depolama;
+
+import Service.BolumService;
+import Service.DegisiklikKilidi;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * İşlem günlüğü ile anlık görüntüyü birlikte yöneten kalıcılık koordinatörüdür.
+ * <p>
+ * Açılışta varsa anlık görüntü yüklenir, ardından işlem günlüğü yalnızca görüntüden sonra
+ * yazılan kayıtlar için oynatılır ve günlük servislere bağlanır. Günlük, son görüntüden bu yana
+ * belirli bir boyutu aştığında {@link #gerekirseAnlikGoruntuAl()} yeni bir görüntü alır;
+ * böylece açılışta oynatılacak kayıt sayısı sınırlı kalır. Bu kontrol arka planda periyodik olarak
+ * da yapılır; yalnızca HTTP API üzerinden kullanılan bir sunucuda da görüntüler alınır.
+ * </p>
+ * <p>
+ * Her görüntüden sonra günlük boş bir dosyayla yeniden başlatılır ({@link IslemGunlugu#yenidenBaslat(long)});
+ * görüntünün kapsadığı kayıtlar diskte tutulmaz ve günlük dosyası görüntü eşiği civarında sınırlı kalır.
+ * </p>
+ * <p>
+ * Dört servis ortak bir {@link DegisiklikKilidi} ile bağlanır. Görüntü alınırken bu kilit özel modda
+ * tutulur; servis değişiklikleri görüntü bitene kadar bekler. Böylece görüntü ve içerdiği günlük konumu,
+ * başka iş parçacıkları (örn. HTTP API) değişiklik yaparken de birbiriyle tutarlı kalır.
+ * </p>
+ */
+public final class Kalicilik implements Closeable {
+
+    /** Varsayılan olarak yeni görüntü alınmadan önce günlüğün büyüyebileceği bayt miktarı. */
+    private static final long VARSAYILAN_GORUNTU_ESIGI = 64L * 1024 * 1024;
+    /** Görüntü eşiğinin arka planda varsayılan olarak kaç milisaniyede bir kontrol edileceği. */
+    private static final long VARSAYILAN_KONTROL_ARALIGI = 60_000;
+
+    private final Path goruntuDosyasi;
+    private final IslemGunlugu gunluk;
+    private final long goruntuEsigi;
+    private final ScheduledExecutorService zamanlayici;
+
+    private final BolumService bolumService;
+    private final DersService dersService;
+    private final OgrenciService ogrenciService;
+    private final GpaService gpaService;
+
+    /** Servislerin değişiklik yaparken paylaşımlı tuttuğu, görüntü alınırken özel olarak alınan kilit. */
+    private final DegisiklikKilidi degisiklikKilidi = new DegisiklikKilidi();
+
+    /** Son anlık görüntünün karşılık geldiği günlük konumu. */
+    private volatile long sonGoruntuKonumu;
+    /** Açılışta görüntüden sonra oynatılan günlük kaydı sayısı. */
+    private int oynatilanKayit;
+    /** Açılışta anlık görüntünün yüklenip yüklenmediği. */
+    private boolean goruntuYuklendi;
+
+    /**
+     * Varsayılan görüntü eşiği ve kontrol aralığıyla verileri yükler ve günlüğü servislere bağlar.
+     *
+     * @see #Kalicilik(Path, Path, long, long, BolumService, DersService, OgrenciService, GpaService)
+     */
+    public Kalicilik(Path gunlukDosyasi, Path goruntuDosyasi, BolumService bolumService, DersService dersService,
+                     OgrenciService ogrenciService, GpaService gpaService) throws IOException {
+        this(gunlukDosyasi, goruntuDosyasi, VARSAYILAN_GORUNTU_ESIGI, VARSAYILAN_KONTROL_ARALIGI,
+                bolumService, dersService, ogrenciService, gpaService);
+    }
+
+    /**
+     * Anlık görüntüyü ve ardından günlüğün kalan kısmını boş servislere yükler, sonra günlüğü servislere bağlar.
+     * <p>
+     * Oynatılan günlük kısmı eşiği aşıyorsa bir sonraki açılışı hızlandırmak için hemen yeni bir görüntü alınır.
+     * </p>
+     *
+     * @param gunlukDosyasi  İşlem günlüğü dosyası.
+     * @param goruntuDosyasi Anlık görüntü dosyası.
+     * @param goruntuEsigi   Yeni görüntü alınmadan önce günlüğün büyüyebileceği bayt miktarı.
+     * @param kontrolAraligi Eşiğin arka planda kaç milisaniyede bir kontrol edileceği; 0 verilirse
+     *                       yalnızca {@link #gerekirseAnlikGoruntuAl()} çağrıldığında kontrol edilir.
+     * @throws IOException Günlük veya görüntü okunamazsa.
+     */
+    public Kalicilik(Path gunlukDosyasi, Path goruntuDosyasi, long goruntuEsigi, long kontrolAraligi,
+                     BolumService bolumService, DersService dersService, OgrenciService ogrenciService,
+                     GpaService gpaService) throws IOException {
+        this.goruntuDosyasi = goruntuDosyasi;
+        this.goruntuEsigi = goruntuEsigi;
+        this.bolumService = bolumService;
+        this.dersService = dersService;
+        this.ogrenciService = ogrenciService;
+        this.gpaService = gpaService;
+        bolumService.setDegisiklikKilidi(degisiklikKilidi);
+        dersService.setDegisiklikKilidi(degisiklikKilidi);
+        ogrenciService.setDegisiklikKilidi(degisiklikKilidi);
+        gpaService.setDegisiklikKilidi(degisiklikKilidi);
+
+        this.gunluk = new IslemGunlugu(gunlukDosyasi);
+        try {
+            long konum = AnlikGoruntu.yukle(goruntuDosyasi, bolumService, dersService, ogrenciService, gpaService);
+            goruntuYuklendi = konum >= 0;
+            sonGoruntuKonumu = Math.max(konum, gunluk.ilkKayitKonumu());
+            oynatilanKayit = gunluk.oynat(sonGoruntuKonumu, bolumService, dersService, ogrenciService, gpaService);
+            if (gunluk.konum() < sonGoruntuKonumu) {
+                // Günlük görüntüden geride (örn. silinmiş); yeni kayıtlar görüntünün konumundan sonra yazılmalıdır,
+                // aksi halde sonraki açılışta oynatılmazlar.
+                gunluk.yenidenBaslat(sonGoruntuKonumu);
+            }
+            gunluk.baglan(bolumService, dersService, ogrenciService, gpaService);
+        } catch (IOException e) {
+            gunluk.close();
+            throw e;
+        }
+
+        gerekirseAnlikGoruntuAl();
+
+        if (kontrolAraligi > 0) {
+            this.zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "anlik-goruntu-kontrolu");
+                t.setDaemon(true);
+                return t;
+            });
+            zamanlayici.scheduleWithFixedDelay(this::arkaPlanKontrolu,
+                    kontrolAraligi, kontrolAraligi, TimeUnit.MILLISECONDS);
+        } else {
+            this.zamanlayici = null;
+        }
+    }
+
+    /**
+     * Açılışta anlık görüntünün yüklenip yüklenmediğini döndürür.
+     */
+    public boolean goruntuYuklendiMi() {
+        return goruntuYuklendi;
+    }
+
+    /**
+     * Açılışta görüntüden sonra günlükten oynatılan kayıt sayısını döndürür.
+     */
+    public int getOynatilanKayit() {
+        return oynatilanKayit;
+    }
+
+    /**
+     * Servislerin mevcut durumunun anlık görüntüsünü alır.
+     * <p>
+     * Görüntü boyunca servis değişiklikleri durdurulur; devam eden değişikliklerin bitmesi beklenir ve yenileri
+     * görüntü yazılana kadar bekletilir. Görüntüye yazılan günlük konumunun diskte kalıcı olduğundan emin olmak
+     * için günlük önce senkronize edilir.
+     * </p>
+     *
+     * @throws IOException Görüntü yazılamazsa.
+     */
+    public void anlikGoruntuAl() throws IOException {
+        Lock dondurma = degisiklikKilidi.dondurma();
+        dondurma.lock();
+        try {
+            goruntuYaz();
+        } finally {
+            dondurma.unlock();
+        }
+    }
+
+    /**
+     * Değişiklikler durdurulmuşken günlüğü senkronize eder, görüntüyü yazar ve görüntünün kapsadığı günlüğü boşaltır.
+     */
+    private void goruntuYaz() throws IOException {
+        gunluk.senkronize();
+        long konum = gunluk.konum();
+        AnlikGoruntu.yaz(goruntuDosyasi, konum, bolumService, dersService, ogrenciService, gpaService);
+        sonGoruntuKonumu = konum;
+        gunluk.yenidenBaslat(konum);
+    }
+
+    /**
+     * Günlük son görüntüden bu yana eşikten fazla büyüdüyse yeni bir anlık görüntü alır.
+     *
+     * @return Görüntü alındıysa true.
+     * @throws IOException Görüntü yazılamazsa.
+     */
+    public boolean gerekirseAnlikGoruntuAl() throws IOException {
+        if (gunluk.konum() - sonGoruntuKonumu < goruntuEsigi) {
+            return false;
+        }
+
+        Lock dondurma = degisiklikKilidi.dondurma();
+        dondurma.lock();
+        try {
+            // Kilit beklenirken başka bir iş parçacığı görüntüyü almış olabilir.
+            if (gunluk.konum() - sonGoruntuKonumu < goruntuEsigi) {
+                return false;
+            }
+            goruntuYaz();
+            return true;
+        } finally {
+            dondurma.unlock();
+        }
+    }
+
+    private void arkaPlanKontrolu() {
+        try {
+            gerekirseAnlikGoruntuAl();
+        } catch (IOException e) {
+            System.out.println("Uyarı: Anlık görüntü alınamadı. (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Arka plan kontrolünü durdurur, son görüntüden sonra değişiklik yapıldıysa yeni bir görüntü alır ve günlüğü kapatır.
+     *
+     * @throws IOException Görüntü yazılamaz veya günlük kapatılamazsa.
+     */
+    @Override
+    public void close() throws IOException {
+        if (zamanlayici != null) {
+            // Kesme (interrupt) sürmekte olan bir görüntünün dosya kanallarını kapatacağından yalnızca beklenir.
+            zamanlayici.shutdown();
+            try {
+                zamanlayici.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            if (gunluk.konum() > sonGoruntuKonumu) {
+                anlikGoruntuAl();
+            }
+        } finally {
+            gunluk.close();
+        }
+    }
+}
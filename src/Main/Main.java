@@ -1,10 +1,18 @@
 package Main;
 
+import Api.ApiSunucusu;
+import Depolama.Kalicilik;
 import Menu.AnaMenu;
+import Metrik.Metrikler;
 import Service.BolumService;
 import Service.DersService;
 import Service.GpaService;
 import Service.OgrenciService;
+import Service.SeritliNotDeposu;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Paths;
 
 /**
  * Programın giriş noktası (main sınıfı).
@@ -14,18 +22,91 @@ import Service.OgrenciService;
  */
 public class Main {
 
+    /** Tüm değişikliklerin kaydedildiği işlem günlüğü dosyası. */
+    private static final String GUNLUK_DOSYASI = "obs.wal";
+    /** Açılışı hızlandırmak için servis durumunun periyodik olarak yazıldığı anlık görüntü dosyası. */
+    private static final String GORUNTU_DOSYASI = "obs.snapshot";
+    /** {@code --api} argümanında port belirtilmezse HTTP API'nin dinleyeceği port. */
+    private static final int VARSAYILAN_API_PORTU = 8080;
+
     /**
      * Programın başlangıç metodu.
      * <p>
-     * Servis katmanlarını başlatır ve AnaMenu'yü çalıştırır.
+     * Servis katmanlarını başlatır, önceki oturumlardan kalan verileri anlık görüntüden ve işlem
+     * günlüğünden yükler ve AnaMenu'yü çalıştırır. Günlük büyüdükçe arka planda periyodik olarak yeni
+     * anlık görüntüler alınır. Program kapanırken bekleyen günlük kayıtları diske yazılır ve yeni bir
+     * anlık görüntü alınır.
+     * </p>
+     * <p>
+     * {@code --api} veya {@code --api=<port>} argümanıyla başlatılırsa servisler, menüyle birlikte
+     * bir HTTP API üzerinden de sunulur. API varsayılan olarak yalnızca yerel makineden erişilebilir;
+     * başka bir arayüzü dinlemesi için adres {@code --api-adres=<adres>} ile açıkça verilmelidir
+     * (örn. tüm arayüzler için {@code --api-adres=0.0.0.0}). Bu durumda notlar, eş zamanlı not girişine uygun
+     * {@link SeritliNotDeposu} içinde tutulur. Menü işlemlerinden sonra alınan anlık görüntüler
+     * sırasında API üzerinden gelen değişiklikler görüntü yazılana kadar bekletilir.
+     * </p>
+     * <p>
+     * Servis işlemlerinin çağrı sayıları ve süre yüzdelikleri JMX üzerinden yayınlanır
+     * ({@code OgrenciBilgiSistemi} alanı altında; JConsole veya VisualVM ile izlenebilir).
+     * </p>
+     * <p>
+     * Not değişiklikleri, GPA hesaplamaları, sıralamalar ve dışa aktarımlar Java Flight Recorder olayı
+     * olarak da üretilir. Her olay türü ayrı ayrı açılıp kapatılabilir, örneğin:
+     * {@code -XX:StartFlightRecording:filename=obs.jfr,OgrenciBilgiSistemi.GpaHesaplama#enabled=true}
      * </p>
      */
     public static void main(String[] args) {
 
+        int apiPortu = -1;
+        String apiAdresi = null;
+        for (String arg : args) {
+            if (arg.equals("--api")) {
+                apiPortu = VARSAYILAN_API_PORTU;
+            } else if (arg.startsWith("--api=")) {
+                try {
+                    apiPortu = Integer.parseInt(arg.substring("--api=".length()));
+                } catch (NumberFormatException e) {
+                    System.out.println("Uyarı: Geçersiz API portu, varsayılan port kullanılacak.");
+                    apiPortu = VARSAYILAN_API_PORTU;
+                }
+            } else if (arg.startsWith("--api-adres=")) {
+                apiAdresi = arg.substring("--api-adres=".length());
+            }
+        }
+
+        Metrikler.jmxYayinla();
+
         OgrenciService ogrenciService = new OgrenciService();
         DersService dersService = new DersService();
         BolumService bolumService = new BolumService();
-        GpaService gpaService = new GpaService();
+        GpaService gpaService = apiPortu >= 0 ? new GpaService(new SeritliNotDeposu()) : new GpaService();
+
+        Kalicilik kalicilik = null;
+        try {
+            kalicilik = new Kalicilik(Paths.get(GUNLUK_DOSYASI), Paths.get(GORUNTU_DOSYASI),
+                    bolumService, dersService, ogrenciService, gpaService);
+            if (kalicilik.goruntuYuklendiMi()) {
+                System.out.println("Veriler anlık görüntüden yüklendi.");
+            }
+            if (kalicilik.getOynatilanKayit() > 0) {
+                System.out.println(kalicilik.getOynatilanKayit() + " işlem kaydı günlükten yüklendi.");
+            }
+        } catch (IOException e) {
+            System.out.println("Uyarı: İşlem günlüğü açılamadı, değişiklikler kalıcı olmayacak. (" + e.getMessage() + ")");
+        }
+
+        ApiSunucusu api = null;
+        if (apiPortu >= 0) {
+            try {
+                InetAddress adres = apiAdresi != null ? InetAddress.getByName(apiAdresi) : InetAddress.getLoopbackAddress();
+                api = new ApiSunucusu(adres, apiPortu, bolumService, dersService, ogrenciService, gpaService);
+                api.baslat();
+                String sunucuAdi = adres.isLoopbackAddress() ? "localhost" : adres.getHostAddress();
+                System.out.println("HTTP API http://" + sunucuAdi + ":" + api.getPort() + "/api adresinde çalışıyor.");
+            } catch (IOException e) {
+                System.out.println("Uyarı: HTTP API başlatılamadı. (" + e.getMessage() + ")");
+            }
+        }
 
         AnaMenu anaMenu = new AnaMenu(
                 ogrenciService,
@@ -34,6 +115,31 @@ public class Main {
                 gpaService
         );
 
+        if (kalicilik != null) {
+            Kalicilik k = kalicilik;
+            // API modunda da güvenlidir: görüntü alınırken Kalicilik servis değişikliklerini durdurur,
+            // API isteklerinin yazmaları görüntü yazılana kadar bekler.
+            anaMenu.setIslemSonrasi(() -> {
+                try {
+                    k.gerekirseAnlikGoruntuAl();
+                } catch (IOException e) {
+                    System.out.println("Uyarı: Anlık görüntü alınamadı. (" + e.getMessage() + ")");
+                }
+            });
+        }
+
         anaMenu.baslat();
+
+        if (api != null) {
+            api.close();
+        }
+
+        if (kalicilik != null) {
+            try {
+                kalicilik.close();
+            } catch (IOException e) {
+                System.out.println("Hata: İşlem günlüğü kapatılırken bir sorun oluştu.");
+            }
+        }
     }
 }
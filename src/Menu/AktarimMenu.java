@@ -0,0 +1,136 @@
+package Menu;
+
+import Aktarim.AktarimRaporu;
+import Aktarim.TopluAktarici;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+import Util.ConsoleUtil;
+import Util.InputUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * CSV dosyalarından toplu veri aktarımı için kullanıcı arayüzünü (alt menü) yöneten sınıf.
+ * <p>
+ * Kullanıcı aktarılacak kayıt türünü ve dosya yolunu seçer; aktarım {@link TopluAktarici}
+ * üzerinden yapılır. Reddedilen satırlar varsa kaynak dosyanın yanına bir red raporu yazılır.
+ * </p>
+ */
+public class AktarimMenu {
+
+    private final TopluAktarici aktarici;
+
+    /**
+     * AktarimMenu nesnesi oluşturur.
+     *
+     * @param bolumService   Bölüm verilerini yöneten servis.
+     * @param dersService    Ders verilerini yöneten servis.
+     * @param ogrenciService Öğrenci verilerini yöneten servis.
+     * @param gpaService     Not ve GPA işlemlerini yöneten servis.
+     */
+    public AktarimMenu(BolumService bolumService, DersService dersService,
+                       OgrenciService ogrenciService, GpaService gpaService) {
+        this.aktarici = new TopluAktarici(bolumService, dersService, ogrenciService, gpaService);
+    }
+
+    /**
+     * Toplu aktarım menü döngüsünü başlatır. Kullanıcı "geri" yazana kadar devam eder.
+     */
+    public void baslat() {
+        while (true) {
+            menuYazdir();
+
+            String secim = InputUtil.readString("Seçiminiz: ");
+
+            if (secim.equalsIgnoreCase("geri")) {
+                return;
+            }
+
+            try {
+                int secimNo = Integer.parseInt(secim);
+
+                if (secimNo >= 1 && secimNo <= 4) {
+                    aktar(secimNo);
+                } else {
+                    System.out.println("Geçersiz seçim! Lütfen menüdeki rakamlardan birini giriniz.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Hata: Lütfen geçerli bir seçim (rakam veya 'geri') yapınız!");
+            }
+
+            ConsoleUtil.waitForEnter();
+        }
+    }
+
+    /**
+     * Toplu aktarım seçeneklerini görsel bir çerçeve içinde ekrana yazdırır.
+     */
+    private void menuYazdir() {
+        System.out.println("+---------------------------------------+");
+        System.out.println("|          TOPLU VERİ AKTARIMI          |");
+        System.out.println("+---------------------------------------+");
+        System.out.println("|   1 - Bölümleri Aktar (CSV)           |");
+        System.out.println("|   2 - Dersleri Aktar (CSV)            |");
+        System.out.println("|   3 - Öğrencileri Aktar (CSV)         |");
+        System.out.println("|   4 - Notları Aktar (CSV)             |");
+        System.out.println("+---------------------------------------+");
+        System.out.println("|   geri - Ana Menüye Dön               |");
+        System.out.println("+---------------------------------------+");
+    }
+
+    /**
+     * Seçilen türdeki kayıtları kullanıcının girdiği dosyadan aktarır ve sonucu raporlar.
+     *
+     * @param tur 1: Bölüm, 2: Ders, 3: Öğrenci, 4: Not.
+     */
+    private void aktar(int tur) {
+        switch (tur) {
+            case 1 -> System.out.println("Sütunlar: ad, webSayfasi, kurulusTarihi (gg.aa.yyyy)");
+            case 2 -> System.out.println("Sütunlar: ad, kod, akts");
+            case 3 -> System.out.println("Sütunlar: isim, soyisim, ogrenciNo, dogumTarihi (gg.aa.yyyy), bolumAdi");
+            default -> System.out.println("Sütunlar: ogrenciNo, dersKodu, puan (0-100)");
+        }
+
+        Path dosya = Paths.get(InputUtil.readString("CSV dosya yolu: "));
+        if (!Files.isRegularFile(dosya)) {
+            System.out.println("Hata: Dosya bulunamadı.");
+            return;
+        }
+
+        AktarimRaporu rapor;
+        long baslangic = System.nanoTime();
+        try {
+            rapor = switch (tur) {
+                case 1 -> aktarici.bolumleriAktar(dosya);
+                case 2 -> aktarici.dersleriAktar(dosya);
+                case 3 -> aktarici.ogrencileriAktar(dosya);
+                default -> aktarici.notlariAktar(dosya);
+            };
+        } catch (IOException e) {
+            System.out.println("Hata: Dosya okunamadı. (" + e.getMessage() + ")");
+            return;
+        }
+        long sure = (System.nanoTime() - baslangic) / 1_000_000;
+
+        System.out.println(rapor.getEklenen() + " kayıt eklendi, " + rapor.getReddedilen()
+                + " satır reddedildi (" + sure + " ms).");
+
+        if (rapor.getReddedilen() > 0) {
+            Path raporDosyasi = dosya.resolveSibling(dosya.getFileName() + ".red.csv");
+            try {
+                rapor.yaz(raporDosyasi);
+                System.out.println("Reddedilen satırlar " + raporDosyasi + " dosyasına yazıldı.");
+                if (rapor.getReddedilen() > rapor.getRedler().size()) {
+                    System.out.println("Uyarı: Yalnızca ilk " + rapor.getRedler().size() + " reddedilen satır rapora alındı.");
+                }
+            } catch (IOException e) {
+                System.out.println("Hata: Red raporu yazılamadı. (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
@@ -10,7 +10,7 @@ import Util.InputUtil;
 /**
  * Programın ana kullanıcı arayüzünü (konsol menüsü) yöneten sınıf.
  * <p>
- * Bu sınıf, kullanıcıya Bölüm, Öğrenci, Ders ve Not/GPA işlemlerine erişim sağlayan
+ * Bu sınıf, kullanıcıya Bölüm, Öğrenci, Ders, Not/GPA işlemlerine ve CSV dosyalarından toplu veri aktarımına erişim sağlayan
  * merkezi bir kontrol noktası sunar. Kullanıcının girdiği komutlara göre ilgili alt menüleri (BolumMenu, OgrenciMenu vb.) başlatır.
  * </p>
  */
@@ -21,6 +21,9 @@ public class AnaMenu {
     private final BolumService bolumService;
     private final GpaService gpaService;
 
+    /** Her ana menü işleminden sonra çalıştırılacak görev (örn. periyodik anlık görüntü). */
+    private Runnable islemSonrasi = () -> { };
+
     /**
      * AnaMenu nesnesi oluşturur ve gerekli servisleri iletir.
      *
@@ -36,6 +39,15 @@ public class AnaMenu {
         this.gpaService = gpaService;
     }
 
+    /**
+     * Her ana menü işleminden sonra çalıştırılacak görevi belirler.
+     *
+     * @param islemSonrasi Çalıştırılacak görev.
+     */
+    public void setIslemSonrasi(Runnable islemSonrasi) {
+        this.islemSonrasi = islemSonrasi;
+    }
+
     /**
      * Ana menü seçeneklerini görsel bir formatta konsola yazdırır.
      */
@@ -47,6 +59,7 @@ public class AnaMenu {
         System.out.println("|   2 - Öğrenci İşlemleri               |");
         System.out.println("|   3 - Ders İşlemleri                  |");
         System.out.println("|   4 - Not / GPA İşlemleri             |");
+        System.out.println("|   5 - Toplu Veri Aktarımı (CSV)       |");
         System.out.println("+---------------------------------------+");
         System.out.println("|   son - Programı Bitir                |");
         System.out.println("+---------------------------------------+");
@@ -81,11 +94,14 @@ public class AnaMenu {
                         new OgrenciMenu(ogrenciService, bolumService, gpaService).baslat();
                         break;
                     case 3:
-                        new DersMenu(dersService).baslat();
+                        new DersMenu(dersService, gpaService).baslat();
                         break;
                     case 4:
                         new GpaMenu(gpaService, ogrenciService, dersService).baslat();
                         break;
+                    case 5:
+                        new AktarimMenu(bolumService, dersService, ogrenciService, gpaService).baslat();
+                        break;
                     default:
                         System.out.println("Geçersiz seçim! Lütfen listedeki rakamlardan birini giriniz.");
                 }
@@ -93,6 +109,7 @@ public class AnaMenu {
                 System.out.println("Hata: Lütfen geçerli bir seçim yapınız!");
             }
 
+            islemSonrasi.run();
             ConsoleUtil.waitForEnter();
         }
     }
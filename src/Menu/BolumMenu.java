@@ -1,10 +1,12 @@
 package Menu;
 
 import Model.Bolum;
+import Model.Ogrenci;
 import Service.BolumService;
 import Service.OgrenciService;
 import Util.ConsoleUtil;
 import Util.InputUtil;
+import Util.Sayfa;
 import Util.DateUtil;
 
 import java.time.LocalDate;
@@ -63,6 +65,9 @@ public class BolumMenu {
                     case 3:
                         bolumListele();
                         break;
+                    case 4:
+                        bolumOgrencileriniListele();
+                        break;
                     default:
                         System.out.println("Geçersiz seçim! Lütfen menüdeki rakamlardan birini kullanın.");
                 }
@@ -84,6 +89,7 @@ public class BolumMenu {
         System.out.println("|   1 - Bölüm Ekle                      |");
         System.out.println("|   2 - Bölüm Sil                       |");
         System.out.println("|   3 - Bölümleri Listele               |");
+        System.out.println("|   4 - Bölüm Öğrencilerini Listele     |");
         System.out.println("+---------------------------------------+");
         System.out.println("|   geri - Ana Menüye Dön               |");
         System.out.println("+---------------------------------------+");
@@ -136,37 +142,45 @@ public class BolumMenu {
     private void bolumSil() {
         String ad = InputUtil.readString("Silinecek bölüm adı: ");
 
-        boolean ogrenciVarMi = ogrenciService.ogrenciListele().stream()
-                .anyMatch(o -> o.getBolum().getAd().equalsIgnoreCase(ad));
-
-        if (ogrenciVarMi) {
-            System.out.println("Hata: Bu bölüme kayıtlı öğrenciler var! Önce öğrencileri silmeli veya başka bölüme taşımalısınız.");
-        } else {
-            if (bolumService.bolumSil(ad)) {
-                System.out.println("Bölüm başarıyla silindi.");
-            } else {
-                System.out.println("Bölüm bulunamadı.");
-            }
+        switch (bolumService.bosBolumuSil(ad, ogrenciService)) {
+            case KULLANIMDA -> System.out.println("Hata: Bu bölüme kayıtlı öğrenciler var! Önce öğrencileri silmeli veya başka bölüme taşımalısınız.");
+            case BULUNAMADI -> System.out.println("Bölüm bulunamadı.");
+            default -> System.out.println("Bölüm başarıyla silindi.");
         }
     }
 
     /**
-     * Sistemde kayıtlı olan tüm bölümleri detaylı bir şekilde listeler.
+     * Sistemde kayıtlı olan bölümleri ad sırasıyla, sayfa sayfa listeler.
      */
     private void bolumListele() {
-        List<Bolum> bolumler = bolumService.bolumListele();
+        ConsoleUtil.printPaged(imlec -> bolumService.bolumSayfasi(imlec, Sayfa.VARSAYILAN_BOYUT),
+                bolum -> System.out.println(bolum.getAd() + " | " + bolum.getWebSayfasi() + " | Kuruluş: "
+                        + DateUtil.formatDate(bolum.getKurulusTarihi())),
+                "Kayıtlı bölüm bulunmamaktadır.");
+    }
 
-        if (bolumler.isEmpty()) {
-            System.out.println("Kayıtlı bölüm bulunmamaktadır.");
+    /**
+     * Seçilen bölüme kayıtlı öğrencileri listeler.
+     */
+    private void bolumOgrencileriniListele() {
+        String ad = InputUtil.readString("Bölüm adı: ");
+        Bolum bolum = bolumService.bolumAra(ad);
+        if (bolum == null) {
+            System.out.println("Hata: Bölüm bulunamadı.");
+            return;
+        }
+
+        List<Ogrenci> ogrenciler = ogrenciService.bolumOgrencileri(bolum.getAd());
+        if (ogrenciler.isEmpty()) {
+            System.out.println("Bu bölüme kayıtlı öğrenci bulunmamaktadır.");
             return;
         }
 
         ConsoleUtil.printLine();
-        for (Bolum bolum : bolumler) {
-            System.out.println("Bölüm Adı      : " + bolum.getAd());
-            System.out.println("Web Sayfası   : " + bolum.getWebSayfasi());
-            System.out.println("Kuruluş Tarihi: " + DateUtil.formatDate(bolum.getKurulusTarihi()));
-            ConsoleUtil.printLine();
+        for (Ogrenci ogrenci : ogrenciler) {
+            System.out.println(ogrenci.getOgrenciNo() + " - " + ogrenci.getIsim() + " " + ogrenci.getSoyisim());
         }
+        ConsoleUtil.printLine();
+        System.out.println(bolum.getAd() + " bölümünde toplam " + ogrenciler.size() + " öğrenci kayıtlı.");
     }
-}
\ No newline at end of file
+}
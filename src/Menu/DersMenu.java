@@ -2,10 +2,10 @@ package Menu;
 
 import Model.Ders;
 import Service.DersService;
+import Service.GpaService;
 import Util.ConsoleUtil;
 import Util.InputUtil;
-
-import java.util.List;
+import Util.Sayfa;
 
 /**
  * Ders işlemlerine ait kullanıcı arayüzünü (alt menü) yöneten sınıf.
@@ -23,12 +23,19 @@ public class DersMenu {
     private final DersService dersService;
 
     /**
-     * DersMenu nesnesi oluşturur ve gerekli servis ile bağlantı kurar.
+     * Silinecek derse ait not olup olmadığını kontrol etmek için kullanılan servis.
+     */
+    private final GpaService gpaService;
+
+    /**
+     * DersMenu nesnesi oluşturur ve gerekli servislerle bağlantı kurar.
      *
      * @param dersService Ders işlemlerini yöneten servis katmanı.
+     * @param gpaService  Not işlemlerini yöneten servis katmanı.
      */
-    public DersMenu(DersService dersService) {
+    public DersMenu(DersService dersService, GpaService gpaService) {
         this.dersService = dersService;
+        this.gpaService = gpaService;
     }
 
     /**
@@ -117,39 +124,31 @@ public class DersMenu {
 
     /**
      * Kullanıcıdan alınan ders koduna göre dersi sistemden siler.
-     * * @see DersService#dersSil(String)
+     * <p>
+     * Derse ait not kaydı varsa, notların sahipsiz kalmaması için silme işlemine izin vermez.
+     * </p>
+     * @see DersService#notuOlmayanDersiSil(String, GpaService)
      */
     private void dersSil() {
         String kod = InputUtil.readString("Silinecek ders kodu: ");
 
-        if (dersService.dersSil(kod)) {
-            System.out.println("Ders başarıyla silindi.");
-        } else {
-            System.out.println("Hata: Belirtilen kodla bir ders bulunamadı.");
+        switch (dersService.notuOlmayanDersiSil(kod, gpaService)) {
+            case KULLANIMDA -> System.out.println("Hata: Bu derse ait notlar var! Önce notları silmelisiniz.");
+            case BULUNAMADI -> System.out.println("Hata: Belirtilen kodla bir ders bulunamadı.");
+            default -> System.out.println("Ders başarıyla silindi.");
         }
     }
 
     /**
-     * Sistemde kayıtlı olan tüm dersleri listeler.
+     * Sistemde kayıtlı olan dersleri ders kodu sırasıyla, sayfa sayfa listeler.
      * <p>
      * Eğer sistemde kayıtlı ders yoksa kullanıcıyı bilgilendirir.
-     * Kayıtlar varsa her dersin Adı, Kodu ve AKTS bilgisini ekrana yansıtır.
+     * Kayıtlar varsa her dersin Kodu, Adı ve AKTS bilgisini tek satırda ekrana yansıtır.
      * </p>
      */
     private void dersListele() {
-        List<Ders> liste = dersService.dersListele();
-
-        if (liste.isEmpty()) {
-            System.out.println("Sistemde henüz kayıtlı bir ders bulunmamaktadır.");
-            return;
-        }
-
-        ConsoleUtil.printLine();
-        for (Ders ders : liste) {
-            System.out.println("Ders Adı : " + ders.getAd());
-            System.out.println("Ders Kodu: " + ders.getKod());
-            System.out.println("AKTS     : " + ders.getAkts());
-            ConsoleUtil.printLine();
-        }
+        ConsoleUtil.printPaged(imlec -> dersService.dersSayfasi(imlec, Sayfa.VARSAYILAN_BOYUT),
+                ders -> System.out.println(ders.getKod() + " - " + ders.getAd() + " | AKTS: " + ders.getAkts()),
+                "Sistemde henüz kayıtlı bir ders bulunmamaktadır.");
     }
 }
\ No newline at end of file
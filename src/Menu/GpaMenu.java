@@ -1,17 +1,29 @@
 package Menu;
 
+import Aktarim.DisaAktarimFormati;
+import Aktarim.SiralamaDisaAktarici;
 import Model.Ders;
+import Model.HarfNotu;
 import Model.Ogrenci;
 import Service.DersService;
 import Service.GpaService;
+import Service.BolumIstatistigi;
+import Service.GpaSiralamasi;
+import Service.IstatistikService;
+import Service.NotDagilimi;
 import Service.OgrenciService;
+import Service.SiralamaService;
+import Service.TopluNotSonucu;
 import Util.ConsoleUtil;
 import Util.InputUtil;
+import Util.Sayfa;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.ArrayList;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,6 +41,10 @@ public class GpaMenu {
     private final OgrenciService ogrenciService;
     /** Ders bilgilerine erişim sağlayan servis. */
     private final DersService dersService;
+    /** GPA başarı sıralamasını oluşturan servis. */
+    private final SiralamaService siralamaService;
+    /** Bölüm istatistiklerini hesaplayan servis. */
+    private final IstatistikService istatistikService;
 
     /**
      * GpaMenu nesnesi oluşturur ve gerekli servis bağımlılıklarını enjekte eder.
@@ -43,6 +59,8 @@ public class GpaMenu {
         this.gpaService = gpaService;
         this.ogrenciService = ogrenciService;
         this.dersService = dersService;
+        this.siralamaService = new SiralamaService(gpaService);
+        this.istatistikService = new IstatistikService(ogrenciService, gpaService);
     }
 
     /**
@@ -70,6 +88,9 @@ public class GpaMenu {
                     case 4 -> gpaHesapla();
                     case 5 -> ogrencininDersleriniListele();
                     case 6 -> gpaSiraliListeleVeKaydet();
+                    case 7 -> topluNotGirisi();
+                    case 8 -> bolumIstatistikleri();
+                    case 9 -> dersNotDagilimi();
                     default -> System.out.println("Geçersiz seçim! Lütfen menüdeki rakamlardan birini kullanın.");
                 }
             } catch (NumberFormatException e) {
@@ -93,6 +114,9 @@ public class GpaMenu {
         System.out.println("|   4 - GPA Hesapla                     |");
         System.out.println("|   5 - Öğrencinin Aldığı Dersler       |");
         System.out.println("|   6 - GPA Sıralı Liste + Dosya        |");
+        System.out.println("|   7 - Toplu Not Girişi (Çizelge)      |");
+        System.out.println("|   8 - Bölüm İstatistikleri            |");
+        System.out.println("|   9 - Ders Not Dağılımı               |");
         System.out.println("+---------------------------------------+");
         System.out.println("|   geri - Ana Menüye Dön               |");
         System.out.println("+---------------------------------------+");
@@ -148,6 +172,113 @@ public class GpaMenu {
         }
     }
 
+    /**
+     * Bir dersin not çizelgesini satır satır alır ve tek seferde sisteme ekler.
+     * <p>
+     * Her satır "öğrenciNo puan" biçiminde girilir; boş satır çizelgeyi bitirir. Eklenemeyen
+     * satırlar sebepleriyle birlikte listelenir.
+     * </p>
+     */
+    private void topluNotGirisi() {
+        String dersKodu = InputUtil.readString("Ders Kodu: ");
+        Ders ders = dersService.dersAra(dersKodu);
+        if (ders == null) {
+            System.out.println("Hata: Ders bulunamadı.");
+            return;
+        }
+
+        System.out.println("Her satıra 'öğrenciNo puan' giriniz (bitirmek için boş satır):");
+        int[] nolar = new int[16];
+        int[] puanlar = new int[16];
+        int adet = 0;
+        while (true) {
+            String satir = InputUtil.readString((adet + 1) + ". satır: ");
+            if (satir.isEmpty()) {
+                break;
+            }
+            String[] alanlar = satir.split("\\s+");
+            try {
+                if (alanlar.length != 2) {
+                    throw new NumberFormatException();
+                }
+                int no = Integer.parseInt(alanlar[0]);
+                int puan = Integer.parseInt(alanlar[1]);
+                if (adet == nolar.length) {
+                    nolar = Arrays.copyOf(nolar, adet * 2);
+                    puanlar = Arrays.copyOf(puanlar, adet * 2);
+                }
+                nolar[adet] = no;
+                puanlar[adet] = puan;
+                adet++;
+            } catch (NumberFormatException e) {
+                System.out.println("Hata: Satır 'öğrenciNo puan' biçiminde olmalıdır!");
+            }
+        }
+
+        if (adet == 0) {
+            System.out.println("Çizelge boş, işlem yapılmadı.");
+            return;
+        }
+
+        TopluNotSonucu[] sonuclar = gpaService.notEkleToplu(ders, Arrays.copyOf(nolar, adet),
+                Arrays.copyOf(puanlar, adet), ogrenciService::ogrenciAra);
+        int eklenen = 0;
+        for (int i = 0; i < sonuclar.length; i++) {
+            if (sonuclar[i] == TopluNotSonucu.EKLENDI) {
+                eklenen++;
+            } else {
+                System.out.println((i + 1) + ". satır (" + nolar[i] + "): " + sonuclar[i].getAciklama());
+            }
+        }
+        System.out.println(eklenen + " / " + adet + " not " + ders.getKod() + " dersine eklendi.");
+    }
+
+    /**
+     * Her bölümün öğrenci sayısı, GPA ortalaması, medyanı, standart sapması ve kazanılan AKTS toplamını listeler.
+     */
+    private void bolumIstatistikleri() {
+        List<BolumIstatistigi> istatistikler = istatistikService.bolumIstatistikleri();
+        if (istatistikler.isEmpty()) {
+            System.out.println("Bölümlere kayıtlı öğrenci bulunmamaktadır.");
+            return;
+        }
+
+        ConsoleUtil.printLine();
+        for (BolumIstatistigi ist : istatistikler) {
+            System.out.println("Bölüm            : " + ist.getBolum().getAd());
+            System.out.println("Öğrenci Sayısı   : " + ist.getOgrenciSayisi() + " (notu olan: " + ist.getNotluOgrenciSayisi() + ")");
+            System.out.printf("GPA Ort./Medyan  : %.2f / %.2f%n", ist.getOrtalamaGpa(), ist.getMedyanGpa());
+            System.out.printf("GPA Std. Sapma   : %.2f%n", ist.getStandartSapma());
+            System.out.println("Kazanılan AKTS   : " + ist.getKazanilanAkts());
+            ConsoleUtil.printLine();
+        }
+    }
+
+    /**
+     * Seçilen dersin AA..FF harf notu dağılımını ve geçen/kalan öğrenci sayılarını gösterir.
+     */
+    private void dersNotDagilimi() {
+        String dersKodu = InputUtil.readString("Ders Kodu: ");
+        Ders ders = dersService.dersAra(dersKodu);
+        if (ders == null) {
+            System.out.println("Hata: Ders bulunamadı.");
+            return;
+        }
+
+        NotDagilimi dagilim = gpaService.notDagilimi(ders);
+        if (dagilim.toplam() == 0) {
+            System.out.println("Bu derse ait not kaydı bulunmamaktadır.");
+            return;
+        }
+
+        ConsoleUtil.printLine();
+        for (byte kod = HarfNotu.AA; kod < HarfNotu.ADET; kod++) {
+            System.out.printf("%s : %d%n", HarfNotu.metin(kod), dagilim.adet(kod));
+        }
+        ConsoleUtil.printLine();
+        System.out.println("Geçen: " + dagilim.gecen() + " | Kalan: " + dagilim.kalan() + " | Toplam: " + dagilim.toplam());
+    }
+
     /**
      * Öğrencinin daha önce girilmiş bir ders notunu yenisiyle değiştirir.
      */
@@ -217,34 +348,58 @@ public class GpaMenu {
     }
 
     /**
-     * Tüm öğrencileri GPA değerlerine göre büyükten küçüğe sıralar ve 'sonuclar.txt' dosyasına kaydeder.
+     * Tüm öğrencileri GPA değerlerine göre büyükten küçüğe sıralar ve kullanıcının seçtiği formatta dosyaya kaydeder.
      * <p>
-     * Sıralama işlemi sırasında {@link GpaService#gpaHesapla(Ogrenci)} metodu kullanılır.
-     * Sonuçlar hem konsola basılır hem de kalıcı olarak dosyaya yazılır.
+     * Sıralama {@link SiralamaService} ile yapılır; her öğrencinin GPA değeri yalnızca bir kez
+     * hesaplanır ve eşit GPA'lar öğrenci numarasına göre sıralanır.
+     * Sonuçlar konsolda sayfa sayfa gösterilir ({@link ConsoleUtil#printPaged}) ve {@link SiralamaDisaAktarici} ile metin, CSV veya JSON Lines
+     * formatında dosyaya yazılır. Dosya yolu boş bırakılırsa formatın varsayılan dosyası kullanılır.
      * </p>
      */
     private void gpaSiraliListeleVeKaydet() {
-        List<Ogrenci> ogrenciler = new ArrayList<>(ogrenciService.ogrenciListele());
+        List<Ogrenci> ogrenciler = ogrenciService.ogrenciListele();
         if (ogrenciler.isEmpty()) {
             System.out.println("Sistemde sıralanacak öğrenci bulunmamaktadır.");
             return;
         }
 
-        ogrenciler.sort((a, b) -> Double.compare(
-                gpaService.gpaHesapla(b),
-                gpaService.gpaHesapla(a)));
+        GpaSiralamasi siralama = siralamaService.gpaSiralamasi(ogrenciler);
 
-        try (PrintWriter pw = new PrintWriter(new FileWriter("sonuclar.txt"))) {
-            System.out.println("\n--- GPA BAŞARI SIRALAMASI ---");
-            for (Ogrenci o : ogrenciler) {
-                String satir = o.getOgrenciNo() + " - " + o.getIsim() + " " + o.getSoyisim() +
-                        " | GPA: " + String.format("%.2f", gpaService.gpaHesapla(o));
-                System.out.println(satir);
-                pw.println(satir);
-            }
-            System.out.println("\nSonuçlar 'sonuclar.txt' dosyasına başarıyla kaydedildi.");
+        System.out.println("\n--- GPA BAŞARI SIRALAMASI ---");
+        ConsoleUtil.printPaged(imlec -> Sayfa.kes(i -> i, siralama.boyut(), imlec, Sayfa.VARSAYILAN_BOYUT), i -> {
+            Ogrenci o = siralama.ogrenci(i);
+            System.out.println(o.getOgrenciNo() + " - " + o.getIsim() + " " + o.getSoyisim() +
+                    " | GPA: " + String.format("%.2f", siralama.gpa(i)));
+        }, "Sistemde sıralanacak öğrenci bulunmamaktadır.");
+
+        DisaAktarimFormati format;
+        while (true) {
+            String secim = InputUtil.readString("\nDosya formatı (1 - Metin, 2 - CSV, 3 - JSON Lines): ");
+            format = switch (secim) {
+                case "1" -> DisaAktarimFormati.METIN;
+                case "2" -> DisaAktarimFormati.CSV;
+                case "3" -> DisaAktarimFormati.JSONL;
+                default -> null;
+            };
+            if (format != null) break;
+            System.out.println("Hata: Lütfen 1, 2 veya 3 giriniz!");
+        }
+
+        String yol = InputUtil.readString("Dosya yolu (boş bırakılırsa '" + format.getVarsayilanDosya() + "'): ");
+        Path dosya;
+        try {
+            dosya = Paths.get(yol.isEmpty() ? format.getVarsayilanDosya() : yol);
+        } catch (InvalidPathException e) {
+            System.out.println("Hata: Geçersiz dosya yolu.");
+            return;
+        }
+
+        try {
+            new SiralamaDisaAktarici(DecimalFormatSymbols.getInstance().getDecimalSeparator())
+                    .yaz(siralama, dosya, format);
+            System.out.println("\nSonuçlar '" + dosya + "' dosyasına başarıyla kaydedildi.");
         } catch (IOException e) {
             System.out.println("Hata: Dosya yazma işlemi sırasında bir sorun oluştu.");
         }
     }
-}
\ No newline at end of file
+}
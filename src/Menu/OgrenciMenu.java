@@ -4,10 +4,14 @@ import Model.Ogrenci;
 import Model.Bolum;
 import Service.GpaService;
 import Service.OgrenciService;
+import Service.OgrenciSorgusu;
+import Service.SorguPlani;
+import Service.SorguService;
 import Service.BolumService;
 import Util.ConsoleUtil;
 import Util.InputUtil;
 import Util.DateUtil;
+import Util.Sayfa;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -22,12 +26,17 @@ import java.util.List;
  */
 public class OgrenciMenu {
 
+    /** İsim aramasında listelenecek en fazla öğrenci sayısı. */
+    private static final int ISIM_ARAMA_SINIRI = 20;
+
     /** Öğrenci verilerini ve iş mantığını yöneten servis. */
     private final OgrenciService ogrenciService;
     /** Öğrenciye atanacak bölümlerin listelenmesi için kullanılan servis. */
     private final BolumService bolumService;
     /** Öğrenci silindiğinde notlarını temizlemek için kullanılan servis. */
     private final GpaService gpaService;
+    /** Çok ölçütlü öğrenci sorguları için kullanılan servis. */
+    private final SorguService sorguService;
 
     /**
      * OgrenciMenu nesnesi oluşturur ve gerekli servisleri aktarır.
@@ -40,6 +49,7 @@ public class OgrenciMenu {
         this.ogrenciService = ogrenciService;
         this.bolumService = bolumService;
         this.gpaService = gpaService;
+        this.sorguService = new SorguService(ogrenciService, gpaService);
     }
 
     /**
@@ -78,6 +88,9 @@ public class OgrenciMenu {
                     case 5:
                         ogrenciGuncelle();
                         break;
+                    case 6:
+                        ogrenciSorgula();
+                        break;
                     default:
                         System.out.println("Geçersiz seçim! Lütfen menüdeki rakamlardan birini giriniz.");
                 }
@@ -101,6 +114,7 @@ public class OgrenciMenu {
         System.out.println("|   3 - Öğrenci Ara                     |");
         System.out.println("|   4 - Öğrencileri Listele             |");
         System.out.println("|   5 - Öğrenci Güncelle                |");
+        System.out.println("|   6 - Öğrenci Sorgula                 |");
         System.out.println("+---------------------------------------+");
         System.out.println("|   geri - Ana Menüye Dön               |");
         System.out.println("+---------------------------------------+");
@@ -225,13 +239,9 @@ public class OgrenciMenu {
      */
     private void ogrenciSil() {
         int no = InputUtil.readInt("Silinecek öğrenci no: ");
-        Ogrenci ogrenci = ogrenciService.ogrenciAra(no);
 
-        if (ogrenci != null) {
-            gpaService.notlariTemizle(ogrenci);
-            if (ogrenciService.ogrenciSil(no)) {
-                System.out.println("Öğrenci ve ilgili tüm not kayıtları sistemden silindi.");
-            }
+        if (ogrenciService.ogrenciVeNotlariniSil(no, gpaService)) {
+            System.out.println("Öğrenci ve ilgili tüm not kayıtları sistemden silindi.");
         } else {
             System.out.println("Hata: Öğrenci bulunamadı.");
         }
@@ -239,10 +249,41 @@ public class OgrenciMenu {
 
     /**
      * Numarası girilen öğrencinin tüm detaylı bilgilerini ekrana yansıtır.
+     * <p>
+     * Numara yerine isim ve/veya soyisim girilirse isim araması yapılır; tek eşleşmede öğrencinin detayları,
+     * birden fazla eşleşmede kısa bir liste gösterilir. İsim araması küçük yazım hatalarını tolere eder.
+     * </p>
      */
     private void ogrenciAra() {
-        int no = InputUtil.readInt("Aranacak öğrenci no: ");
-        Ogrenci ogrenci = ogrenciService.ogrenciAra(no);
+        String giris = InputUtil.readString("Aranacak öğrenci no veya isim: ");
+        if (giris.isEmpty()) {
+            System.out.println("Hata: Öğrenci no veya isim giriniz.");
+            return;
+        }
+
+        Ogrenci ogrenci;
+        if (giris.chars().allMatch(Character::isDigit)) {
+            try {
+                ogrenci = ogrenciService.ogrenciAra(Integer.parseInt(giris));
+            } catch (NumberFormatException e) {
+                ogrenci = null;
+            }
+        } else {
+            List<Ogrenci> eslesenler = ogrenciService.isimAra(giris, ISIM_ARAMA_SINIRI);
+            if (eslesenler.size() > 1) {
+                ConsoleUtil.printLine();
+                for (Ogrenci eslesen : eslesenler) {
+                    System.out.printf("%d - %s %s | %s%n", eslesen.getOgrenciNo(), eslesen.getIsim(), eslesen.getSoyisim(),
+                            eslesen.getBolum() != null ? eslesen.getBolum().getAd() : "-");
+                }
+                ConsoleUtil.printLine();
+                System.out.println(eslesenler.size() == ISIM_ARAMA_SINIRI
+                        ? "İlk " + ISIM_ARAMA_SINIRI + " eşleşme gösterildi; aramayı daraltmak için soyismi de girebilirsiniz."
+                        : eslesenler.size() + " öğrenci bulundu.");
+                return;
+            }
+            ogrenci = eslesenler.isEmpty() ? null : eslesenler.get(0);
+        }
 
         if (ogrenci != null) {
             ConsoleUtil.printLine();
@@ -258,23 +299,98 @@ public class OgrenciMenu {
     }
 
     /**
-     * Sistemde kayıtlı olan tüm öğrencileri detaylı bir şekilde listeler.
+     * Sistemde kayıtlı olan öğrencileri numara sırasıyla, sayfa sayfa listeler.
+     * <p>
+     * Her öğrenci tek satırda gösterilir; detaylar için "Öğrenci Ara" kullanılabilir.
+     * </p>
      */
     private void ogrenciListele() {
-        List<Ogrenci> liste = ogrenciService.ogrenciListele();
-        if (liste.isEmpty()) {
-            System.out.println("Sistemde kayıtlı öğrenci bulunmamaktadır.");
-            return;
+        ConsoleUtil.printPaged(imlec -> ogrenciService.ogrenciSayfasi(imlec, Sayfa.VARSAYILAN_BOYUT),
+                ogrenci -> System.out.printf("%d - %s %s | %s | %s%n", ogrenci.getOgrenciNo(), ogrenci.getIsim(),
+                        ogrenci.getSoyisim(), ogrenci.getBolum() != null ? ogrenci.getBolum().getAd() : "-",
+                        DateUtil.formatDate(ogrenci.getDogumTarihi())),
+                "Sistemde kayıtlı öğrenci bulunmamaktadır.");
+    }
+
+    /**
+     * Bölüm, doğum tarihi aralığı ve GPA aralığı ölçütlerine göre öğrencileri sorgular.
+     * <p>
+     * Boş bırakılan ölçütler sorguya dahil edilmez. Sorgunun kullandığı indeks ve aday sayısı sonuçlardan
+     * önce gösterilir; sonuçlar bellekte toplanmadan, bulundukça yazdırılır.
+     * </p>
+     */
+    private void ogrenciSorgula() {
+        OgrenciSorgusu sorgu = new OgrenciSorgusu();
+        System.out.println("\n--- Öğrenci Sorgula (boş bırakılan ölçüt kullanılmaz) ---");
+
+        String bolum = InputUtil.readString("Bölüm adı: ");
+        if (!bolum.isEmpty()) {
+            sorgu.setBolum(bolum);
         }
 
+        LocalDate dogumBas = tarihOku("Doğum tarihi en erken (gg.aa.yyyy): ");
+        LocalDate dogumSon = tarihOku("Doğum tarihi en geç (gg.aa.yyyy): ");
+        sorgu.setDogumTarihiAraligi(dogumBas, dogumSon);
+
+        Double gpaEnAz = gpaOku("GPA en az: ");
+        Double gpaEnCok = gpaOku("GPA en çok: ");
+        sorgu.setGpaAraligi(gpaEnAz, gpaEnCok);
+
+        SorguPlani plan = sorguService.planla(sorgu);
+        System.out.println("Kullanılan indeks: " + plan.getIndeks().getAciklama() + " (" + plan.getAdaySayisi() + " aday)");
         ConsoleUtil.printLine();
-        for (Ogrenci ogrenci : liste) {
-            System.out.println("İsim       : " + ogrenci.getIsim());
-            System.out.println("Soyisim    : " + ogrenci.getSoyisim());
-            System.out.println("Öğrenci No : " + ogrenci.getOgrenciNo());
-            System.out.println("Doğum Tarihi: " + DateUtil.formatDate(ogrenci.getDogumTarihi()));
-            System.out.println("Bölüm      : " + ogrenci.getBolum().getAd());
-            ConsoleUtil.printLine();
+
+        long[] adet = new long[1];
+        sorguService.sorgula(sorgu).forEach(ogrenci -> {
+            adet[0]++;
+            System.out.printf("%d - %s %s | %s | %s | GPA: %.2f%n", ogrenci.getOgrenciNo(), ogrenci.getIsim(),
+                    ogrenci.getSoyisim(), ogrenci.getBolum() != null ? ogrenci.getBolum().getAd() : "-",
+                    DateUtil.formatDate(ogrenci.getDogumTarihi()), gpaService.gpaHesapla(ogrenci));
+        });
+
+        ConsoleUtil.printLine();
+        System.out.println(adet[0] == 0 ? "Ölçütlere uyan öğrenci bulunamadı." : adet[0] + " öğrenci bulundu.");
+    }
+
+    /**
+     * Boş bırakılabilen bir tarih okur; hatalı girişte tekrar sorar.
+     *
+     * @return Girilen tarih, boş bırakıldıysa null.
+     */
+    private static LocalDate tarihOku(String mesaj) {
+        while (true) {
+            String giris = InputUtil.readString(mesaj);
+            if (giris.isEmpty()) {
+                return null;
+            }
+            LocalDate tarih = DateUtil.parseDate(giris);
+            if (tarih != null) {
+                return tarih;
+            }
+            System.out.println("Hata: Tarih formatı hatalı (Örn: 15.05.2000)!");
+        }
+    }
+
+    /**
+     * Boş bırakılabilen, 0.00 - 4.00 arası bir GPA değeri okur; hatalı girişte tekrar sorar.
+     *
+     * @return Girilen değer, boş bırakıldıysa null.
+     */
+    private static Double gpaOku(String mesaj) {
+        while (true) {
+            String giris = InputUtil.readString(mesaj).replace(',', '.');
+            if (giris.isEmpty()) {
+                return null;
+            }
+            try {
+                double gpa = Double.parseDouble(giris);
+                if (gpa >= 0.0 && gpa <= 4.0) {
+                    return gpa;
+                }
+            } catch (NumberFormatException e) {
+                // Aşağıdaki hata mesajı yazdırılır.
+            }
+            System.out.println("Hata: GPA 0.00 ile 4.00 arasında bir sayı olmalıdır!");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package Metrik;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Verilerin dosyaya dışa aktarılması için Java Flight Recorder olayıdır.
+ * <p>
+ * Başarısız aktarımlar da kaydedilir; bu durumda {@link #basarili} false olur.
+ * JFR ayarlarında {@code OgrenciBilgiSistemi.DisaAktarim} adıyla ayrı olarak açılıp kapatılabilir.
+ * </p>
+ */
+@Name("OgrenciBilgiSistemi.DisaAktarim")
+@Label("Dışa Aktarım")
+@Category("Öğrenci Bilgi Sistemi")
+@Description("Verilerin dosyaya yazılması")
+public class DisaAktarimOlayi extends Event {
+
+    @Label("Dosya")
+    public String dosya;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Kayıt Sayısı")
+    public int kayitSayisi;
+
+    @Label("Boyut")
+    @DataAmount
+    public long bayt;
+
+    @Label("Başarılı")
+    public boolean basarili;
+}
@@ -0,0 +1,27 @@
+package Metrik;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GPA hesaplamaları (tek öğrenci veya toplu özet okuma) için Java Flight Recorder olayıdır.
+ * <p>
+ * GPA hesaplaması çok sık çağrıldığından olay varsayılan olarak kapalıdır; incelemeler sırasında
+ * {@code OgrenciBilgiSistemi.GpaHesaplama#enabled=true} ayarıyla, gerekirse bir eşik süresiyle
+ * ({@code #threshold}) birlikte açılır.
+ * </p>
+ */
+@Name("OgrenciBilgiSistemi.GpaHesaplama")
+@Label("GPA Hesaplama")
+@Category("Öğrenci Bilgi Sistemi")
+@Description("Bir veya birden çok öğrencinin GPA değerinin okunması")
+@Enabled(false)
+public class GpaHesaplamaOlayi extends Event {
+
+    @Label("Öğrenci Sayısı")
+    public int ogrenciSayisi;
+}
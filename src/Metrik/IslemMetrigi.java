@@ -0,0 +1,84 @@
+package Metrik;
+
+import Util.GecikmeHistogrami;
+
+/**
+ * Tek bir servis işleminin çağrı sayısını ve süre dağılımını tutan metriktir.
+ * <p>
+ * Kayıt, {@link GecikmeHistogrami} üzerinde kilitsiz ve bellek ayırmadan yapılır; bu nedenle
+ * servislerin sık çağrılan metodlarında her çağrıda güvenle kullanılabilir. Örnekler
+ * {@link Metrikler#islem(String, String)} ile oluşturulur ve JMX'e {@link Metrikler#jmxYayinla()} ile yayınlanır.
+ * </p>
+ */
+public class IslemMetrigi implements IslemMetrigiMBean {
+
+    private final String servis;
+    private final String islem;
+    private final GecikmeHistogrami histogram = new GecikmeHistogrami();
+
+    IslemMetrigi(String servis, String islem) {
+        this.servis = servis;
+        this.islem = islem;
+    }
+
+    /**
+     * Başlangıcı {@link System#nanoTime()} ile alınmış bir çağrının bittiğini kaydeder.
+     *
+     * @param baslangicNs Çağrının başladığı an (nanosaniye).
+     */
+    public void kaydet(long baslangicNs) {
+        histogram.kaydet(System.nanoTime() - baslangicNs);
+    }
+
+    /**
+     * @return Çağrı sürelerinin (nanosaniye) dağılımı.
+     */
+    public GecikmeHistogrami getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String getServis() {
+        return servis;
+    }
+
+    @Override
+    public String getIslem() {
+        return islem;
+    }
+
+    @Override
+    public long getSayi() {
+        return histogram.getSayi();
+    }
+
+    @Override
+    public double getOrtalamaMikrosaniye() {
+        return histogram.getOrtalama() / 1000.0;
+    }
+
+    @Override
+    public double getP50Mikrosaniye() {
+        return histogram.yuzdelik(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Mikrosaniye() {
+        return histogram.yuzdelik(99) / 1000.0;
+    }
+
+    @Override
+    public double getP999Mikrosaniye() {
+        return histogram.yuzdelik(99.9) / 1000.0;
+    }
+
+    @Override
+    public double getEnBuyukMikrosaniye() {
+        return histogram.getEnBuyuk() / 1000.0;
+    }
+
+    @Override
+    public void sifirla() {
+        histogram.sifirla();
+    }
+}
@@ -0,0 +1,37 @@
+package Metrik;
+
+/**
+ * {@link IslemMetrigi} sınıfının JMX üzerinden yayınlanan yönetim arayüzüdür.
+ * <p>
+ * Süreler mikrosaniye cinsindendir; yüzdelikler yaklaşık %3 göreli hatayla hesaplanır.
+ * </p>
+ */
+public interface IslemMetrigiMBean {
+
+    /** @return İşlemin ait olduğu servis. */
+    String getServis();
+
+    /** @return İşlemin (metodun) adı. */
+    String getIslem();
+
+    /** @return Son sıfırlamadan bu yana tamamlanan çağrı sayısı. */
+    long getSayi();
+
+    /** @return Ortalama süre (mikrosaniye). */
+    double getOrtalamaMikrosaniye();
+
+    /** @return Çağrıların %50'sinin altında kaldığı süre (mikrosaniye). */
+    double getP50Mikrosaniye();
+
+    /** @return Çağrıların %99'unun altında kaldığı süre (mikrosaniye). */
+    double getP99Mikrosaniye();
+
+    /** @return Çağrıların %99,9'unun altında kaldığı süre (mikrosaniye). */
+    double getP999Mikrosaniye();
+
+    /** @return Gözlenen en uzun süre (mikrosaniye). */
+    double getEnBuyukMikrosaniye();
+
+    /** Sayacı ve süre dağılımını sıfırlar. */
+    void sifirla();
+}
@@ -0,0 +1,93 @@
+package Metrik;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uygulamadaki tüm {@link IslemMetrigi} örneklerini tutan ve JMX'e yayınlayan kayıt defteridir.
+ * <p>
+ * Metrikler süreç genelindedir: aynı servis ve işlem adıyla istenen metrik her zaman aynı örnektir,
+ * dolayısıyla aynı servisin birden çok örneği varsa çağrıları birlikte sayılır. Servisler metriklerini
+ * sınıf yüklenirken bir kez alır; çağrı başına kayıt defterine erişilmez.
+ * </p>
+ * <p>
+ * {@link #jmxYayinla()} çağrıldıktan sonra her metrik platform MBean sunucusunda
+ * {@code OgrenciBilgiSistemi:type=<servis>,name=<işlem>} adıyla görünür (örn. JConsole veya VisualVM ile).
+ * Yayınlamadan sonra oluşturulan metrikler de otomatik olarak kaydedilir.
+ * </p>
+ */
+public class Metrikler {
+
+    /** JMX nesne adlarının alan (domain) kısmı. */
+    public static final String ALAN = "OgrenciBilgiSistemi";
+
+    private static final Map<String, IslemMetrigi> metrikler = new LinkedHashMap<>();
+
+    /** Metriklerin yayınlandığı MBean sunucusu; henüz yayınlanmadıysa null. */
+    private static MBeanServer sunucu;
+
+    private Metrikler() {
+    }
+
+    /**
+     * Verilen servis işlemine ait metriği döndürür; yoksa oluşturur.
+     *
+     * @param servis İşlemin ait olduğu servis (örn. OgrenciService).
+     * @param islem  İşlemin adı (örn. ogrenciAra).
+     * @return İşlemin metriği.
+     */
+    public static synchronized IslemMetrigi islem(String servis, String islem) {
+        String anahtar = servis + '.' + islem;
+        IslemMetrigi metrik = metrikler.get(anahtar);
+        if (metrik == null) {
+            metrik = new IslemMetrigi(servis, islem);
+            metrikler.put(anahtar, metrik);
+            if (sunucu != null) {
+                kaydet(metrik);
+            }
+        }
+        return metrik;
+    }
+
+    /**
+     * @return Oluşturulma sırasıyla tüm metriklerin değiştirilemez bir kopyası.
+     */
+    public static synchronized List<IslemMetrigi> tumu() {
+        return List.copyOf(metrikler.values());
+    }
+
+    /**
+     * Tüm metrikleri platform MBean sunucusuna kaydeder. Birden çok kez çağrılması güvenlidir.
+     *
+     * @return Tüm metrikler kaydedildiyse true, en az biri kaydedilemediyse false.
+     */
+    public static synchronized boolean jmxYayinla() {
+        sunucu = ManagementFactory.getPlatformMBeanServer();
+        boolean basarili = true;
+        for (IslemMetrigi metrik : new ArrayList<>(metrikler.values())) {
+            basarili &= kaydet(metrik);
+        }
+        return basarili;
+    }
+
+    private static boolean kaydet(IslemMetrigi metrik) {
+        try {
+            ObjectName ad = new ObjectName(ALAN + ":type=" + metrik.getServis()
+                    + ",name=" + metrik.getIslem());
+            if (!sunucu.isRegistered(ad)) {
+                sunucu.registerMBean(metrik, ad);
+            }
+            return true;
+        } catch (JMException e) {
+            System.out.println("Uyarı: " + metrik.getServis() + "." + metrik.getIslem()
+                    + " metriği JMX'e kaydedilemedi. (" + e.getMessage() + ")");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package Metrik;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Not ekleme, toplu not girişi, not güncelleme ve not temizleme işlemleri için Java Flight Recorder olayıdır.
+ * <p>
+ * Olay süresi, kilit bekleme dahil işlemin tamamını kapsar. Kayıt sayısı, işlemin gerçekte değiştirdiği
+ * not kaydı sayısıdır (başarısız bir ekleme için 0, toplu girişte eklenen satır sayısı).
+ * JFR ayarlarında {@code OgrenciBilgiSistemi.NotDegisikligi} adıyla ayrı olarak açılıp kapatılabilir.
+ * </p>
+ */
+@Name("OgrenciBilgiSistemi.NotDegisikligi")
+@Label("Not Değişikliği")
+@Category("Öğrenci Bilgi Sistemi")
+@Description("Not ekleme, güncelleme ve temizleme işlemleri")
+public class NotDegisikligiOlayi extends Event {
+
+    @Label("İşlem")
+    public String islem;
+
+    /** Toplu girişte 0. */
+    @Label("Öğrenci Numarası")
+    public int ogrenciNo;
+
+    @Label("Ders Kodu")
+    public String dersKodu;
+
+    @Label("Kayıt Sayısı")
+    public int kayitSayisi;
+
+    /**
+     * @param islem İşlemin adı (ekle, toplu, guncelle, temizle).
+     */
+    public NotDegisikligiOlayi(String islem) {
+        this.islem = islem;
+    }
+}
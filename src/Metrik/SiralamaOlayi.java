@@ -0,0 +1,24 @@
+package Metrik;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GPA başarı sıralamasının oluşturulması için Java Flight Recorder olayıdır.
+ * <p>
+ * Süre, GPA değerlerinin okunmasını ve sıralamayı birlikte kapsar.
+ * JFR ayarlarında {@code OgrenciBilgiSistemi.Siralama} adıyla ayrı olarak açılıp kapatılabilir.
+ * </p>
+ */
+@Name("OgrenciBilgiSistemi.Siralama")
+@Label("GPA Sıralaması")
+@Category("Öğrenci Bilgi Sistemi")
+@Description("Öğrencilerin GPA değerine göre sıralanması")
+public class SiralamaOlayi extends Event {
+
+    @Label("Öğrenci Sayısı")
+    public int ogrenciSayisi;
+}
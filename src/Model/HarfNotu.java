@@ -0,0 +1,134 @@
+package Model;
+
+/**
+ * 4.00'lık sistemdeki harf notlarını tek baytlık kodlarla temsil eden yardımcı sınıftır.
+ * <p>
+ * Not kayıtları harf notunu {@code String} yerine bu sınıftaki {@code byte} kodlarla saklar.
+ * Kodun katsayı karşılığı dizi erişimiyle bulunur; metin biçimine dönüştürme yalnızca
+ * giriş/çıkış noktalarında (not ekleme, güncelleme ve görüntüleme) yapılır.
+ * </p>
+ */
+public final class HarfNotu {
+
+    public static final byte AA = 0;
+    public static final byte BA = 1;
+    public static final byte BB = 2;
+    public static final byte CB = 3;
+    public static final byte CC = 4;
+    public static final byte DC = 5;
+    public static final byte DD = 6;
+    public static final byte FD = 7;
+    public static final byte FF = 8;
+
+    /** Geçersiz veya tanımsız harf notunu temsil eden kod. */
+    public static final byte GECERSIZ = -1;
+
+    /** Sistemde tanımlı harf notu sayısı. */
+    public static final int ADET = 9;
+
+    /** Kodların metin karşılıkları (indeks = kod). */
+    private static final String[] METINLER = {"AA", "BA", "BB", "CB", "CC", "DC", "DD", "FD", "FF"};
+
+    /** Kodların 4.00'lık sistemdeki katsayı karşılıkları (indeks = kod). */
+    private static final double[] KATSAYILAR = {4.00, 3.50, 3.25, 3.00, 2.50, 2.25, 2.00, 1.50, 0.00};
+
+    private HarfNotu() {
+    }
+
+    /**
+     * Metin biçimindeki harf notunu bayt koduna dönüştürür.
+     * <p>
+     * Baştaki/sondaki boşluklar ve büyük/küçük harf farkı yoksayılır. Dönüşüm sırasında
+     * yeni bir metin nesnesi oluşturulmaz.
+     * </p>
+     *
+     * @param harfNotu AA, BA, BB gibi standart harf notu girişi.
+     * @return Harf notunun kodu, geçersiz not için {@link #GECERSIZ}.
+     */
+    public static byte kodla(String harfNotu) {
+        if (harfNotu == null) {
+            return GECERSIZ;
+        }
+
+        int bas = 0;
+        int son = harfNotu.length();
+        while (bas < son && Character.isWhitespace(harfNotu.charAt(bas))) {
+            bas++;
+        }
+        while (son > bas && Character.isWhitespace(harfNotu.charAt(son - 1))) {
+            son--;
+        }
+        if (son - bas != 2) {
+            return GECERSIZ;
+        }
+
+        char ilk = Character.toUpperCase(harfNotu.charAt(bas));
+        char ikinci = Character.toUpperCase(harfNotu.charAt(bas + 1));
+        switch (ilk) {
+            case 'A': return ikinci == 'A' ? AA : GECERSIZ;
+            case 'B': return ikinci == 'A' ? BA : ikinci == 'B' ? BB : GECERSIZ;
+            case 'C': return ikinci == 'B' ? CB : ikinci == 'C' ? CC : GECERSIZ;
+            case 'D': return ikinci == 'C' ? DC : ikinci == 'D' ? DD : GECERSIZ;
+            case 'F': return ikinci == 'D' ? FD : ikinci == 'F' ? FF : GECERSIZ;
+            default: return GECERSIZ;
+        }
+    }
+
+    /**
+     * Bayt kodunun standart metin karşılığını döndürür.
+     *
+     * @param kod Harf notu kodu.
+     * @return "AA", "BA" gibi büyük harfli metin, geçersiz kod için null.
+     */
+    public static String metin(byte kod) {
+        return gecerliMi(kod) ? METINLER[kod] : null;
+    }
+
+    /**
+     * Bayt kodunun 4.00'lık sistemdeki katsayı karşılığını döndürür.
+     *
+     * @param kod Harf notu kodu.
+     * @return Katsayı (Örn: AA için 4.0), geçersiz kod için -1.0.
+     */
+    public static double katsayi(byte kod) {
+        return gecerliMi(kod) ? KATSAYILAR[kod] : -1.0;
+    }
+
+    /**
+     * 0-100 arasındaki sayısal notun harf notu kodunu döndürür.
+     *
+     * @param puan Sayısal not.
+     * @return Harf notu kodu.
+     */
+    public static byte puandan(int puan) {
+        if (puan >= 90) return AA;
+        if (puan >= 85) return BA;
+        if (puan >= 80) return BB;
+        if (puan >= 75) return CB;
+        if (puan >= 70) return CC;
+        if (puan >= 65) return DC;
+        if (puan >= 60) return DD;
+        if (puan >= 50) return FD;
+        return FF;
+    }
+
+    /**
+     * Harf notunun dersi geçme notu olup olmadığını döndürür (katsayı 2.00 ve üzeri, yani DD ve üstü).
+     *
+     * @param kod Harf notu kodu.
+     * @return Kod geçerli ve geçme notuysa true; FD, FF ve geçersiz kodlar için false.
+     */
+    public static boolean gectiMi(byte kod) {
+        return kod >= AA && kod <= DD;
+    }
+
+    /**
+     * Kodun tanımlı bir harf notuna karşılık gelip gelmediğini kontrol eder.
+     *
+     * @param kod Kontrol edilecek kod.
+     * @return Kod geçerliyse true.
+     */
+    public static boolean gecerliMi(byte kod) {
+        return kod >= 0 && kod < ADET;
+    }
+}
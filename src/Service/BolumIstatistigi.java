@@ -0,0 +1,81 @@
+package Service;
+
+import Model.Bolum;
+
+/**
+ * Bir bölümün öğrenci sayısı, GPA dağılımı ve kazanılan AKTS toplamından oluşan istatistik sonucudur.
+ * <p>
+ * GPA istatistikleri yalnızca en az bir not kaydı bulunan öğrenciler üzerinden hesaplanır;
+ * henüz notu olmayan öğrenciler öğrenci sayısına dahildir ancak ortalamayı düşürmez.
+ * </p>
+ */
+public class BolumIstatistigi {
+
+    private final Bolum bolum;
+    private final int ogrenciSayisi;
+    private final int notluOgrenciSayisi;
+    private final double ortalamaGpa;
+    private final double medyanGpa;
+    private final double standartSapma;
+    private final long kazanilanAkts;
+
+    BolumIstatistigi(Bolum bolum, int ogrenciSayisi, int notluOgrenciSayisi, double ortalamaGpa,
+                     double medyanGpa, double standartSapma, long kazanilanAkts) {
+        this.bolum = bolum;
+        this.ogrenciSayisi = ogrenciSayisi;
+        this.notluOgrenciSayisi = notluOgrenciSayisi;
+        this.ortalamaGpa = ortalamaGpa;
+        this.medyanGpa = medyanGpa;
+        this.standartSapma = standartSapma;
+        this.kazanilanAkts = kazanilanAkts;
+    }
+
+    /**
+     * @return İstatistiğin ait olduğu bölüm.
+     */
+    public Bolum getBolum() {
+        return bolum;
+    }
+
+    /**
+     * @return Bölüme kayıtlı öğrenci sayısı.
+     */
+    public int getOgrenciSayisi() {
+        return ogrenciSayisi;
+    }
+
+    /**
+     * @return En az bir not kaydı bulunan öğrenci sayısı.
+     */
+    public int getNotluOgrenciSayisi() {
+        return notluOgrenciSayisi;
+    }
+
+    /**
+     * @return Notlu öğrencilerin GPA ortalaması, notlu öğrenci yoksa 0.0.
+     */
+    public double getOrtalamaGpa() {
+        return ortalamaGpa;
+    }
+
+    /**
+     * @return Notlu öğrencilerin GPA medyanı, notlu öğrenci yoksa 0.0.
+     */
+    public double getMedyanGpa() {
+        return medyanGpa;
+    }
+
+    /**
+     * @return Notlu öğrencilerin GPA değerlerinin (popülasyon) standart sapması, notlu öğrenci yoksa 0.0.
+     */
+    public double getStandartSapma() {
+        return standartSapma;
+    }
+
+    /**
+     * @return Bölüm öğrencilerinin geçme notu aldıkları derslerin toplam AKTS değeri.
+     */
+    public long getKazanilanAkts() {
+        return kazanilanAkts;
+    }
+}
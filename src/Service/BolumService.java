@@ -1,8 +1,20 @@
 package Service;
 
+import Metrik.IslemMetrigi;
+import Metrik.Metrikler;
 import Model.Bolum;
-import java.util.ArrayList;
+import Util.DogrulamaUtil;
+import Util.MetinUtil;
+import Util.Sayfa;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 /**
  * Üniversite bölümleriyle ilgili iş mantığını yöneten servis sınıfıdır.
@@ -11,41 +23,126 @@ import java.util.List;
  * bilgilerinin güncellenmesi gibi operasyonları merkezi bir noktadan yönetir.
  * Veri tutarlılığını sağlamak için isim kontrolü gibi doğrulamaları gerçekleştirir.
  * </p>
+ * <p>
+ * Eş zamanlı kullanıma uygundur; aramalar okuma kilidi, ekleme ve silme yazma kilidi altında yapılır.
+ * </p>
  */
 public class BolumService {
 
-    /** * Sistemde tanımlı olan tüm bölümleri bellekte tutan liste.
+    /** Genel işlemlerin çağrı sayısı ve süre metrikleri (bkz. {@link Metrikler}). */
+    private static final IslemMetrigi EKLE = Metrikler.islem("BolumService", "bolumEkle");
+    private static final IslemMetrigi SIL = Metrikler.islem("BolumService", "bolumSil");
+    private static final IslemMetrigi ARA = Metrikler.islem("BolumService", "bolumAra");
+    private static final IslemMetrigi LISTELE = Metrikler.islem("BolumService", "bolumListele");
+    private static final IslemMetrigi VAR_MI = Metrikler.islem("BolumService", "bolumVarMi");
+    private static final IslemMetrigi SAYFA = Metrikler.islem("BolumService", "bolumSayfasi");
+
+    /**
+     * Sistemde tanımlı olan tüm bölümleri, normalize edilmiş bölüm adı ile eşleyerek tutan indeks.
+     * <p>
+     * Anahtar, kayıt sırasında {@link MetinUtil#anahtar(String)} ile bir kez hesaplanır;
+     * arama, mükerrer kontrolü ve silme işlemleri listeyi dolaşmadan sabit sürede yapılır.
+     * Ekleme sırası korunur.
+     * </p>
+     */
+    private final Map<String, Bolum> adIndeksi;
+
+    /** İndekse eş zamanlı erişimi düzenleyen okuma/yazma kilidi. */
+    private final ReentrantReadWriteLock kilit = new ReentrantReadWriteLock();
+
+    /** {@link #bolumListele()} tarafından döndürülen değiştirilemez kopya; her yazma işleminde geçersiz kılınır (null). */
+    private volatile List<Bolum> listeKopyasi;
+
+    /**
+     * {@link #bolumSayfasi(String, int)} için, normalize edilmiş bölüm adına göre sıralı indeks.
+     * <p>
+     * {@link #adIndeksi} ile aynı anahtarları ve kayıtları tutar; ekleme ve silme işlemlerinde yazma kilidi altında
+     * birlikte güncellenir, sayfalar yeniden sıralama yapılmadan doğrudan bu indeksten kesilir.
+     * </p>
      */
-    private final List<Bolum> bolumler;
+    private final NavigableMap<String, Bolum> siraliIndeks;
+
+    /** Başarılı değişikliklerin bildirileceği dinleyici. */
+    private volatile DegisiklikDinleyicisi dinleyici = DegisiklikDinleyicisi.BOS;
+
+    /** Değişikliklerin anlık görüntü alma gibi tüm servisleri okuyan işlemlerle koordine edildiği ortak kilit. */
+    private volatile DegisiklikKilidi degisiklikKilidi = new DegisiklikKilidi();
 
     /**
-     * Yeni bir BolumService nesnesi oluşturur ve bölüm listesini başlatır.
+     * Yeni bir BolumService nesnesi oluşturur ve bölüm indeksini başlatır.
      */
     public BolumService() {
-        this.bolumler = new ArrayList<>();
+        this.adIndeksi = new LinkedHashMap<>();
+        this.siraliIndeks = new TreeMap<>();
     }
 
     /**
      * Sisteme yeni bir bölüm ekler.
      * <p>
      * Ekleme işlemi yapılmadan önce bölümün geçerliliği ve isim çakışması kontrol edilir.
-     * Boş isimli veya sistemde zaten kayıtlı olan bölümler eklenmez.
+     * Boş isimli, ad veya web sayfası {@link DogrulamaUtil#EN_UZUN_METIN} karakterden uzun olan ya da sistemde
+     * zaten kayıtlı olan bölümler eklenmez.
      * </p>
      *
      * @param bolum Eklenecek {@link Bolum} nesnesi.
      * @return Bölüm başarıyla eklenirse true, aksi halde false döner.
      */
     public boolean bolumEkle(Bolum bolum) {
-        if (bolum == null || bolum.getAd() == null || bolum.getAd().trim().isEmpty()) {
-            return false;
-        }
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            if (bolum == null || bolum.getAd() == null || bolum.getAd().trim().isEmpty()) {
+                return false;
+            }
+
+            if (!DogrulamaUtil.uzunlukGecerliMi(bolum.getAd(), bolum.getWebSayfasi())) {
+                System.out.println("Hata: Metin alanları en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir.");
+                return false;
+            }
 
-        if (bolumVarMi(bolum.getAd())) {
-            return false;
+            String anahtar = MetinUtil.anahtar(bolum.getAd());
+
+            kilit.writeLock().lock();
+            try {
+                if (adIndeksi.containsKey(anahtar)) {
+                    return false;
+                }
+
+                adIndeksi.put(anahtar, bolum);
+                siraliIndeks.put(anahtar, bolum);
+                listeKopyasi = null;
+                dinleyici.bolumEklendi(bolum);
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            EKLE.kaydet(baslangic);
         }
+    }
 
-        bolumler.add(bolum);
-        return true;
+    /**
+     * Bölümü, kayıtlı öğrencisi yoksa tek bir işlem olarak siler.
+     * <p>
+     * Öğrenci kontrolü ve silme, bölüm ve öğrenci servislerindeki diğer değişiklikler durdurularak
+     * ({@link DegisiklikKilidi#dondurma()}) birlikte yapılır; kontrolden sonra bölüme öğrenci eklenip
+     * bölümün yine de silinmesi mümkün değildir.
+     * </p>
+     *
+     * @param bolumAdi       Silinecek bölümün adı (büyük/küçük harf duyarsız).
+     * @param ogrenciService Bölümdeki öğrencilerin tutulduğu servis.
+     * @return Silindiyse {@link SilmeSonucu#SILINDI}, bölüm yoksa {@link SilmeSonucu#BULUNAMADI},
+     *         bölümde öğrenci varsa {@link SilmeSonucu#KULLANIMDA}.
+     */
+    public SilmeSonucu bosBolumuSil(String bolumAdi, OgrenciService ogrenciService) {
+        return DegisiklikKilidi.dondurarak(degisiklikKilidi, ogrenciService.degisiklikKilidi(), () -> {
+            if (ogrenciService.bolumdeOgrenciVarMi(bolumAdi)) {
+                return bolumVarMi(bolumAdi) ? SilmeSonucu.KULLANIMDA : SilmeSonucu.BULUNAMADI;
+            }
+            return bolumSil(bolumAdi) ? SilmeSonucu.SILINDI : SilmeSonucu.BULUNAMADI;
+        });
     }
 
     /**
@@ -55,13 +152,29 @@ public class BolumService {
      * @return Silme işlemi başarılıysa true, bölüm bulunamazsa false döner.
      */
     public boolean bolumSil(String bolumAdi) {
-        Bolum bolum = bolumAra(bolumAdi);
-        if (bolum == null) {
-            return false;
-        }
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            kilit.writeLock().lock();
+            try {
+                String anahtar = MetinUtil.anahtar(bolumAdi);
+                Bolum bolum = adIndeksi.remove(anahtar);
+                if (bolum == null) {
+                    return false;
+                }
 
-        bolumler.remove(bolum);
-        return true;
+                siraliIndeks.remove(anahtar);
+                listeKopyasi = null;
+                dinleyici.bolumSilindi(bolum.getAd());
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            SIL.kaydet(baslangic);
+        }
     }
 
     /**
@@ -74,21 +187,77 @@ public class BolumService {
      * @return Bölüm bulunursa {@link Bolum} nesnesini, bulunamazsa null döndürür.
      */
     public Bolum bolumAra(String bolumAdi) {
-        for (Bolum bolum : bolumler) {
-            if (bolum.getAd().equalsIgnoreCase(bolumAdi)) {
-                return bolum;
+        long baslangic = System.nanoTime();
+        try {
+            String anahtar = MetinUtil.anahtar(bolumAdi);
+
+            kilit.readLock().lock();
+            try {
+                return adIndeksi.get(anahtar);
+            } finally {
+                kilit.readLock().unlock();
             }
+        } finally {
+            ARA.kaydet(baslangic);
         }
-        return null;
     }
 
     /**
      * Sistemde kayıtlı olan tüm bölümlerin listesini döndürür.
+     * <p>
+     * Dönen liste değiştirilemez bir kopyadır; araya yazma girmediği sürece aynı kopya tekrar döndürülür.
+     * </p>
      *
      * @return Mevcut tüm bölümleri içeren {@link List}.
      */
     public List<Bolum> bolumListele() {
-        return bolumler;
+        long baslangic = System.nanoTime();
+        try {
+            List<Bolum> kopya = listeKopyasi;
+            if (kopya != null) {
+                return kopya;
+            }
+
+            kilit.readLock().lock();
+            try {
+                kopya = listeKopyasi;
+                if (kopya == null) {
+                    kopya = List.copyOf(adIndeksi.values());
+                    listeKopyasi = kopya;
+                }
+                return kopya;
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            LISTELE.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Kayıtlı bölümleri bölüm adına göre sıralı, sayfa sayfa döndürür.
+     * <p>
+     * İlk sayfa için imleç verilmez; sonraki ve önceki sayfalar dönen {@link Sayfa}'nın imleçleriyle istenir.
+     * Sıralama büyük/küçük harf duyarsızdır ve eklemelerden bağımsız olarak sabittir. Dönen sayfa yalnızca
+     * kendi kayıtlarının kopyasını içerir.
+     * </p>
+     *
+     * @param imlec Önceki bir sayfadan alınan imleç; null ise ilk sayfa.
+     * @param boyut Sayfadaki en fazla kayıt sayısı (1 ile {@link Sayfa#EN_BUYUK_BOYUT} arası).
+     * @return İstenen sayfa, imleç geçersizse null.
+     */
+    public Sayfa<Bolum> bolumSayfasi(String imlec, int boyut) {
+        long baslangic = System.nanoTime();
+        try {
+            kilit.readLock().lock();
+            try {
+                return Sayfa.kes(siraliIndeks, Function.identity(), imlec, boyut);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            SAYFA.kaydet(baslangic);
+        }
     }
 
     /**
@@ -98,6 +267,39 @@ public class BolumService {
      * @return Bölüm varsa true, yoksa false döner.
      */
     public boolean bolumVarMi(String bolumAdi) {
-        return bolumAra(bolumAdi) != null;
+        long baslangic = System.nanoTime();
+        try {
+            String anahtar = MetinUtil.anahtar(bolumAdi);
+
+            kilit.readLock().lock();
+            try {
+                return adIndeksi.containsKey(anahtar);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            VAR_MI.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Bölüm kayıtlarında yapılan başarılı değişikliklerin bildirileceği dinleyiciyi atar.
+     *
+     * @param dinleyici Değişiklik dinleyicisi; null verilirse bildirim yapılmaz.
+     */
+    public void setDinleyici(DegisiklikDinleyicisi dinleyici) {
+        this.dinleyici = dinleyici != null ? dinleyici : DegisiklikDinleyicisi.BOS;
+    }
+
+    /**
+     * Değişikliklerin paylaşımlı olarak tutacağı ortak kilidi atar.
+     * <p>
+     * Servis değişikliğe açılmadan önce (örn. işlem günlüğüne bağlanırken) çağrılmalıdır.
+     * </p>
+     *
+     * @param degisiklikKilidi Diğer servislerle paylaşılan {@link DegisiklikKilidi}.
+     */
+    public void setDegisiklikKilidi(DegisiklikKilidi degisiklikKilidi) {
+        this.degisiklikKilidi = degisiklikKilidi;
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package Service;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.Ogrenci;
+
+/**
+ * Servis katmanında başarıyla tamamlanan veri değişikliklerinden haberdar olmak için kullanılan arayüzdür.
+ * <p>
+ * Servisler her başarılı ekleme, silme ve güncelleme işleminden sonra ilgili metodu çağırır;
+ * başarısız (reddedilen) işlemler bildirilmez. Tüm metodların varsayılan gövdesi boştur,
+ * bu sayede uygulamalar yalnızca ilgilendikleri olayları ele alabilir.
+ * </p>
+ */
+public interface DegisiklikDinleyicisi {
+
+    /** Hiçbir olayı işlemeyen varsayılan dinleyici. */
+    DegisiklikDinleyicisi BOS = new DegisiklikDinleyicisi() {
+    };
+
+    /** @param bolum Sisteme eklenen bölüm. */
+    default void bolumEklendi(Bolum bolum) {
+    }
+
+    /** @param bolumAdi Sistemden silinen bölümün kayıtlı adı. */
+    default void bolumSilindi(String bolumAdi) {
+    }
+
+    /** @param ders Sisteme eklenen ders. */
+    default void dersEklendi(Ders ders) {
+    }
+
+    /** @param dersKodu Sistemden silinen dersin kayıtlı kodu. */
+    default void dersSilindi(String dersKodu) {
+    }
+
+    /** @param ogrenci Sisteme eklenen öğrenci. */
+    default void ogrenciEklendi(Ogrenci ogrenci) {
+    }
+
+    /** @param ogrenci Bilgileri güncellenen öğrencinin güncel hali. */
+    default void ogrenciGuncellendi(Ogrenci ogrenci) {
+    }
+
+    /** @param ogrenciNo Sistemden silinen öğrencinin numarası. */
+    default void ogrenciSilindi(int ogrenciNo) {
+    }
+
+    /**
+     * @param ogrenci  Notu eklenen öğrenci.
+     * @param ders     Notun ait olduğu ders.
+     * @param harfNotu Eklenen notun {@link Model.HarfNotu} kodu.
+     */
+    default void notEklendi(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+    }
+
+    /**
+     * @param ogrenci  Notu güncellenen öğrenci.
+     * @param ders     Notun ait olduğu ders.
+     * @param harfNotu Yeni notun {@link Model.HarfNotu} kodu.
+     */
+    default void notGuncellendi(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+    }
+
+    /** @param ogrenci Tüm notları temizlenen öğrenci. */
+    default void notlarTemizlendi(Ogrenci ogrenci) {
+    }
+}
@@ -0,0 +1,64 @@
+package Service;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Servislerdeki değişiklikleri, tüm servislerin tutarlı bir görünümüne ihtiyaç duyan işlemlerle (anlık görüntü alma) koordine eden ortak kilittir.
+ * <p>
+ * Değişiklik yapan servis metotları {@link #degisiklik()} kilidini paylaşımlı modda tutar; bu nedenle
+ * değişiklikler birbirini beklemez, kendi aralarındaki sıra servislerin kendi kilitleriyle sağlanır.
+ * {@link #dondurma()} kilidi ise özeldir: alındığında devam eden değişikliklerin bitmesi beklenir ve kilit
+ * bırakılana kadar hiçbir servis değişiklik yapamaz. Okumalar bu kilidi almaz.
+ * </p>
+ * <p>
+ * Kilit her zaman servis kilitlerinden önce alınır. Değişiklik kilidi yeniden girilebilir (reentrant) olduğundan
+ * birden çok servisi değiştiren bir işlem, diğer servislerin metotlarını kilidi tutarken çağırabilir.
+ * </p>
+ */
+public class DegisiklikKilidi {
+
+    private final ReentrantReadWriteLock kilit = new ReentrantReadWriteLock();
+
+    /**
+     * @return Servis değişikliklerinin paylaşımlı olarak tuttuğu kilit.
+     */
+    public Lock degisiklik() {
+        return kilit.readLock();
+    }
+
+    /**
+     * @return Tüm servislerdeki değişiklikleri durduran özel kilit.
+     */
+    public Lock dondurma() {
+        return kilit.writeLock();
+    }
+
+    /**
+     * İki servisin değişikliklerini birlikte durdurarak işlemi çalıştırır.
+     * <p>
+     * Birden çok servisi değiştiren işlemlerin (örn. öğrenciyi notlarıyla birlikte silme) arasına başka bir
+     * değişiklik girmemesi için kullanılır. Servisler aynı kilidi paylaşıyorsa kilit bir kez alınır; işlem,
+     * servislerin değişiklik metotlarını kilidi tutarken çağırabilir.
+     * </p>
+     */
+    static <T> T dondurarak(DegisiklikKilidi birinci, DegisiklikKilidi ikinci, Supplier<T> islem) {
+        Lock dondurma = birinci.dondurma();
+        dondurma.lock();
+        try {
+            if (ikinci == birinci) {
+                return islem.get();
+            }
+            Lock ikinciDondurma = ikinci.dondurma();
+            ikinciDondurma.lock();
+            try {
+                return islem.get();
+            } finally {
+                ikinciDondurma.unlock();
+            }
+        } finally {
+            dondurma.unlock();
+        }
+    }
+}
@@ -1,8 +1,20 @@
 package Service;
 
+import Metrik.IslemMetrigi;
+import Metrik.Metrikler;
 import Model.Ders;
-import java.util.ArrayList;
+import Util.DogrulamaUtil;
+import Util.MetinUtil;
+import Util.Sayfa;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 /**
  * Üniversite dersleriyle ilgili iş mantığını yöneten servis sınıfıdır.
@@ -12,18 +24,57 @@ import java.util.List;
  * Veri bütünlüğünü sağlamak için AKTS değerinin pozitifliği ve ders kodunun
  * benzersizliği gibi kritik kontrolleri gerçekleştirir.
  * </p>
+ * <p>
+ * Eş zamanlı kullanıma uygundur; aramalar okuma kilidi, ekleme ve silme yazma kilidi altında yapılır.
+ * </p>
  */
 public class DersService {
 
-    /** * Sistemde tanımlı olan tüm dersleri bellekte tutan liste.
+    /** Genel işlemlerin çağrı sayısı ve süre metrikleri (bkz. {@link Metrikler}). */
+    private static final IslemMetrigi EKLE = Metrikler.islem("DersService", "dersEkle");
+    private static final IslemMetrigi SIL = Metrikler.islem("DersService", "dersSil");
+    private static final IslemMetrigi ARA = Metrikler.islem("DersService", "dersAra");
+    private static final IslemMetrigi LISTELE = Metrikler.islem("DersService", "dersListele");
+    private static final IslemMetrigi VAR_MI = Metrikler.islem("DersService", "dersVarMi");
+    private static final IslemMetrigi SAYFA = Metrikler.islem("DersService", "dersSayfasi");
+
+    /**
+     * Sistemde tanımlı olan tüm dersleri, normalize edilmiş ders kodu ile eşleyerek tutan indeks.
+     * <p>
+     * Anahtar, kayıt sırasında {@link MetinUtil#anahtar(String)} ile bir kez hesaplanır;
+     * arama, mükerrer kontrolü ve silme işlemleri listeyi dolaşmadan sabit sürede yapılır.
+     * Ekleme sırası korunur.
+     * </p>
      */
-    private final List<Ders> dersler;
+    private final Map<String, Ders> kodIndeksi;
+
+    /** İndekse eş zamanlı erişimi düzenleyen okuma/yazma kilidi. */
+    private final ReentrantReadWriteLock kilit = new ReentrantReadWriteLock();
+
+    /** {@link #dersListele()} tarafından döndürülen değiştirilemez kopya; her yazma işleminde geçersiz kılınır (null). */
+    private volatile List<Ders> listeKopyasi;
 
     /**
-     * Yeni bir DersService nesnesi oluşturur ve ders listesini başlatır.
+     * {@link #dersSayfasi(String, int)} için, normalize edilmiş ders koduna göre sıralı indeks.
+     * <p>
+     * {@link #kodIndeksi} ile aynı anahtarları ve kayıtları tutar; ekleme ve silme işlemlerinde yazma kilidi altında
+     * birlikte güncellenir, sayfalar yeniden sıralama yapılmadan doğrudan bu indeksten kesilir.
+     * </p>
+     */
+    private final NavigableMap<String, Ders> siraliIndeks;
+
+    /** Başarılı değişikliklerin bildirileceği dinleyici. */
+    private volatile DegisiklikDinleyicisi dinleyici = DegisiklikDinleyicisi.BOS;
+
+    /** Değişikliklerin anlık görüntü alma gibi tüm servisleri okuyan işlemlerle koordine edildiği ortak kilit. */
+    private volatile DegisiklikKilidi degisiklikKilidi = new DegisiklikKilidi();
+
+    /**
+     * Yeni bir DersService nesnesi oluşturur ve ders indeksini başlatır.
      */
     public DersService() {
-        this.dersler = new ArrayList<>();
+        this.kodIndeksi = new LinkedHashMap<>();
+        this.siraliIndeks = new TreeMap<>();
     }
 
     /**
@@ -32,30 +83,80 @@ public class DersService {
      * Ekleme öncesinde şu kontroller yapılır:
      * 1. Ders nesnesi, adı ve kodu boş olamaz.
      * 2. AKTS değeri sıfırdan büyük olmalıdır.
-     * 3. Girilen ders kodu sistemde başka bir ders tarafından kullanılmıyor olmalıdır.
+     * 3. Ad ve kod en fazla {@link DogrulamaUtil#EN_UZUN_METIN} karakter olabilir.
+     * 4. Girilen ders kodu sistemde başka bir ders tarafından kullanılmıyor olmalıdır.
      * </p>
      *
      * @param ders Eklenecek {@link Ders} nesnesi.
      * @return Ders başarıyla eklenirse true, kural ihlali varsa false döner.
      */
     public boolean dersEkle(Ders ders) {
-        if (ders == null ||
-                ders.getAd() == null || ders.getAd().trim().isEmpty() ||
-                ders.getKod() == null || ders.getKod().trim().isEmpty()) {
-            return false;
-        }
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            if (ders == null ||
+                    ders.getAd() == null || ders.getAd().trim().isEmpty() ||
+                    ders.getKod() == null || ders.getKod().trim().isEmpty()) {
+                return false;
+            }
 
-        if (ders.getAkts() <= 0) {
-            System.out.println("Hata: AKTS değeri 0'dan büyük olmalıdır!");
-            return false;
-        }
+            if (ders.getAkts() <= 0) {
+                System.out.println("Hata: AKTS değeri 0'dan büyük olmalıdır!");
+                return false;
+            }
+
+            if (!DogrulamaUtil.uzunlukGecerliMi(ders.getAd(), ders.getKod())) {
+                System.out.println("Hata: Metin alanları en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir.");
+                return false;
+            }
 
-        if (dersVarMi(ders.getKod())) {
-            return false;
+            String anahtar = MetinUtil.anahtar(ders.getKod());
+
+            kilit.writeLock().lock();
+            try {
+                if (kodIndeksi.containsKey(anahtar)) {
+                    return false;
+                }
+
+                kodIndeksi.put(anahtar, ders);
+                siraliIndeks.put(anahtar, ders);
+                listeKopyasi = null;
+                dinleyici.dersEklendi(ders);
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            EKLE.kaydet(baslangic);
         }
+    }
 
-        dersler.add(ders);
-        return true;
+    /**
+     * Dersi, not kaydı yoksa tek bir işlem olarak siler.
+     * <p>
+     * Not kontrolü ve silme, ders ve not servislerindeki diğer değişiklikler durdurularak
+     * ({@link DegisiklikKilidi#dondurma()}) birlikte yapılır; kontrolden sonra derse not girilip
+     * dersin yine de silinmesi mümkün değildir.
+     * </p>
+     *
+     * @param dersKodu   Silinecek dersin kodu (büyük/küçük harf duyarsız).
+     * @param gpaService Derse ait notların tutulduğu servis.
+     * @return Silindiyse {@link SilmeSonucu#SILINDI}, ders yoksa {@link SilmeSonucu#BULUNAMADI},
+     *         derse ait not varsa {@link SilmeSonucu#KULLANIMDA}.
+     */
+    public SilmeSonucu notuOlmayanDersiSil(String dersKodu, GpaService gpaService) {
+        return DegisiklikKilidi.dondurarak(degisiklikKilidi, gpaService.degisiklikKilidi(), () -> {
+            Ders ders = dersAra(dersKodu);
+            if (ders == null) {
+                return SilmeSonucu.BULUNAMADI;
+            }
+            if (gpaService.dersteNotVarMi(ders)) {
+                return SilmeSonucu.KULLANIMDA;
+            }
+            return dersSil(dersKodu) ? SilmeSonucu.SILINDI : SilmeSonucu.BULUNAMADI;
+        });
     }
 
     /**
@@ -65,13 +166,29 @@ public class DersService {
      * @return Silme işlemi başarılıysa true, ders bulunamazsa false döner.
      */
     public boolean dersSil(String dersKodu) {
-        Ders ders = dersAra(dersKodu);
-        if (ders == null) {
-            return false;
-        }
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            kilit.writeLock().lock();
+            try {
+                String anahtar = MetinUtil.anahtar(dersKodu);
+                Ders ders = kodIndeksi.remove(anahtar);
+                if (ders == null) {
+                    return false;
+                }
 
-        dersler.remove(ders);
-        return true;
+                siraliIndeks.remove(anahtar);
+                listeKopyasi = null;
+                dinleyici.dersSilindi(ders.getKod());
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            SIL.kaydet(baslangic);
+        }
     }
 
     /**
@@ -84,21 +201,77 @@ public class DersService {
      * @return Ders bulunursa {@link Ders} nesnesini, bulunamazsa null döndürür.
      */
     public Ders dersAra(String dersKodu) {
-        for (Ders ders : dersler) {
-            if (ders.getKod().equalsIgnoreCase(dersKodu)) {
-                return ders;
+        long baslangic = System.nanoTime();
+        try {
+            String anahtar = MetinUtil.anahtar(dersKodu);
+
+            kilit.readLock().lock();
+            try {
+                return kodIndeksi.get(anahtar);
+            } finally {
+                kilit.readLock().unlock();
             }
+        } finally {
+            ARA.kaydet(baslangic);
         }
-        return null;
     }
 
     /**
      * Sistemde kayıtlı olan tüm derslerin listesini döndürür.
+     * <p>
+     * Dönen liste değiştirilemez bir kopyadır; araya yazma girmediği sürece aynı kopya tekrar döndürülür.
+     * </p>
      *
      * @return Mevcut tüm dersleri içeren {@link List}.
      */
     public List<Ders> dersListele() {
-        return dersler;
+        long baslangic = System.nanoTime();
+        try {
+            List<Ders> kopya = listeKopyasi;
+            if (kopya != null) {
+                return kopya;
+            }
+
+            kilit.readLock().lock();
+            try {
+                kopya = listeKopyasi;
+                if (kopya == null) {
+                    kopya = List.copyOf(kodIndeksi.values());
+                    listeKopyasi = kopya;
+                }
+                return kopya;
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            LISTELE.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Kayıtlı dersleri ders koduna göre sıralı, sayfa sayfa döndürür.
+     * <p>
+     * İlk sayfa için imleç verilmez; sonraki ve önceki sayfalar dönen {@link Sayfa}'nın imleçleriyle istenir.
+     * Sıralama büyük/küçük harf duyarsızdır ve eklemelerden bağımsız olarak sabittir. Dönen sayfa yalnızca
+     * kendi kayıtlarının kopyasını içerir.
+     * </p>
+     *
+     * @param imlec Önceki bir sayfadan alınan imleç; null ise ilk sayfa.
+     * @param boyut Sayfadaki en fazla kayıt sayısı (1 ile {@link Sayfa#EN_BUYUK_BOYUT} arası).
+     * @return İstenen sayfa, imleç geçersizse null.
+     */
+    public Sayfa<Ders> dersSayfasi(String imlec, int boyut) {
+        long baslangic = System.nanoTime();
+        try {
+            kilit.readLock().lock();
+            try {
+                return Sayfa.kes(siraliIndeks, Function.identity(), imlec, boyut);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            SAYFA.kaydet(baslangic);
+        }
     }
 
     /**
@@ -108,6 +281,39 @@ public class DersService {
      * @return Ders varsa true, yoksa false döner.
      */
     public boolean dersVarMi(String dersKodu) {
-        return dersAra(dersKodu) != null;
+        long baslangic = System.nanoTime();
+        try {
+            String anahtar = MetinUtil.anahtar(dersKodu);
+
+            kilit.readLock().lock();
+            try {
+                return kodIndeksi.containsKey(anahtar);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            VAR_MI.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Ders kayıtlarında yapılan başarılı değişikliklerin bildirileceği dinleyiciyi atar.
+     *
+     * @param dinleyici Değişiklik dinleyicisi; null verilirse bildirim yapılmaz.
+     */
+    public void setDinleyici(DegisiklikDinleyicisi dinleyici) {
+        this.dinleyici = dinleyici != null ? dinleyici : DegisiklikDinleyicisi.BOS;
+    }
+
+    /**
+     * Değişikliklerin paylaşımlı olarak tutacağı ortak kilidi atar.
+     * <p>
+     * Servis değişikliğe açılmadan önce (örn. işlem günlüğüne bağlanırken) çağrılmalıdır.
+     * </p>
+     *
+     * @param degisiklikKilidi Diğer servislerle paylaşılan {@link DegisiklikKilidi}.
+     */
+    public void setDegisiklikKilidi(DegisiklikKilidi degisiklikKilidi) {
+        this.degisiklikKilidi = degisiklikKilidi;
     }
 }
\ No newline at end of file
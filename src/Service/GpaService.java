@@ -1,10 +1,27 @@
 package Service;
 
+import Metrik.GpaHesaplamaOlayi;
+import Metrik.IslemMetrigi;
+import Metrik.Metrikler;
+import Metrik.NotDegisikligiOlayi;
 import Model.Ders;
+import Model.HarfNotu;
 import Model.Ogrenci;
+import Util.IntIndeks;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Öğrencilerin ders başarılarını ve genel not ortalamalarını (GPA) yöneten servis sınıfıdır.
@@ -13,32 +30,77 @@ import java.util.List;
  * ve derslerin AKTS değerleri kullanılarak ağırlıklı genel not ortalamasının hesaplanması
  * işlemlerini gerçekleştirir.
  * </p>
+ * <p>
+ * Servis birden çok iş parçacığından eş zamanlı kullanılabilir. Depoya erişim bir okuma/yazma
+ * kilidiyle korunur: okumalar (GPA, not sorgulama, listeleme) birbirini beklemez, yazmalar
+ * tek tek uygulanır. Depo öğrenci bazında kendi kilidini sağlıyorsa ({@link SeritliNotDeposu})
+ * tüm depo yerine yalnızca ilgili öğrencinin kilidi kullanılır ve farklı öğrencilere yapılan
+ * not girişleri paralel ilerler. Dinleyici bildirimleri yazma kilidi altında yapıldığından
+ * işlem günlüğüne değişiklikler uygulandıkları sırayla yazılır.
+ * </p>
+ * <p>
+ * Not değişiklikleri ve GPA hesaplamaları ayrıca Java Flight Recorder olayları olarak kaydedilir
+ * ({@link NotDegisikligiOlayi}, {@link GpaHesaplamaOlayi}); kayıt yapılmıyorsa veya olay kapalıysa maliyetleri ihmal edilebilir.
+ * </p>
  */
 public class GpaService {
 
+    /** Genel işlemlerin çağrı sayısı ve süre metrikleri (bkz. {@link Metrikler}). */
+    private static final IslemMetrigi NOT_EKLE = Metrikler.islem("GpaService", "notEkle");
+    private static final IslemMetrigi NOT_EKLE_TOPLU = Metrikler.islem("GpaService", "notEkleToplu");
+    private static final IslemMetrigi NOT_GUNCELLE = Metrikler.islem("GpaService", "notGuncelle");
+    private static final IslemMetrigi GPA_HESAPLA = Metrikler.islem("GpaService", "gpaHesapla");
+    private static final IslemMetrigi HARF_NOTU_BUL = Metrikler.islem("GpaService", "harfNotuBul");
+    private static final IslemMetrigi OGRENCININ_DERSLERI = Metrikler.islem("GpaService", "ogrencininDersleri");
+    private static final IslemMetrigi DERSI_ALAN_OGRENCILER = Metrikler.islem("GpaService", "dersiAlanOgrenciler");
+    private static final IslemMetrigi NOT_DAGILIMI = Metrikler.islem("GpaService", "notDagilimi");
+    private static final IslemMetrigi NOTLARI_TEMIZLE = Metrikler.islem("GpaService", "notlariTemizle");
+
     /**
-     * Öğrenci, ders ve harf notu eşleşmesini temsil eden veri yapısı.
+     * Not kayıtlarının saklandığı depo.
+     * <p>
+     * Varsayılan olarak {@link NesneNotDeposu} kullanılır; arşiv ölçeğindeki veriler için
+     * {@link KolonselNotDeposu}, yoğun eş zamanlı not girişi için {@link SeritliNotDeposu} verilebilir. Servisin genel API'si depodan bağımsızdır.
+     * </p>
      */
-    private static class NotKaydi {
-        Ogrenci ogrenci;
-        Ders ders;
-        String harfNotu;
+    private final NotDeposu depo;
 
-        NotKaydi(Ogrenci ogrenci, Ders ders, String harfNotu) {
-            this.ogrenci = ogrenci;
-            this.ders = ders;
-            this.harfNotu = harfNotu;
-        }
-    }
+    /** Depo kendi kilidini sağlamıyorsa tüm depoya eş zamanlı erişimi düzenleyen okuma/yazma kilidi. */
+    private final ReentrantReadWriteLock depoKilidi = new ReentrantReadWriteLock();
+
+    /**
+     * Her dersin harf notu kodlarına göre (indeks = kod) kayıt sayıları.
+     * <p>
+     * Not ekleme, güncelleme ve temizleme işlemlerinde ilgili öğrencinin yazma kilidi altında güncellenir;
+     * farklı kilitler altında eş zamanlı güncellenebildiği için sayaçlar atomiktir. Böylece ders not dağılımı
+     * kayıt sayısından bağımsız olarak sabit sürede okunur.
+     * </p>
+     */
+    private final ConcurrentHashMap<Ders, AtomicIntegerArray> dagilimlar = new ConcurrentHashMap<>();
+
+    /** Başarılı not değişikliklerinin sayısı; GPA değerlerine dayanan önbelleklerin güncelliğini anlamak için kullanılır. */
+    private final LongAdder degisiklikSayaci = new LongAdder();
 
-    /** Sistemdeki tüm not kayıtlarını tutan liste. */
-    private final List<NotKaydi> notlar;
+    /** Başarılı değişikliklerin bildirileceği dinleyici. */
+    private volatile DegisiklikDinleyicisi dinleyici = DegisiklikDinleyicisi.BOS;
+
+    /** Değişikliklerin anlık görüntü alma gibi tüm servisleri okuyan işlemlerle koordine edildiği ortak kilit. */
+    private volatile DegisiklikKilidi degisiklikKilidi = new DegisiklikKilidi();
 
     /**
-     * Yeni bir GpaService nesnesi oluşturur ve not listesini başlatır.
+     * Yeni bir GpaService nesnesi oluşturur ve varsayılan not deposunu başlatır.
      */
     public GpaService() {
-        this.notlar = new ArrayList<>();
+        this(new NesneNotDeposu());
+    }
+
+    /**
+     * Not kayıtlarını verilen depoda tutan yeni bir GpaService nesnesi oluşturur.
+     *
+     * @param depo Not kayıtlarının saklanacağı {@link NotDeposu}.
+     */
+    public GpaService(NotDeposu depo) {
+        this.depo = depo;
     }
 
     /**
@@ -48,20 +110,7 @@ public class GpaService {
      * @return Harf notunun katsayı karşılığı (Örn: AA için 4.0), geçersiz not için -1.0.
      */
     public double harfNotuKarsiligi(String harfNotu) {
-        if (harfNotu == null) return -1.0;
-
-        switch (harfNotu.toUpperCase().trim()) {
-            case "AA": return 4.00;
-            case "BA": return 3.50;
-            case "BB": return 3.25;
-            case "CB": return 3.00;
-            case "CC": return 2.50;
-            case "DC": return 2.25;
-            case "DD": return 2.00;
-            case "FD": return 1.50;
-            case "FF": return 0.00;
-            default: return -1.0;
-        }
+        return HarfNotu.katsayi(HarfNotu.kodla(harfNotu));
     }
 
     /**
@@ -77,18 +126,184 @@ public class GpaService {
      * @return İşlem başarılıysa true, geçersiz veri veya mükerrer kayıtta false döner.
      */
     public boolean notEkle(Ogrenci ogrenci, Ders ders, String harfNotu) {
-        double katsayi = harfNotuKarsiligi(harfNotu);
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        NotDegisikligiOlayi olay = new NotDegisikligiOlayi("ekle");
+        olay.begin();
+        try {
+            byte kod = HarfNotu.kodla(harfNotu);
+
+            if (ogrenci == null || ders == null || kod == HarfNotu.GECERSIZ) {
+                return false;
+            }
+            olay.ogrenciNo = ogrenci.getOgrenciNo();
+            olay.dersKodu = ders.getKod();
 
-        if (ogrenci == null || ders == null || katsayi == -1.0) {
-            return false;
+            Lock yazma = kilitBul(ogrenci).writeLock();
+            yazma.lock();
+            try {
+                if (!depo.ekle(ogrenci, ders, kod)) {
+                    return false;
+                }
+
+                dagilimaEkle(ders, kod, 1);
+                degisiklikSayaci.increment();
+                dinleyici.notEklendi(ogrenci, ders, kod);
+                olay.kayitSayisi = 1;
+                return true;
+            } finally {
+                yazma.unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            olay.commit();
+            NOT_EKLE.kaydet(baslangic);
         }
+    }
+
+    /**
+     * Bir dersin not çizelgesini (öğrenci numaraları ve 0-100 arası puanlar) tek seferde işler.
+     * <p>
+     * Çizelge önce tek geçişte doğrulanır: puan aralığı kontrol edilir, öğrenciler bulunur ve aynı
+     * öğrencinin çizelgede tekrar eden satırları ayıklanır (ilk satır dikkate alınır). Ardından geçerli
+     * satırların tümü, ilgili öğrencilerin kilitleri birlikte tutularak uygulanır. Hatalı satırlar diğer
+     * satırların eklenmesini engellemez.
+     * </p>
+     * <p>
+     * Öğrenci bazlı okumalar ({@link #gpaHesapla}, {@link #harfNotuBul}, {@link #ogrencininDersleri}) çizelgedeki
+     * öğrencileri ya çizelgeden önceki ya da sonraki haliyle görür. Ders bazlı okumalar ise öğrenci kilitlerini
+     * tutmaz: {@link #notDagilimi} sayaçları kilitsiz okur, {@link #dersiAlanOgrenciler} ve {@link #notlariGez}
+     * şeritli depoda şeritleri tek tek kilitler; bu okumalar eş zamanlı bir çizelgenin yalnızca bir kısmını
+     * yansıtabilir. Tüm servislerle tutarlı bir görünüm gereken işlemler değişiklikleri
+     * {@link DegisiklikKilidi#dondurma()} ile durdurur.
+     * </p>
+     *
+     * @param ders           Notların ait olduğu ders.
+     * @param ogrenciNolari  Satırların öğrenci numaraları.
+     * @param puanlar        Satırların 0-100 arası puanları; {@code ogrenciNolari} ile aynı uzunlukta olmalıdır.
+     * @param ogrenciBulucu  Öğrenci numarasından öğrenciyi bulan fonksiyon (örn. {@code ogrenciService::ogrenciAra});
+     *                       bulunamazsa null döndürmelidir.
+     * @return Her satırın sonucunu aynı sırada içeren dizi; ders null ise veya dizi uzunlukları farklıysa null.
+     */
+    public TopluNotSonucu[] notEkleToplu(Ders ders, int[] ogrenciNolari, int[] puanlar,
+                                         IntFunction<Ogrenci> ogrenciBulucu) {
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        NotDegisikligiOlayi olay = new NotDegisikligiOlayi("toplu");
+        olay.begin();
+        try {
+            if (ders == null || ogrenciNolari == null || puanlar == null || ogrenciBulucu == null
+                    || ogrenciNolari.length != puanlar.length) {
+                return null;
+            }
+            olay.dersKodu = ders.getKod();
+
+            int satirSayisi = ogrenciNolari.length;
+            TopluNotSonucu[] sonuclar = new TopluNotSonucu[satirSayisi];
+            Ogrenci[] ogrenciler = new Ogrenci[satirSayisi];
+            byte[] kodlar = new byte[satirSayisi];
+            IntIndeks<Integer> ilkSatirlar = new IntIndeks<>(satirSayisi);
+            TreeMap<Integer, ReadWriteLock> kilitler = new TreeMap<>();
 
-        if (kayitVarMi(ogrenci, ders)) {
-            return false;
+            for (int i = 0; i < satirSayisi; i++) {
+                int no = ogrenciNolari[i];
+                if (ilkSatirlar.put(no, i) != null) {
+                    sonuclar[i] = TopluNotSonucu.TEKRARLANAN_SATIR;
+                    continue;
+                }
+                if (puanlar[i] < 0 || puanlar[i] > 100) {
+                    sonuclar[i] = TopluNotSonucu.GECERSIZ_PUAN;
+                    continue;
+                }
+                Ogrenci ogrenci = ogrenciBulucu.apply(no);
+                if (ogrenci == null) {
+                    sonuclar[i] = TopluNotSonucu.OGRENCI_BULUNAMADI;
+                    continue;
+                }
+                ogrenciler[i] = ogrenci;
+                kodlar[i] = HarfNotu.puandan(puanlar[i]);
+                kilitler.putIfAbsent(depo.kilitSirasi(ogrenci), kilitBul(ogrenci));
+            }
+
+            // Kilitler her zaman aynı (artan) sırada alınır; eş zamanlı toplu işlemler birbirini bekleyebilir ama kilitlenmez.
+            List<Lock> alinanlar = new ArrayList<>(kilitler.size());
+            try {
+                for (Map.Entry<Integer, ReadWriteLock> kilit : kilitler.entrySet()) {
+                    Lock yazma = kilit.getValue().writeLock();
+                    yazma.lock();
+                    alinanlar.add(yazma);
+                }
+
+                for (int i = 0; i < satirSayisi; i++) {
+                    Ogrenci ogrenci = ogrenciler[i];
+                    if (ogrenci == null) {
+                        continue;
+                    }
+                    if (depo.ekle(ogrenci, ders, kodlar[i])) {
+                        dagilimaEkle(ders, kodlar[i], 1);
+                        degisiklikSayaci.increment();
+                        dinleyici.notEklendi(ogrenci, ders, kodlar[i]);
+                        sonuclar[i] = TopluNotSonucu.EKLENDI;
+                        olay.kayitSayisi++;
+                    } else {
+                        sonuclar[i] = TopluNotSonucu.NOT_MEVCUT;
+                    }
+                }
+            } finally {
+                for (int i = alinanlar.size() - 1; i >= 0; i--) {
+                    alinanlar.get(i).unlock();
+                }
+            }
+            return sonuclar;
+        } finally {
+            degisiklik.unlock();
+            olay.commit();
+            NOT_EKLE_TOPLU.kaydet(baslangic);
         }
+    }
 
-        notlar.add(new NotKaydi(ogrenci, ders, harfNotu.toUpperCase().trim()));
-        return true;
+    /**
+     * Anlık görüntü gibi güvenilir bir kaynaktaki not kayıtlarını servise toplu olarak yükler.
+     * <p>
+     * Kayıtlar {@link #notEkle(Ogrenci, Ders, String)} yolundan geçmez: harf notları bayt kodu olarak alınır,
+     * kayıt başına kilit, metrik, JFR olayı ve dinleyici bildirimi yoktur. Kayıtlar depoya
+     * {@link NotDeposu#yukle(Ogrenci, Ders, byte)} ile eklenir; öğrenci ortalama toplamları ve ders not
+     * dağılımları yükleme sonunda bir kez hesaplanır. Servis henüz başka iş parçacıklarınca kullanılmıyor
+     * ve bir dinleyiciye bağlanmamış olmalıdır.
+     * </p>
+     *
+     * @param kaynak Kendisine verilen ziyaretçiyi her not kaydı için çağıran kaynak.
+     * @return Yüklenen kayıt sayısı; geçersiz kodlu ve mükerrer kayıtlar atlanır.
+     */
+    public long notlariYukle(Consumer<NotDeposu.KayitZiyaretcisi> kaynak) {
+        Map<Ders, int[]> adetler = new IdentityHashMap<>();
+        long[] yuklenen = new long[1];
+
+        depoKilidi.writeLock().lock();
+        try {
+            kaynak.accept((ogrenci, ders, harfNotu) -> {
+                if (HarfNotu.gecerliMi(harfNotu) && depo.yukle(ogrenci, ders, harfNotu)) {
+                    adetler.computeIfAbsent(ders, d -> new int[HarfNotu.ADET])[harfNotu]++;
+                    yuklenen[0]++;
+                }
+            });
+        } finally {
+            depo.yuklemeyiBitir();
+            depoKilidi.writeLock().unlock();
+        }
+
+        adetler.forEach((ders, dersAdetleri) -> {
+            AtomicIntegerArray sayaclar = dagilimlar.computeIfAbsent(ders, d -> new AtomicIntegerArray(HarfNotu.ADET));
+            for (int i = 0; i < dersAdetleri.length; i++) {
+                sayaclar.addAndGet(i, dersAdetleri[i]);
+            }
+        });
+        if (yuklenen[0] > 0) {
+            degisiklikSayaci.increment();
+        }
+        return yuklenen[0];
     }
 
     /**
@@ -100,20 +315,45 @@ public class GpaService {
      * @return Güncelleme başarılıysa true, kayıt bulunamazsa false döner.
      */
     public boolean notGuncelle(Ogrenci ogrenci, Ders ders, String yeniHarfNotu) {
-        double katsayi = harfNotuKarsiligi(yeniHarfNotu);
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        NotDegisikligiOlayi olay = new NotDegisikligiOlayi("guncelle");
+        olay.begin();
+        try {
+            byte kod = HarfNotu.kodla(yeniHarfNotu);
 
-        if (ogrenci == null || ders == null || katsayi == -1.0) {
-            return false;
-        }
+            if (ogrenci == null || ders == null || kod == HarfNotu.GECERSIZ) {
+                return false;
+            }
+            olay.ogrenciNo = ogrenci.getOgrenciNo();
+            olay.dersKodu = ders.getKod();
+
+            Lock yazma = kilitBul(ogrenci).writeLock();
+            yazma.lock();
+            try {
+                byte eski = depo.guncelle(ogrenci, ders, kod);
+                if (eski == HarfNotu.GECERSIZ) {
+                    return false;
+                }
+
+                dagilimaEkle(ders, eski, -1);
+                dagilimaEkle(ders, kod, 1);
+                degisiklikSayaci.increment();
 
-        for (NotKaydi kayit : notlar) {
-            if (kayit.ogrenci.equals(ogrenci) && kayit.ders.equals(ders)) {
-                kayit.harfNotu = yeniHarfNotu.toUpperCase().trim();
+                dinleyici.notGuncellendi(ogrenci, ders, kod);
+                olay.kayitSayisi = 1;
                 return true;
+            } finally {
+                yazma.unlock();
             }
+        } finally {
+            degisiklik.unlock();
+            olay.commit();
+            NOT_GUNCELLE.kaydet(baslangic);
         }
-        return false;
     }
+
     /**
      * 0-100 arasındaki sayısal notu harf notuna dönüştürür.
      *
@@ -121,44 +361,93 @@ public class GpaService {
      * @return Harf notu karşılığı.
      */
     public String puaniHarfeCevir(int puan) {
-        if (puan >= 90) return "AA";
-        if (puan >= 85) return "BA";
-        if (puan >= 80) return "BB";
-        if (puan >= 75) return "CB";
-        if (puan >= 70) return "CC";
-        if (puan >= 65) return "DC";
-        if (puan >= 60) return "DD";
-        if (puan >= 50) return "FD";
-        return "FF";
+        return HarfNotu.metin(HarfNotu.puandan(puan));
     }
     /**
      * Öğrencinin aldığı tüm derslerin AKTS ağırlıklı genel not ortalamasını hesaplar.
      * <p>
      * Hesaplama formülü: Σ(Ders Katsayısı * Ders AKTS) / Σ(Toplam AKTS).
+     * Toplamlar not ekleme, güncelleme ve temizleme sırasında güncel tutulduğundan
+     * bu metod sabit sürede çalışır.
      * </p>
      *
      * @param ogrenci GPA değeri hesaplanacak öğrenci.
      * @return Hesaplanan GPA değeri (0.00 - 4.00 arası), kayıt yoksa 0.0.
      */
     public double gpaHesapla(Ogrenci ogrenci) {
-        int toplamAKTS = 0;
-        double agirlikliToplam = 0;
-
-        for (NotKaydi kayit : notlar) {
-            if (kayit.ogrenci.equals(ogrenci)) {
-                int akts = kayit.ders.getAkts();
-                double katsayi = harfNotuKarsiligi(kayit.harfNotu);
+        long baslangic = System.nanoTime();
+        GpaHesaplamaOlayi olay = new GpaHesaplamaOlayi();
+        olay.begin();
+        try {
+            if (ogrenci == null) {
+                return 0.0;
+            }
+            olay.ogrenciSayisi = 1;
 
-                toplamAKTS += akts;
-                agirlikliToplam += katsayi * akts;
+            Lock okuma = kilitBul(ogrenci).readLock();
+            okuma.lock();
+            try {
+                return depo.gpa(ogrenci);
+            } finally {
+                okuma.unlock();
             }
+        } finally {
+            olay.commit();
+            GPA_HESAPLA.kaydet(baslangic);
         }
+    }
 
-        if (toplamAKTS == 0) {
-            return 0.0;
+    /**
+     * Bir öğrenci aralığının GPA, toplam AKTS ve kazanılan AKTS değerlerini toplu olarak okur.
+     * <p>
+     * İstatistik gibi çok sayıda öğrencinin özetine ihtiyaç duyan işlemler için tasarlanmıştır: depo kendi
+     * kilidini sağlamıyorsa tüm aralık için okuma kilidi bir kez alınır; böylece farklı iş parçacıklarından
+     * eş zamanlı okunan aralıklar ortak kilit üzerinde yarışmaz. Değerler, diziler içinde öğrenciyle aynı konuma yazılır.
+     * </p>
+     *
+     * @param ogrenciler      Özetleri okunacak öğrenciler.
+     * @param bas             Aralığın başlangıcı (dahil).
+     * @param son             Aralığın sonu (hariç).
+     * @param gpalar          GPA değerlerinin yazılacağı dizi.
+     * @param toplamAktslar   Toplam AKTS değerlerinin yazılacağı dizi.
+     * @param kazanilanAktslar Kazanılan AKTS değerlerinin yazılacağı dizi.
+     */
+    public void ozetleriOku(Ogrenci[] ogrenciler, int bas, int son,
+                            double[] gpalar, int[] toplamAktslar, int[] kazanilanAktslar) {
+        if (bas >= son) {
+            return;
         }
 
-        return agirlikliToplam / toplamAKTS;
+        GpaHesaplamaOlayi olay = new GpaHesaplamaOlayi();
+        olay.begin();
+        olay.ogrenciSayisi = son - bas;
+        if (depo.kilit(ogrenciler[bas]) == null) {
+            depoKilidi.readLock().lock();
+            try {
+                for (int i = bas; i < son; i++) {
+                    ozetYaz(ogrenciler[i], i, gpalar, toplamAktslar, kazanilanAktslar);
+                }
+            } finally {
+                depoKilidi.readLock().unlock();
+            }
+        } else {
+            for (int i = bas; i < son; i++) {
+                Lock okuma = kilitBul(ogrenciler[i]).readLock();
+                okuma.lock();
+                try {
+                    ozetYaz(ogrenciler[i], i, gpalar, toplamAktslar, kazanilanAktslar);
+                } finally {
+                    okuma.unlock();
+                }
+            }
+        }
+        olay.commit();
+    }
+
+    private void ozetYaz(Ogrenci ogrenci, int i, double[] gpalar, int[] toplamAktslar, int[] kazanilanAktslar) {
+        gpalar[i] = depo.gpa(ogrenci);
+        toplamAktslar[i] = depo.toplamAkts(ogrenci);
+        kazanilanAktslar[i] = depo.kazanilanAkts(ogrenci);
     }
 
     /**
@@ -169,12 +458,22 @@ public class GpaService {
      * @return Kayıtlı harf notu, bulunamazsa null.
      */
     public String harfNotuBul(Ogrenci ogrenci, Ders ders) {
-        for (NotKaydi kayit : notlar) {
-            if (kayit.ogrenci.equals(ogrenci) && kayit.ders.equals(ders)) {
-                return kayit.harfNotu;
+        long baslangic = System.nanoTime();
+        try {
+            if (ogrenci == null || ders == null) {
+                return null;
             }
+
+            Lock okuma = kilitBul(ogrenci).readLock();
+            okuma.lock();
+            try {
+                return HarfNotu.metin(depo.bul(ogrenci, ders));
+            } finally {
+                okuma.unlock();
+            }
+        } finally {
+            HARF_NOTU_BUL.kaydet(baslangic);
         }
-        return null;
     }
 
     /**
@@ -184,38 +483,238 @@ public class GpaService {
      * @return Öğrencinin aldığı dersleri içeren {@link List}.
      */
     public List<Ders> ogrencininDersleri(Ogrenci ogrenci) {
-        List<Ders> dersler = new ArrayList<>();
-        for (NotKaydi kayit : notlar) {
-            if (kayit.ogrenci.equals(ogrenci)) {
-                dersler.add(kayit.ders);
+        long baslangic = System.nanoTime();
+        try {
+            if (ogrenci == null) {
+                return new ArrayList<>();
             }
+
+            Lock okuma = kilitBul(ogrenci).readLock();
+            okuma.lock();
+            try {
+                return depo.dersler(ogrenci);
+            } finally {
+                okuma.unlock();
+            }
+        } finally {
+            OGRENCININ_DERSLERI.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Belirli bir dersten not kaydı bulunan tüm öğrencilerin listesini döndürür.
+     *
+     * @param ders Öğrencileri listelenecek ders.
+     * @return Dersi alan öğrencileri içeren {@link List}.
+     */
+    public List<Ogrenci> dersiAlanOgrenciler(Ders ders) {
+        long baslangic = System.nanoTime();
+        try {
+            if (ders == null) {
+                return new ArrayList<>();
+            }
+
+            depoKilidi.readLock().lock();
+            try {
+                return depo.ogrenciler(ders);
+            } finally {
+                depoKilidi.readLock().unlock();
+            }
+        } finally {
+            DERSI_ALAN_OGRENCILER.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Bir dersin harf notu dağılımını ve geçen/kalan öğrenci sayılarını döndürür.
+     * <p>
+     * Dağılım not değişikliklerinde güncel tutulduğundan sorgu, dersin kayıt sayısından bağımsız olarak
+     * sabit sürede yanıtlanır. Eş zamanlı not girişi sürerken her harf notunun sayısı kendi içinde tutarlıdır.
+     * </p>
+     *
+     * @param ders Dağılımı istenen ders.
+     * @return Dersin {@link NotDagilimi}; ders null ise veya dersin notu yoksa tüm sayılar 0.
+     */
+    public NotDagilimi notDagilimi(Ders ders) {
+        long baslangic = System.nanoTime();
+        try {
+            int[] adetler = new int[HarfNotu.ADET];
+            AtomicIntegerArray sayaclar = ders != null ? dagilimlar.get(ders) : null;
+            if (sayaclar != null) {
+                for (int i = 0; i < adetler.length; i++) {
+                    adetler[i] = sayaclar.get(i);
+                }
+            }
+            return new NotDagilimi(adetler);
+        } finally {
+            NOT_DAGILIMI.kaydet(baslangic);
         }
+    }
+
+    /**
+     * Bu servis oluşturulduğundan beri yapılan başarılı not değişikliklerinin (ekleme, güncelleme, temizleme) sayısını döndürür.
+     * <p>
+     * GPA değerlerinden türetilen önbellekler, oluşturuldukları andaki sayıyı saklayıp sonradan karşılaştırarak
+     * güncel olup olmadıklarını anlayabilir. Sayı yalnızca artar; okuma kilit gerektirmez.
+     * </p>
+     *
+     * @return Değişiklik sayısı.
+     */
+    public long degisiklikSayisi() {
+        return degisiklikSayaci.sum();
+    }
+
+    /**
+     * En az bir not kaydı bulunan dersleri döndürür.
+     * <p>
+     * Sonuç ders not dağılımlarından okunur; not kayıtları dolaşılmaz. Eş zamanlı not girişi sürerken
+     * sonuç yalnızca o anki durumu yansıtır; notlarla tutarlı bir sonuç için değişiklikler
+     * {@link DegisiklikKilidi#dondurma()} ile durdurulmuş olmalıdır.
+     * </p>
+     *
+     * @return Notu olan dersleri içeren {@link List}.
+     */
+    public List<Ders> notuOlanDersler() {
+        List<Ders> dersler = new ArrayList<>();
+        dagilimlar.forEach((ders, sayaclar) -> {
+            if (notVarMi(sayaclar)) {
+                dersler.add(ders);
+            }
+        });
         return dersler;
     }
 
     /**
-     * Öğrenci ve ders ikilisi için sistemde daha önceden girilmiş bir kayıt olup olmadığını kontrol eder.
+     * Derse ait en az bir not kaydı olup olmadığını kontrol eder.
+     * <p>
+     * Kontrol ders not dağılımından sabit sürede yapılır. Sonucun bir silme kararı boyunca geçerli kalması
+     * için değişiklikler {@link DegisiklikKilidi#dondurma()} ile durdurulmuş olmalıdır
+     * (bkz. {@link DersService#notuOlmayanDersiSil(String, GpaService)}).
+     * </p>
+     *
+     * @param ders Kontrol edilecek ders.
+     * @return Derse ait not varsa true; ders null ise veya notu yoksa false.
      */
-    private boolean kayitVarMi(Ogrenci ogrenci, Ders ders) {
-        for (NotKaydi kayit : notlar) {
-            if (kayit.ogrenci.equals(ogrenci) && kayit.ders.equals(ders)) {
+    public boolean dersteNotVarMi(Ders ders) {
+        AtomicIntegerArray sayaclar = ders != null ? dagilimlar.get(ders) : null;
+        return sayaclar != null && notVarMi(sayaclar);
+    }
+
+    private static boolean notVarMi(AtomicIntegerArray sayaclar) {
+        for (int i = 0; i < sayaclar.length(); i++) {
+            if (sayaclar.get(i) > 0) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Sistemdeki tüm not kayıtlarını sırayla ziyaretçiye gönderir.
+     * <p>
+     * Anlık görüntü (snapshot) alma gibi tüm notların toplu olarak okunması gereken
+     * işlemlerde kullanılır. Gezinme boyunca okuma kilidi tutulur; ziyaretçi servisi değiştirmemelidir.
+     * </p>
+     *
+     * @param ziyaretci Her not kaydı için çağrılacak ziyaretçi.
+     */
+    public void notlariGez(NotDeposu.KayitZiyaretcisi ziyaretci) {
+        depoKilidi.readLock().lock();
+        try {
+            depo.kayitlariGez(ziyaretci);
+        } finally {
+            depoKilidi.readLock().unlock();
+        }
+    }
+
     /**
      * Sistemden silinen bir öğrenciye ait tüm geçmiş not kayıtlarını temizler.
      * <p>
      * Bu işlem, veri bütünlüğünü korumak ve yetim kayıt oluşmasını engellemek için önemlidir.
+     * Öğrencinin not kaydı yoksa hiçbir şey yapılmaz; değişiklik sayısı artmaz ve dinleyiciye bildirim gitmez.
      * </p>
      *
      * @param ogrenci Notları temizlenecek olan öğrenci nesnesi.
      */
     public void notlariTemizle(Ogrenci ogrenci) {
-        if (ogrenci != null) {
-            notlar.removeIf(kayit -> kayit.ogrenci.equals(ogrenci));
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        NotDegisikligiOlayi olay = new NotDegisikligiOlayi("temizle");
+        olay.begin();
+        try {
+            if (ogrenci == null) {
+                return;
+            }
+            olay.ogrenciNo = ogrenci.getOgrenciNo();
+
+            Lock yazma = kilitBul(ogrenci).writeLock();
+            yazma.lock();
+            try {
+                for (Ders ders : depo.dersler(ogrenci)) {
+                    dagilimaEkle(ders, depo.bul(ogrenci, ders), -1);
+                    olay.kayitSayisi++;
+                }
+                if (olay.kayitSayisi == 0) {
+                    return;
+                }
+                depo.temizle(ogrenci);
+                degisiklikSayaci.increment();
+                dinleyici.notlarTemizlendi(ogrenci);
+            } finally {
+                yazma.unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            olay.commit();
+            NOTLARI_TEMIZLE.kaydet(baslangic);
         }
     }
+
+    /**
+     * Dersin dağılım sayacını verilen harf notu için bir artırır ya da azaltır.
+     */
+    private void dagilimaEkle(Ders ders, byte harfNotu, int yon) {
+        if (!HarfNotu.gecerliMi(harfNotu)) {
+            return;
+        }
+        dagilimlar.computeIfAbsent(ders, d -> new AtomicIntegerArray(HarfNotu.ADET)).addAndGet(harfNotu, yon);
+    }
+
+    /**
+     * Öğrencinin not kayıtlarına erişimde kullanılacak kilidi döndürür: depo sağlıyorsa öğrencinin
+     * kendi kilidi, aksi halde tüm depo için ortak kilit.
+     */
+    private ReadWriteLock kilitBul(Ogrenci ogrenci) {
+        ReadWriteLock kilit = depo.kilit(ogrenci);
+        return kilit != null ? kilit : depoKilidi;
+    }
+
+    /**
+     * Not kayıtlarında yapılan başarılı değişikliklerin bildirileceği dinleyiciyi atar.
+     *
+     * @param dinleyici Değişiklik dinleyicisi; null verilirse bildirim yapılmaz.
+     */
+    public void setDinleyici(DegisiklikDinleyicisi dinleyici) {
+        this.dinleyici = dinleyici != null ? dinleyici : DegisiklikDinleyicisi.BOS;
+    }
+
+    /**
+     * Değişikliklerin paylaşımlı olarak tutacağı ortak kilidi atar.
+     * <p>
+     * Servis değişikliğe açılmadan önce (örn. işlem günlüğüne bağlanırken) çağrılmalıdır.
+     * </p>
+     *
+     * @param degisiklikKilidi Diğer servislerle paylaşılan {@link DegisiklikKilidi}.
+     */
+    public void setDegisiklikKilidi(DegisiklikKilidi degisiklikKilidi) {
+        this.degisiklikKilidi = degisiklikKilidi;
+    }
+
+    /**
+     * Birden çok servisi birlikte değiştiren işlemlerin kullandığı ortak kilidi döndürür.
+     */
+    DegisiklikKilidi degisiklikKilidi() {
+        return degisiklikKilidi;
+    }
 }
\ No newline at end of file
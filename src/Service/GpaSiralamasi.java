@@ -0,0 +1,52 @@
+package Service;
+
+import Model.Ogrenci;
+
+/**
+ * Öğrencilerin GPA değerine göre sıralanmış halini temsil eden sonuç sınıfıdır.
+ * <p>
+ * Sıralama sırasında her öğrencinin GPA değeri bir kez hesaplanıp bu nesnede saklanır;
+ * böylece sonucu listeleyen veya dosyaya yazan kod GPA değerini tekrar hesaplamaz.
+ * </p>
+ */
+public class GpaSiralamasi {
+
+    /** Sıralanmış öğrenciler (1. sıradaki öğrenci 0. indekstedir). */
+    private final Ogrenci[] ogrenciler;
+    /** Aynı indeksteki öğrencinin GPA değeri. */
+    private final double[] gpalar;
+
+    GpaSiralamasi(Ogrenci[] ogrenciler, double[] gpalar) {
+        this.ogrenciler = ogrenciler;
+        this.gpalar = gpalar;
+    }
+
+    /**
+     * Sıralamadaki öğrenci sayısını döndürür.
+     *
+     * @return Öğrenci sayısı.
+     */
+    public int boyut() {
+        return ogrenciler.length;
+    }
+
+    /**
+     * Verilen sıradaki öğrenciyi döndürür.
+     *
+     * @param sira 0 tabanlı sıra numarası.
+     * @return İlgili sıradaki {@link Ogrenci}.
+     */
+    public Ogrenci ogrenci(int sira) {
+        return ogrenciler[sira];
+    }
+
+    /**
+     * Verilen sıradaki öğrencinin GPA değerini döndürür.
+     *
+     * @param sira 0 tabanlı sıra numarası.
+     * @return İlgili sıradaki öğrencinin GPA değeri.
+     */
+    public double gpa(int sira) {
+        return gpalar[sira];
+    }
+}
@@ -0,0 +1,447 @@
+package Service;
+
+import Model.Ogrenci;
+import Util.MetinUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Öğrencilerin isim ve soyisimlerindeki kelimeler üzerinde önek ve yazım hatası toleranslı arama yapan indekstir.
+ * <p>
+ * Her kelime {@link MetinUtil#aramaAnahtari(String)} ile Türkçe karakterlerden arındırılıp bir harf ağacına (trie)
+ * eklenir. Düğümler nesne olarak değil, düğüm numarasıyla erişilen paralel dizilerde tutulur; bir milyon
+ * öğrencinin kelimeleri birkaç dizide yer alır ve dolaşma işaretçi takibi gerektirmez. Önek araması sorgu
+ * kelimesinin düğümüne inip alt ağacı toplamaktır. Yazım hatası toleranslı arama ağaç dolaşılarak yapılır:
+ * her derinlikte düzenleme mesafesi tablosunun bir satırı hesaplanır, ortak önekli kelimeler bu satırları
+ * paylaşır ve satırın en küçük değeri izni aşan düğümün alt ağacı hiç dolaşılmaz. Böylece arama maliyeti
+ * kelime sayısıyla değil, sorguya yakın öneklerin sayısıyla orantılıdır.
+ * </p>
+ * <p>
+ * Düzenleme mesafesi harf ekleme, silme, değiştirme ve yan yana iki harfin yer değiştirmesini birer hata sayar.
+ * İzin verilen hata sayısı kelime uzunluğuna göre belirlenir: 3 harften kısa kelimelerde 0, 6 harften kısa
+ * kelimelerde 1, daha uzunlarında 2.
+ * </p>
+ * <p>
+ * Silinen kelimelerin düğümleri ağaçtan çıkarılmaz, yalnızca boşaltılır; aynı önekle eklenen kelimeler bu
+ * düğümleri yeniden kullanır.
+ * </p>
+ * <p>
+ * Eş zamanlı erişime karşı korumalı değildir; {@link OgrenciService} tarafından kendi kilidi altında kullanılır.
+ * </p>
+ */
+class IsimIndeksi {
+
+    private static final int KOK = 0;
+    private static final int YOK = -1;
+
+    /** Düğümün sıralı çocuk listesindeki ilk çocuğu. */
+    private int[] ilkCocuk = new int[1024];
+    /** Düğümden sonra gelen, harfi daha büyük kardeş düğüm. */
+    private int[] kardes = new int[1024];
+    /** Düğüme ebeveyninden gelirken okunan harf. */
+    private char[] harf = new char[1024];
+    /**
+     * Düğümde biten kelimeyi içeren öğrenciler.
+     * <p>
+     * Kelimelerin çoğu tek bir öğrenciye ait olduğundan değer, tek öğrenci için doğrudan {@link Ogrenci},
+     * birden fazla öğrenci için {@link OgrenciKumesi}, kelime yoksa null olarak tutulur.
+     * </p>
+     */
+    private Object[] ogrenciler = new Object[1024];
+    private int dugumSayisi;
+
+    IsimIndeksi() {
+        dugumSayisi = 1;
+        ilkCocuk[KOK] = YOK;
+        kardes[KOK] = YOK;
+    }
+
+    /**
+     * Öğrencinin isim ve soyisim kelimelerini indekse ekler.
+     */
+    void ekle(Ogrenci ogrenci) {
+        for (String kelime : kelimeleriAyir(ogrenci)) {
+            int dugum = KOK;
+            for (int i = 0; i < kelime.length(); i++) {
+                dugum = cocukBulVeyaEkle(dugum, kelime.charAt(i));
+            }
+
+            Object mevcut = ogrenciler[dugum];
+            if (mevcut == null) {
+                ogrenciler[dugum] = ogrenci;
+            } else if (mevcut instanceof OgrenciKumesi kume) {
+                kume.ekle(ogrenci);
+            } else if (mevcut != ogrenci) {
+                OgrenciKumesi kume = new OgrenciKumesi((Ogrenci) mevcut);
+                kume.ekle(ogrenci);
+                ogrenciler[dugum] = kume;
+            }
+        }
+    }
+
+    /**
+     * Öğrencinin isim ve soyisim kelimelerini indeksten çıkarır.
+     * <p>
+     * Öğrencinin isim ve soyisminin, indekse eklendiği andaki değerlerde olması gerekir.
+     * </p>
+     */
+    void sil(Ogrenci ogrenci) {
+        for (String kelime : kelimeleriAyir(ogrenci)) {
+            int dugum = dugumBul(kelime);
+            if (dugum == YOK) {
+                continue;
+            }
+
+            Object mevcut = ogrenciler[dugum];
+            if (mevcut instanceof OgrenciKumesi kume) {
+                kume.sil(ogrenci);
+                if (kume.adet == 1) {
+                    ogrenciler[dugum] = kume.ogrenciler[0];
+                }
+            } else if (mevcut == ogrenci) {
+                ogrenciler[dugum] = null;
+            }
+        }
+    }
+
+    /**
+     * Sorgudaki tüm kelimelerle eşleşen öğrencileri bulur.
+     * <p>
+     * Öğrencinin bir kelimesi, sorgu kelimesiyle başlıyorsa ya da sorgu kelimesine izin verilen hata sayısı
+     * kadar yakınsa eşleşir. Sorgu birden çok kelime içeriyorsa her kelime öğrencinin farklı ya da aynı bir
+     * kelimesiyle eşleşmelidir. Önekle eşleşenler önce, yazım hatasıyla eşleşenler mesafe sırasıyla sonra gelir.
+     * </p>
+     *
+     * @param sorgu   Aranan isim, soyisim veya ikisi birlikte.
+     * @param enFazla Döndürülecek en fazla öğrenci sayısı.
+     * @return Eşleşen öğrenciler.
+     */
+    List<Ogrenci> ara(String sorgu, int enFazla) {
+        String[] sorguKelimeleri = ayir(MetinUtil.aramaAnahtari(sorgu));
+        if (sorguKelimeleri.length == 0 || enFazla <= 0) {
+            return List.of();
+        }
+
+        // En uzun kelime genellikle en seçici olandır; adaylar onunla bulunur, diğer kelimeler süzgeç olur.
+        String surucu = sorguKelimeleri[0];
+        for (String kelime : sorguKelimeleri) {
+            if (kelime.length() > surucu.length()) {
+                surucu = kelime;
+            }
+        }
+
+        Set<Ogrenci> sonuc = new LinkedHashSet<>();
+        int onekDugumu = dugumBul(surucu);
+        if (onekDugumu != YOK && !altAgaciTopla(onekDugumu, sorguKelimeleri, surucu, sonuc, enFazla)) {
+            return List.copyOf(sonuc);
+        }
+
+        int izin = izinVerilenHata(surucu);
+        if (izin > 0) {
+            List<List<Integer>> mesafeyeGore = bulanikDugumler(surucu, izin);
+            for (List<Integer> grup : mesafeyeGore) {
+                for (int dugum : grup) {
+                    if (!topla(ogrenciler[dugum], sorguKelimeleri, surucu, sonuc, enFazla)) {
+                        return List.copyOf(sonuc);
+                    }
+                }
+            }
+        }
+        return List.copyOf(sonuc);
+    }
+
+    /**
+     * Düğüm ve altındaki tüm kelimelerin öğrencilerini harf sırasıyla toplar.
+     *
+     * @return Sonuç henüz dolmadıysa true.
+     */
+    private boolean altAgaciTopla(int dugum, String[] sorguKelimeleri, String surucu, Set<Ogrenci> sonuc, int enFazla) {
+        if (ogrenciler[dugum] != null && !topla(ogrenciler[dugum], sorguKelimeleri, surucu, sonuc, enFazla)) {
+            return false;
+        }
+        for (int cocuk = ilkCocuk[dugum]; cocuk != YOK; cocuk = kardes[cocuk]) {
+            if (!altAgaciTopla(cocuk, sorguKelimeleri, surucu, sonuc, enFazla)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bir kelimenin öğrencilerinden diğer sorgu kelimeleriyle de eşleşenleri sonuca ekler.
+     *
+     * @return Sonuç henüz dolmadıysa true.
+     */
+    private static boolean topla(Object deger, String[] sorguKelimeleri, String surucu, Set<Ogrenci> sonuc, int enFazla) {
+        if (deger instanceof OgrenciKumesi kume) {
+            for (int i = 0; i < kume.adet; i++) {
+                if (!topla(kume.ogrenciler[i], sorguKelimeleri, surucu, sonuc, enFazla)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Ogrenci ogrenci = (Ogrenci) deger;
+        if (sorguKelimeleri.length == 1 || digerKelimelerEslesiyor(ogrenci, sorguKelimeleri, surucu)) {
+            sonuc.add(ogrenci);
+        }
+        return sonuc.size() < enFazla;
+    }
+
+    private static boolean digerKelimelerEslesiyor(Ogrenci ogrenci, String[] sorguKelimeleri, String surucu) {
+        String[] ogrenciKelimeleri = kelimeleriAyir(ogrenci);
+        boolean surucuAtlandi = false;
+        for (String sorguKelimesi : sorguKelimeleri) {
+            if (!surucuAtlandi && sorguKelimesi.equals(surucu)) {
+                surucuAtlandi = true;
+                continue;
+            }
+            boolean eslesti = false;
+            for (String kelime : ogrenciKelimeleri) {
+                if (kelime.startsWith(sorguKelimesi)
+                        || mesafe(kelime, sorguKelimesi, izinVerilenHata(sorguKelimesi)) >= 0) {
+                    eslesti = true;
+                    break;
+                }
+            }
+            if (!eslesti) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorguya en fazla {@code izin} hata uzaklıktaki, öğrencisi olan kelime düğümlerini mesafelerine göre
+     * gruplanmış olarak bulur. Sorguyla başlayan kelimeler önek araması tarafından bulunduğundan atlanır.
+     *
+     * @return İndeks = mesafe olacak şekilde düğüm grupları.
+     */
+    private List<List<Integer>> bulanikDugumler(String sorgu, int izin) {
+        List<List<Integer>> gruplar = new ArrayList<>(izin + 1);
+        for (int i = 0; i <= izin; i++) {
+            gruplar.add(new ArrayList<>());
+        }
+
+        // satirlar[d]: kökten d derinlikteki düğüme kadar okunan önek ile sorgu arasındaki mesafe satırı.
+        int m = sorgu.length();
+        int[][] satirlar = new int[m + izin + 1][m + 1];
+        for (int j = 0; j <= m; j++) {
+            satirlar[0][j] = j;
+        }
+        bulanikDolas(KOK, 0, (char) 0, sorgu, izin, satirlar, gruplar);
+        return gruplar;
+    }
+
+    /**
+     * Düğümün çocuklarını, mesafe satırı izin içinde kaldığı sürece derinlemesine dolaşır.
+     *
+     * @param oncekiHarf Düğüme gelirken okunan harf (yer değiştirme kontrolü için).
+     */
+    private void bulanikDolas(int dugum, int derinlik, char oncekiHarf, String sorgu, int izin,
+                              int[][] satirlar, List<List<Integer>> gruplar) {
+        int m = sorgu.length();
+        int[] ust = satirlar[derinlik];
+        // Kelime sorgudan izin kadar uzun olduğunda mesafe zaten izni aşar. Mesafe 0 ise okunan önek sorgunun
+        // kendisidir; alt ağaçtaki kelimeler sorguyla başlar ve önek aramasında zaten bulunmuştur.
+        if (derinlik + 1 >= satirlar.length || ust[m] == 0) {
+            return;
+        }
+        int[] satir = satirlar[derinlik + 1];
+
+        for (int cocuk = ilkCocuk[dugum]; cocuk != YOK; cocuk = kardes[cocuk]) {
+            char c = harf[cocuk];
+            satir[0] = derinlik + 1;
+            int enKucuk = satir[0];
+            for (int j = 1; j <= m; j++) {
+                char s = sorgu.charAt(j - 1);
+                int deger = Math.min(Math.min(ust[j] + 1, satir[j - 1] + 1), ust[j - 1] + (s == c ? 0 : 1));
+                if (derinlik > 0 && j > 1 && c == sorgu.charAt(j - 2) && oncekiHarf == s) {
+                    deger = Math.min(deger, satirlar[derinlik - 1][j - 2] + 1);
+                }
+                satir[j] = deger;
+                if (deger < enKucuk) {
+                    enKucuk = deger;
+                }
+            }
+            if (enKucuk > izin) {
+                continue;
+            }
+
+            int mesafe = satir[m];
+            if (ogrenciler[cocuk] != null && mesafe > 0 && mesafe <= izin) {
+                gruplar.get(mesafe).add(cocuk);
+            }
+            bulanikDolas(cocuk, derinlik + 1, c, sorgu, izin, satirlar, gruplar);
+        }
+    }
+
+    /**
+     * İki kelime arasındaki düzenleme mesafesini (yer değiştirme dahil) hesaplar.
+     *
+     * @return Mesafe, {@code izin} değerini aşıyorsa -1.
+     */
+    static int mesafe(String a, String b, int izin) {
+        if (Math.abs(a.length() - b.length()) > izin) {
+            return -1;
+        }
+        int[] ikiOnceki = new int[b.length() + 1];
+        int[] onceki = new int[b.length() + 1];
+        int[] satir = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            onceki[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            satir[0] = i;
+            int enKucuk = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int deger = Math.min(Math.min(onceki[j] + 1, satir[j - 1] + 1),
+                        onceki[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1));
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    deger = Math.min(deger, ikiOnceki[j - 2] + 1);
+                }
+                satir[j] = deger;
+                enKucuk = Math.min(enKucuk, deger);
+            }
+            if (enKucuk > izin) {
+                return -1;
+            }
+            int[] t = ikiOnceki;
+            ikiOnceki = onceki;
+            onceki = satir;
+            satir = t;
+        }
+        return onceki[b.length()] <= izin ? onceki[b.length()] : -1;
+    }
+
+    /**
+     * Kelimenin bittiği düğümü bulur.
+     *
+     * @return Düğüm numarası, kelime ağaçta yoksa {@value #YOK}.
+     */
+    private int dugumBul(String kelime) {
+        int dugum = KOK;
+        for (int i = 0; i < kelime.length() && dugum != YOK; i++) {
+            char c = kelime.charAt(i);
+            int cocuk = ilkCocuk[dugum];
+            while (cocuk != YOK && harf[cocuk] < c) {
+                cocuk = kardes[cocuk];
+            }
+            dugum = cocuk != YOK && harf[cocuk] == c ? cocuk : YOK;
+        }
+        return dugum;
+    }
+
+    /**
+     * Düğümün verilen harfle çocuğunu döndürür; yoksa kardeşler harf sırasında kalacak şekilde ekler.
+     */
+    private int cocukBulVeyaEkle(int dugum, char c) {
+        int onceki = YOK;
+        int cocuk = ilkCocuk[dugum];
+        while (cocuk != YOK && harf[cocuk] < c) {
+            onceki = cocuk;
+            cocuk = kardes[cocuk];
+        }
+        if (cocuk != YOK && harf[cocuk] == c) {
+            return cocuk;
+        }
+
+        if (dugumSayisi == harf.length) {
+            int kapasite = dugumSayisi * 2;
+            ilkCocuk = Arrays.copyOf(ilkCocuk, kapasite);
+            kardes = Arrays.copyOf(kardes, kapasite);
+            harf = Arrays.copyOf(harf, kapasite);
+            ogrenciler = Arrays.copyOf(ogrenciler, kapasite);
+        }
+        int yeni = dugumSayisi++;
+        harf[yeni] = c;
+        ilkCocuk[yeni] = YOK;
+        kardes[yeni] = cocuk;
+        if (onceki == YOK) {
+            ilkCocuk[dugum] = yeni;
+        } else {
+            kardes[onceki] = yeni;
+        }
+        return yeni;
+    }
+
+    static int izinVerilenHata(String kelime) {
+        return kelime.length() < 3 ? 0 : kelime.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Öğrencinin isim ve soyisminden arama anahtarı biçiminde, tekrarsız kelimeler çıkarır.
+     */
+    private static String[] kelimeleriAyir(Ogrenci ogrenci) {
+        String[] isim = ayir(MetinUtil.aramaAnahtari(ogrenci.getIsim()));
+        String[] soyisim = ayir(MetinUtil.aramaAnahtari(ogrenci.getSoyisim()));
+        String[] tumu = Arrays.copyOf(isim, isim.length + soyisim.length);
+        System.arraycopy(soyisim, 0, tumu, isim.length, soyisim.length);
+        return Arrays.stream(tumu).distinct().toArray(String[]::new);
+    }
+
+    /**
+     * Metni harf ve rakam dışındaki karakterlerden kelimelere ayırır.
+     */
+    private static String[] ayir(String metin) {
+        if (metin == null) {
+            return new String[0];
+        }
+        List<String> parcalar = new ArrayList<>(2);
+        int bas = -1;
+        for (int i = 0; i <= metin.length(); i++) {
+            boolean harf = i < metin.length() && Character.isLetterOrDigit(metin.charAt(i));
+            if (harf && bas < 0) {
+                bas = i;
+            } else if (!harf && bas >= 0) {
+                parcalar.add(metin.substring(bas, i));
+                bas = -1;
+            }
+        }
+        return parcalar.toArray(new String[0]);
+    }
+
+    /**
+     * Aynı kelimeyi paylaşan öğrencilerin, ekleme sırasını koruyan dizisi.
+     */
+    private static class OgrenciKumesi {
+        Ogrenci[] ogrenciler = new Ogrenci[4];
+        int adet;
+
+        OgrenciKumesi(Ogrenci ilk) {
+            ogrenciler[adet++] = ilk;
+        }
+
+        /**
+         * Öğrenciyi sona ekler.
+         * <p>
+         * Bir öğrencinin kelimeleri art arda eklendiğinden, aynı kelimeyi iki kez içeren bir isimde öğrenci
+         * ancak son sırada bulunabilir; yaygın isimlerin büyük dizileri her eklemede taranmaz.
+         * </p>
+         */
+        void ekle(Ogrenci ogrenci) {
+            if (ogrenciler[adet - 1] == ogrenci) {
+                return;
+            }
+            if (adet == ogrenciler.length) {
+                ogrenciler = Arrays.copyOf(ogrenciler, adet * 2);
+            }
+            ogrenciler[adet++] = ogrenci;
+        }
+
+        void sil(Ogrenci ogrenci) {
+            for (int i = 0; i < adet; i++) {
+                if (ogrenciler[i] == ogrenci) {
+                    System.arraycopy(ogrenciler, i + 1, ogrenciler, i, adet - i - 1);
+                    ogrenciler[--adet] = null;
+                    return;
+                }
+            }
+        }
+    }
+}
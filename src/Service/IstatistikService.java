@@ -0,0 +1,260 @@
+package Service;
+
+import Model.Bolum;
+import Model.Ogrenci;
+import Util.MetinUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Bölüm bazında öğrenci sayısı, GPA ortalaması/medyanı/standart sapması ve kazanılan AKTS
+ * istatistiklerini hesaplayan servis sınıfıdır.
+ * <p>
+ * Hesaplama tüm öğrenciler üzerinde tek bir fork/join geçişiyle yapılır. Her öğrencinin GPA ve AKTS
+ * toplamları depoda güncel tutulduğundan notlar tekrar taranmaz; görevler öğrenci dizisini parçalara
+ * böler, her parça değerleri bölümüne göre gruplar ve gruplar görev ağacı sırasıyla birleştirilir.
+ * </p>
+ * <p>
+ * Sonuçlar paralellik derecesinden bağımsız olarak bit düzeyinde aynıdır: her bölümün GPA değerleri
+ * toplanmadan önce sıralanır, dolayısıyla kayan nokta toplamları her zaman aynı sırada yapılır.
+ * AKTS toplamları tam sayıdır.
+ * </p>
+ */
+public class IstatistikService {
+
+    /** Bir yaprak görevin sıralı olarak işlediği en fazla öğrenci sayısı. */
+    private static final int ESIK = 16_384;
+
+    private final OgrenciService ogrenciService;
+    private final GpaService gpaService;
+
+    /**
+     * Yeni bir IstatistikService nesnesi oluşturur.
+     *
+     * @param ogrenciService Öğrenci listesini sağlayan servis.
+     * @param gpaService     GPA ve AKTS toplamlarını sağlayan servis.
+     */
+    public IstatistikService(OgrenciService ogrenciService, GpaService gpaService) {
+        this.ogrenciService = ogrenciService;
+        this.gpaService = gpaService;
+    }
+
+    /**
+     * Tüm bölümlerin istatistiklerini ortak fork/join havuzunda paralel olarak hesaplar.
+     *
+     * @return Bölüm adına göre sıralı istatistikler.
+     */
+    public List<BolumIstatistigi> bolumIstatistikleri() {
+        return bolumIstatistikleri(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Tüm bölümlerin istatistiklerini hesaplar.
+     * <p>
+     * Bölümü olmayan öğrenciler hiçbir istatistiğe dahil edilmez. Öğrencisi bulunmayan bölümler listede yer almaz.
+     * </p>
+     *
+     * @param havuz Hesaplamanın yapılacağı havuz; null verilirse hesaplama çağıran iş parçacığında sıralı yapılır.
+     * @return Bölüm adına göre (büyük/küçük harf duyarsız) sıralı istatistikler.
+     */
+    public List<BolumIstatistigi> bolumIstatistikleri(ForkJoinPool havuz) {
+        Ogrenci[] ogrenciler = ogrenciService.ogrenciListele().toArray(new Ogrenci[0]);
+        int n = ogrenciler.length;
+        double[] gpalar = new double[n];
+        int[] toplamAktslar = new int[n];
+        int[] kazanilanAktslar = new int[n];
+
+        Gruplama gorev = new Gruplama(ogrenciler, 0, n, gpalar, toplamAktslar, kazanilanAktslar,
+                havuz == null ? Integer.MAX_VALUE : ESIK);
+        Map<Bolum, Birikim> gruplar = havuz == null ? gorev.compute() : havuz.invoke(gorev);
+
+        // Aynı ada sahip farklı Bolum nesneleri (örn. silinip yeniden eklenmiş bölüm) tek bölüm sayılır.
+        TreeMap<String, Birikim> bolumler = new TreeMap<>();
+        for (Map.Entry<Bolum, Birikim> grup : gruplar.entrySet()) {
+            bolumler.merge(MetinUtil.anahtar(grup.getKey().getAd()), grup.getValue(), Birikim::birlestir);
+        }
+
+        List<Birikim> birikimler = new ArrayList<>(bolumler.values());
+        BolumIstatistigi[] sonuclar = new BolumIstatistigi[birikimler.size()];
+        if (havuz == null) {
+            for (int i = 0; i < sonuclar.length; i++) {
+                sonuclar[i] = birikimler.get(i).istatistik();
+            }
+        } else {
+            havuz.invoke(new Ozetleme(birikimler, sonuclar));
+        }
+        return List.of(sonuclar);
+    }
+
+    /**
+     * Bir bölüme ait öğrencilerin ara toplamları.
+     * <p>
+     * GPA değerleri, birleştirme sırasında kopyalanmamaları için yaprak görevlerin ürettiği parçalar halinde tutulur.
+     * </p>
+     */
+    private static class Birikim {
+        final Bolum bolum;
+        final List<double[]> gpaParcalari = new ArrayList<>();
+        int ogrenciSayisi;
+        int notluOgrenciSayisi;
+        long kazanilanAkts;
+
+        /** Yaprak görevin henüz parçaya dönüştürülmemiş GPA değerleri. */
+        double[] tampon = new double[16];
+        int tamponAdedi;
+
+        Birikim(Bolum bolum) {
+            this.bolum = bolum;
+        }
+
+        void ekle(double gpa, int toplamAkts, int kazanilan) {
+            ogrenciSayisi++;
+            kazanilanAkts += kazanilan;
+            if (toplamAkts == 0) {
+                return;
+            }
+            if (tamponAdedi == tampon.length) {
+                tampon = Arrays.copyOf(tampon, tamponAdedi * 2);
+            }
+            tampon[tamponAdedi++] = gpa;
+            notluOgrenciSayisi++;
+        }
+
+        /** Yaprak görev bittiğinde tampondaki değerleri tek bir parça olarak kaydeder. */
+        void kapat() {
+            if (tamponAdedi > 0) {
+                gpaParcalari.add(Arrays.copyOf(tampon, tamponAdedi));
+            }
+            tampon = null;
+        }
+
+        Birikim birlestir(Birikim diger) {
+            ogrenciSayisi += diger.ogrenciSayisi;
+            notluOgrenciSayisi += diger.notluOgrenciSayisi;
+            kazanilanAkts += diger.kazanilanAkts;
+            gpaParcalari.addAll(diger.gpaParcalari);
+            return this;
+        }
+
+        BolumIstatistigi istatistik() {
+            double[] gpalar = new double[notluOgrenciSayisi];
+            int konum = 0;
+            for (double[] parca : gpaParcalari) {
+                System.arraycopy(parca, 0, gpalar, konum, parca.length);
+                konum += parca.length;
+            }
+            Arrays.sort(gpalar);
+
+            int n = gpalar.length;
+            if (n == 0) {
+                return new BolumIstatistigi(bolum, ogrenciSayisi, 0, 0.0, 0.0, 0.0, kazanilanAkts);
+            }
+
+            double toplam = 0;
+            for (double gpa : gpalar) {
+                toplam += gpa;
+            }
+            double ortalama = toplam / n;
+
+            double kareler = 0;
+            for (double gpa : gpalar) {
+                double fark = gpa - ortalama;
+                kareler += fark * fark;
+            }
+
+            double medyan = (n & 1) == 1 ? gpalar[n / 2] : (gpalar[n / 2 - 1] + gpalar[n / 2]) / 2;
+            return new BolumIstatistigi(bolum, ogrenciSayisi, n, ortalama, medyan, Math.sqrt(kareler / n), kazanilanAkts);
+        }
+    }
+
+    /**
+     * Öğrenci dizisinin bir aralığının özetlerini okuyup bölümlerine göre gruplayan görev.
+     * Görevler yalnızca ForkJoin havuzunda çalıştırılır, serileştirilmez.
+     */
+    @SuppressWarnings("serial")
+    private class Gruplama extends RecursiveTask<Map<Bolum, Birikim>> {
+        private final Ogrenci[] ogrenciler;
+        private final int bas;
+        private final int son;
+        private final double[] gpalar;
+        private final int[] toplamAktslar;
+        private final int[] kazanilanAktslar;
+        private final int esik;
+
+        Gruplama(Ogrenci[] ogrenciler, int bas, int son, double[] gpalar, int[] toplamAktslar,
+                 int[] kazanilanAktslar, int esik) {
+            this.ogrenciler = ogrenciler;
+            this.bas = bas;
+            this.son = son;
+            this.gpalar = gpalar;
+            this.toplamAktslar = toplamAktslar;
+            this.kazanilanAktslar = kazanilanAktslar;
+            this.esik = esik;
+        }
+
+        @Override
+        protected Map<Bolum, Birikim> compute() {
+            if (son - bas > esik) {
+                int orta = (bas + son) >>> 1;
+                Gruplama sol = new Gruplama(ogrenciler, bas, orta, gpalar, toplamAktslar, kazanilanAktslar, esik);
+                Gruplama sag = new Gruplama(ogrenciler, orta, son, gpalar, toplamAktslar, kazanilanAktslar, esik);
+                sag.fork();
+                Map<Bolum, Birikim> sonuc = sol.compute();
+                for (Map.Entry<Bolum, Birikim> grup : sag.join().entrySet()) {
+                    sonuc.merge(grup.getKey(), grup.getValue(), Birikim::birlestir);
+                }
+                return sonuc;
+            }
+
+            gpaService.ozetleriOku(ogrenciler, bas, son, gpalar, toplamAktslar, kazanilanAktslar);
+            Map<Bolum, Birikim> gruplar = new HashMap<>();
+            for (int i = bas; i < son; i++) {
+                Bolum bolum = ogrenciler[i].getBolum();
+                if (bolum != null) {
+                    gruplar.computeIfAbsent(bolum, Birikim::new).ekle(gpalar[i], toplamAktslar[i], kazanilanAktslar[i]);
+                }
+            }
+            for (Birikim birikim : gruplar.values()) {
+                birikim.kapat();
+            }
+            return gruplar;
+        }
+    }
+
+    /**
+     * Bölümlerin sıralama ve dağılım hesaplarını paralel yapan görev; {@link Gruplama} gibi serileştirilmez.
+     */
+    @SuppressWarnings("serial")
+    private static class Ozetleme extends RecursiveAction {
+        private final List<Birikim> birikimler;
+        private final BolumIstatistigi[] sonuclar;
+
+        Ozetleme(List<Birikim> birikimler, BolumIstatistigi[] sonuclar) {
+            this.birikimler = birikimler;
+            this.sonuclar = sonuclar;
+        }
+
+        @Override
+        protected void compute() {
+            List<RecursiveAction> gorevler = new ArrayList<>(birikimler.size());
+            for (int i = 0; i < birikimler.size(); i++) {
+                int sira = i;
+                gorevler.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        sonuclar[sira] = birikimler.get(sira).istatistik();
+                    }
+                });
+            }
+            invokeAll(gorevler);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package Service;
+
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Util.IntIntIndeks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Not kayıtlarını paralel ilkel (primitive) dizilerde tutan, arşiv ölçeğine uygun {@link NotDeposu} uygulamasıdır.
+ * <p>
+ * Her not kaydı bir "satır" olarak; öğrenci indeksi, ders indeksi, harf notu kodu ve iki bağlantı
+ * alanı (aynı öğrencinin ve aynı dersin bir sonraki satırı) şeklinde ayrı kolonlarda saklanır.
+ * Satır başına yaklaşık 17 bayt harcanır; nesne tabanlı depoda bu değer nesne başlıkları ve
+ * referanslarla birlikte 50-80 bayta çıkar.
+ * </p>
+ * <p>
+ * Kolonlar sabit boyutlu parçalar (chunk) halinde büyür; büyüme sırasında mevcut veri
+ * kopyalanmaz. Silinen satırlar yerinde işaretlenir ve ölü satır oranı yükseldiğinde
+ * (veya {@link #sikistir()} çağrıldığında) kolonlar sıkıştırılır.
+ * </p>
+ */
+public class KolonselNotDeposu implements NotDeposu {
+
+    /** Bir parçadaki satır sayısının 2 tabanındaki logaritması. */
+    private static final int PARCA_BITI = 16;
+    /** Bir parçadaki satır sayısı. */
+    private static final int PARCA_BOYUTU = 1 << PARCA_BITI;
+    /** Satır numarasından parça içi konumu elde etmek için kullanılan maske. */
+    private static final int PARCA_MASKESI = PARCA_BOYUTU - 1;
+    /** Bağlantılı listelerde "sonraki satır yok" değeri. */
+    private static final int SON = -1;
+
+    /** Satırın ait olduğu öğrencinin indeksi. */
+    private int[][] ogrenciKolonu = new int[0][];
+    /** Satırın ait olduğu dersin indeksi. */
+    private int[][] dersKolonu = new int[0][];
+    /** Satırın harf notu kodu; silinmiş satırlar için {@link HarfNotu#GECERSIZ}. */
+    private byte[][] notKolonu = new byte[0][];
+    /** Aynı öğrenciye ait bir sonraki satır. */
+    private int[][] ogrenciSonraki = new int[0][];
+    /** Aynı derse ait bir sonraki satır. */
+    private int[][] dersSonraki = new int[0][];
+
+    /** Kullanılan (canlı ve silinmiş) satır sayısı. */
+    private int satirSayisi;
+    /** Silinmiş olarak işaretlenmiş satır sayısı. */
+    private int oluSatirSayisi;
+
+    /** Öğrenci numarasından öğrenci indeksine eşleme. */
+    private final IntIntIndeks ogrenciIndeksleri = new IntIntIndeks();
+    private Ogrenci[] ogrenciTablosu = new Ogrenci[16];
+    private int[] ogrenciIlk = new int[16];
+    private int[] ogrenciSon = new int[16];
+    private int[] toplamAkts = new int[16];
+    private int[] kazanilanAkts = new int[16];
+    private double[] agirlikliToplam = new double[16];
+    private int ogrenciSayisi;
+
+    /** Ders nesnesinden ders indeksine eşleme. */
+    private final Map<Ders, Integer> dersIndeksleri = new HashMap<>();
+    private Ders[] dersTablosu = new Ders[16];
+    private int[] dersIlk = new int[16];
+    private int[] dersSon = new int[16];
+    private int dersSayisi;
+
+    @Override
+    public boolean ekle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        int o = ogrenciIndeksi(ogrenci, true);
+        int d = dersIndeksi(ders, true);
+        if (satirBul(o, d) != SON) {
+            return false;
+        }
+
+        ogrenciTablosu[o] = ogrenci;
+        satirEkle(o, d, harfNotu);
+        katkiEkle(o, ders.getAkts(), harfNotu, 1);
+        return true;
+    }
+
+    /**
+     * Satırı ekler; öğrencinin ortalama toplamları {@link #yuklemeyiBitir()} çağrısında hesaplanır.
+     */
+    @Override
+    public boolean yukle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        int o = ogrenciIndeksi(ogrenci, true);
+        int d = dersIndeksi(ders, true);
+        if (satirBul(o, d) != SON) {
+            return false;
+        }
+
+        ogrenciTablosu[o] = ogrenci;
+        satirEkle(o, d, harfNotu);
+        return true;
+    }
+
+    /**
+     * Öğrencilerin ortalama toplamlarını kolonları baştan sona tek geçişte tarayarak yeniden hesaplar.
+     */
+    @Override
+    public void yuklemeyiBitir() {
+        Arrays.fill(toplamAkts, 0, ogrenciSayisi, 0);
+        Arrays.fill(kazanilanAkts, 0, ogrenciSayisi, 0);
+        Arrays.fill(agirlikliToplam, 0, ogrenciSayisi, 0);
+        for (int satir = 0; satir < satirSayisi; satir++) {
+            int p = satir >>> PARCA_BITI, i = satir & PARCA_MASKESI;
+            byte not = notKolonu[p][i];
+            if (not != HarfNotu.GECERSIZ) {
+                katkiEkle(ogrenciKolonu[p][i], dersTablosu[dersKolonu[p][i]].getAkts(), not, 1);
+            }
+        }
+    }
+
+    @Override
+    public byte guncelle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        int d = dersIndeksi(ders, false);
+        if (o == SON || d == SON) {
+            return HarfNotu.GECERSIZ;
+        }
+
+        int satir = satirBul(o, d);
+        if (satir == SON) {
+            return HarfNotu.GECERSIZ;
+        }
+
+        byte[] parca = notKolonu[satir >>> PARCA_BITI];
+        byte eski = parca[satir & PARCA_MASKESI];
+        katkiEkle(o, ders.getAkts(), eski, -1);
+        parca[satir & PARCA_MASKESI] = harfNotu;
+        katkiEkle(o, ders.getAkts(), harfNotu, 1);
+        return eski;
+    }
+
+    @Override
+    public byte bul(Ogrenci ogrenci, Ders ders) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        int d = dersIndeksi(ders, false);
+        if (o == SON || d == SON) {
+            return HarfNotu.GECERSIZ;
+        }
+
+        int satir = satirBul(o, d);
+        return satir == SON ? HarfNotu.GECERSIZ : notKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI];
+    }
+
+    @Override
+    public List<Ders> dersler(Ogrenci ogrenci) {
+        List<Ders> dersler = new ArrayList<>();
+        int o = ogrenciIndeksi(ogrenci, false);
+        if (o == SON) {
+            return dersler;
+        }
+
+        for (int satir = ogrenciIlk[o]; satir != SON; satir = ogrenciSonraki[satir >>> PARCA_BITI][satir & PARCA_MASKESI]) {
+            dersler.add(dersTablosu[dersKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI]]);
+        }
+        return dersler;
+    }
+
+    @Override
+    public List<Ogrenci> ogrenciler(Ders ders) {
+        List<Ogrenci> ogrenciler = new ArrayList<>();
+        int d = dersIndeksi(ders, false);
+        if (d == SON) {
+            return ogrenciler;
+        }
+
+        for (int satir = dersIlk[d]; satir != SON; satir = dersSonraki[satir >>> PARCA_BITI][satir & PARCA_MASKESI]) {
+            // Ders listeleri sıkıştırmaya kadar silinmiş satırları da içerir.
+            if (notKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI] != HarfNotu.GECERSIZ) {
+                ogrenciler.add(ogrenciTablosu[ogrenciKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI]]);
+            }
+        }
+        return ogrenciler;
+    }
+
+    @Override
+    public double gpa(Ogrenci ogrenci) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        if (o == SON || toplamAkts[o] == 0) {
+            return 0.0;
+        }
+        return agirlikliToplam[o] / toplamAkts[o];
+    }
+
+    @Override
+    public int toplamAkts(Ogrenci ogrenci) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        return o == SON ? 0 : toplamAkts[o];
+    }
+
+    @Override
+    public int kazanilanAkts(Ogrenci ogrenci) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        return o == SON ? 0 : kazanilanAkts[o];
+    }
+
+    @Override
+    public void temizle(Ogrenci ogrenci) {
+        int o = ogrenciIndeksi(ogrenci, false);
+        if (o == SON) {
+            return;
+        }
+
+        for (int satir = ogrenciIlk[o]; satir != SON; satir = ogrenciSonraki[satir >>> PARCA_BITI][satir & PARCA_MASKESI]) {
+            notKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI] = HarfNotu.GECERSIZ;
+            oluSatirSayisi++;
+        }
+        ogrenciIlk[o] = SON;
+        ogrenciSon[o] = SON;
+        toplamAkts[o] = 0;
+        kazanilanAkts[o] = 0;
+        agirlikliToplam[o] = 0;
+
+        if (oluSatirSayisi >= PARCA_BOYUTU && oluSatirSayisi * 2 > satirSayisi) {
+            sikistir();
+        }
+    }
+
+    @Override
+    public int kayitSayisi() {
+        return satirSayisi - oluSatirSayisi;
+    }
+
+    @Override
+    public void kayitlariGez(KayitZiyaretcisi ziyaretci) {
+        for (int o = 0; o < ogrenciSayisi; o++) {
+            for (int satir = ogrenciIlk[o]; satir != SON; satir = ogrenciSonraki[satir >>> PARCA_BITI][satir & PARCA_MASKESI]) {
+                int p = satir >>> PARCA_BITI, i = satir & PARCA_MASKESI;
+                ziyaretci.ziyaret(ogrenciTablosu[o], dersTablosu[dersKolonu[p][i]], notKolonu[p][i]);
+            }
+        }
+    }
+
+    /**
+     * Silinmiş satırları kolonlardan atarak depoyu sıkıştırır.
+     * <p>
+     * Canlı satırlar mevcut sıralarını koruyarak baştan yerleştirilir ve öğrenci/ders bağlantıları
+     * yeniden kurulur. Kullanılmayan parçalar serbest bırakılır.
+     * </p>
+     */
+    public void sikistir() {
+        if (oluSatirSayisi == 0) {
+            return;
+        }
+
+        int yeni = 0;
+        for (int satir = 0; satir < satirSayisi; satir++) {
+            int p = satir >>> PARCA_BITI, i = satir & PARCA_MASKESI;
+            byte not = notKolonu[p][i];
+            if (not != HarfNotu.GECERSIZ) {
+                int yp = yeni >>> PARCA_BITI, yi = yeni & PARCA_MASKESI;
+                ogrenciKolonu[yp][yi] = ogrenciKolonu[p][i];
+                dersKolonu[yp][yi] = dersKolonu[p][i];
+                notKolonu[yp][yi] = not;
+                yeni++;
+            }
+        }
+        satirSayisi = yeni;
+        oluSatirSayisi = 0;
+
+        int parcaSayisi = (satirSayisi + PARCA_MASKESI) >>> PARCA_BITI;
+        ogrenciKolonu = Arrays.copyOf(ogrenciKolonu, parcaSayisi);
+        dersKolonu = Arrays.copyOf(dersKolonu, parcaSayisi);
+        notKolonu = Arrays.copyOf(notKolonu, parcaSayisi);
+        ogrenciSonraki = Arrays.copyOf(ogrenciSonraki, parcaSayisi);
+        dersSonraki = Arrays.copyOf(dersSonraki, parcaSayisi);
+
+        Arrays.fill(ogrenciIlk, 0, ogrenciSayisi, SON);
+        Arrays.fill(ogrenciSon, 0, ogrenciSayisi, SON);
+        Arrays.fill(dersIlk, 0, dersSayisi, SON);
+        Arrays.fill(dersSon, 0, dersSayisi, SON);
+        for (int satir = 0; satir < satirSayisi; satir++) {
+            baglantiKur(satir);
+        }
+    }
+
+    /**
+     * Öğrencinin satır listesinde verilen derse ait satırı arar.
+     */
+    private int satirBul(int o, int d) {
+        if (o == SON || d == SON) {
+            return SON;
+        }
+        for (int satir = ogrenciIlk[o]; satir != SON; satir = ogrenciSonraki[satir >>> PARCA_BITI][satir & PARCA_MASKESI]) {
+            if (dersKolonu[satir >>> PARCA_BITI][satir & PARCA_MASKESI] == d) {
+                return satir;
+            }
+        }
+        return SON;
+    }
+
+    /**
+     * Kolonların sonuna yeni bir satır ekler ve öğrenci/ders listelerine bağlar.
+     */
+    private void satirEkle(int o, int d, byte harfNotu) {
+        int satir = satirSayisi;
+        int p = satir >>> PARCA_BITI, i = satir & PARCA_MASKESI;
+        if (p == notKolonu.length) {
+            parcaEkle();
+        }
+
+        ogrenciKolonu[p][i] = o;
+        dersKolonu[p][i] = d;
+        notKolonu[p][i] = harfNotu;
+        satirSayisi++;
+        baglantiKur(satir);
+    }
+
+    /**
+     * Satırı, öğrencisinin ve dersinin bağlantılı listelerinin sonuna ekler.
+     */
+    private void baglantiKur(int satir) {
+        int p = satir >>> PARCA_BITI, i = satir & PARCA_MASKESI;
+        int o = ogrenciKolonu[p][i];
+        int d = dersKolonu[p][i];
+
+        ogrenciSonraki[p][i] = SON;
+        if (ogrenciSon[o] == SON) {
+            ogrenciIlk[o] = satir;
+        } else {
+            ogrenciSonraki[ogrenciSon[o] >>> PARCA_BITI][ogrenciSon[o] & PARCA_MASKESI] = satir;
+        }
+        ogrenciSon[o] = satir;
+
+        dersSonraki[p][i] = SON;
+        if (dersSon[d] == SON) {
+            dersIlk[d] = satir;
+        } else {
+            dersSonraki[dersSon[d] >>> PARCA_BITI][dersSon[d] & PARCA_MASKESI] = satir;
+        }
+        dersSon[d] = satir;
+    }
+
+    /**
+     * Tüm kolonlara yeni bir parça ekler; mevcut parçalar kopyalanmaz.
+     */
+    private void parcaEkle() {
+        int n = notKolonu.length;
+        ogrenciKolonu = Arrays.copyOf(ogrenciKolonu, n + 1);
+        dersKolonu = Arrays.copyOf(dersKolonu, n + 1);
+        notKolonu = Arrays.copyOf(notKolonu, n + 1);
+        ogrenciSonraki = Arrays.copyOf(ogrenciSonraki, n + 1);
+        dersSonraki = Arrays.copyOf(dersSonraki, n + 1);
+
+        ogrenciKolonu[n] = new int[PARCA_BOYUTU];
+        dersKolonu[n] = new int[PARCA_BOYUTU];
+        notKolonu[n] = new byte[PARCA_BOYUTU];
+        ogrenciSonraki[n] = new int[PARCA_BOYUTU];
+        dersSonraki[n] = new int[PARCA_BOYUTU];
+    }
+
+    /**
+     * Öğrencinin depodaki indeksini döndürür; istenirse yeni indeks ayırır.
+     */
+    private int ogrenciIndeksi(Ogrenci ogrenci, boolean olustur) {
+        int o = ogrenciIndeksleri.get(ogrenci.getOgrenciNo());
+        if (o != IntIntIndeks.YOK || !olustur) {
+            return o;
+        }
+
+        o = ogrenciSayisi++;
+        if (o == ogrenciTablosu.length) {
+            int yeniBoyut = o << 1;
+            ogrenciTablosu = Arrays.copyOf(ogrenciTablosu, yeniBoyut);
+            ogrenciIlk = Arrays.copyOf(ogrenciIlk, yeniBoyut);
+            ogrenciSon = Arrays.copyOf(ogrenciSon, yeniBoyut);
+            toplamAkts = Arrays.copyOf(toplamAkts, yeniBoyut);
+            kazanilanAkts = Arrays.copyOf(kazanilanAkts, yeniBoyut);
+            agirlikliToplam = Arrays.copyOf(agirlikliToplam, yeniBoyut);
+        }
+        ogrenciTablosu[o] = ogrenci;
+        ogrenciIlk[o] = SON;
+        ogrenciSon[o] = SON;
+        ogrenciIndeksleri.put(ogrenci.getOgrenciNo(), o);
+        return o;
+    }
+
+    /**
+     * Dersin depodaki indeksini döndürür; istenirse yeni indeks ayırır.
+     */
+    private int dersIndeksi(Ders ders, boolean olustur) {
+        Integer d = dersIndeksleri.get(ders);
+        if (d != null) {
+            return d;
+        }
+        if (!olustur) {
+            return SON;
+        }
+
+        int yeni = dersSayisi++;
+        if (yeni == dersTablosu.length) {
+            int yeniBoyut = yeni << 1;
+            dersTablosu = Arrays.copyOf(dersTablosu, yeniBoyut);
+            dersIlk = Arrays.copyOf(dersIlk, yeniBoyut);
+            dersSon = Arrays.copyOf(dersSon, yeniBoyut);
+        }
+        dersTablosu[yeni] = ders;
+        dersIlk[yeni] = SON;
+        dersSon[yeni] = SON;
+        dersIndeksleri.put(ders, yeni);
+        return yeni;
+    }
+
+    /**
+     * Bir dersin katsayı ve AKTS katkısını öğrencinin ortalama toplamlarına ekler ya da çıkarır.
+     * <p>
+     * Katsayılar 0.25'in katı olduğundan toplamlar double türünde kesin tutulur.
+     * </p>
+     */
+    private void katkiEkle(int o, int akts, byte harfNotu, int yon) {
+        toplamAkts[o] += yon * akts;
+        if (HarfNotu.gectiMi(harfNotu)) {
+            kazanilanAkts[o] += yon * akts;
+        }
+        agirlikliToplam[o] += yon * HarfNotu.katsayi(harfNotu) * akts;
+    }
+}
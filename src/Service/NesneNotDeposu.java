@@ -0,0 +1,234 @@
+package Service;
+
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Util.IntIndeks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Not kayıtlarını nesne tabanlı iki seviyeli bir indekste tutan varsayılan {@link NotDeposu} uygulamasıdır.
+ * <p>
+ * Kayıtlar önce öğrenci numarasına, ardından derse göre indekslenir; ayrıca her dersi
+ * alan öğrenciler ters indekste tutulur. Öğrenci bazlı işlemler yalnızca ilgili öğrencinin
+ * transkript büyüklüğü kadar sürer.
+ * </p>
+ */
+public class NesneNotDeposu implements NotDeposu {
+
+    /**
+     * Öğrenci, ders ve harf notu eşleşmesini temsil eden veri yapısı.
+     * <p>
+     * Harf notu {@link HarfNotu} bayt kodu olarak saklanır.
+     * </p>
+     */
+    private static class NotKaydi {
+        Ogrenci ogrenci;
+        Ders ders;
+        byte harfNotu;
+
+        NotKaydi(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+            this.ogrenci = ogrenci;
+            this.ders = ders;
+            this.harfNotu = harfNotu;
+        }
+    }
+
+    /**
+     * Bir öğrenciye ait tüm not kayıtlarını ders bazında tutan veri yapısı (transkript).
+     * <p>
+     * Kayıtlar ekleme sırasını koruyacak şekilde dersine göre indekslenir. GPA hesabı için
+     * gereken toplam AKTS ve ağırlıklı puan toplamı ile kazanılan AKTS her not değişikliğinde güncellenir.
+     * </p>
+     */
+    private static class OgrenciKarnesi {
+        final Ogrenci ogrenci;
+        final Map<Ders, NotKaydi> kayitlar = new LinkedHashMap<>();
+        int toplamAkts;
+        int kazanilanAkts;
+        double agirlikliToplam;
+
+        OgrenciKarnesi(Ogrenci ogrenci) {
+            this.ogrenci = ogrenci;
+        }
+
+        /**
+         * Bir dersin katsayı ve AKTS katkısını ortalama toplamlarına ekler ya da çıkarır.
+         * <p>
+         * Katsayılar 0.25'in katı ve AKTS değerleri tam sayı olduğundan her çarpım ve toplam
+         * double türünde kesin (yuvarlamasız) ifade edilir; artımlı güncelleme sonucu,
+         * toplamların baştan hesaplanmasıyla birebir aynıdır.
+         * </p>
+         */
+        void katkiEkle(int akts, byte harfNotu, int yon) {
+            toplamAkts += yon * akts;
+            if (HarfNotu.gectiMi(harfNotu)) {
+                kazanilanAkts += yon * akts;
+            }
+            agirlikliToplam += yon * HarfNotu.katsayi(harfNotu) * akts;
+        }
+    }
+
+    /** Öğrenci numarasından öğrencinin transkriptine erişim sağlayan indeks. */
+    private final IntIndeks<OgrenciKarnesi> karneler = new IntIndeks<>();
+
+    /** Her dersi, o dersten not kaydı bulunan öğrencilerle eşleyen ters indeks. */
+    private final Map<Ders, Set<Ogrenci>> dersOgrencileri = new HashMap<>();
+
+    /** Depodaki toplam kayıt sayısı. */
+    private int kayitSayisi;
+
+    @Override
+    public boolean ekle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        if (karne == null) {
+            karne = new OgrenciKarnesi(ogrenci);
+            karneler.put(ogrenci.getOgrenciNo(), karne);
+        } else if (karne.kayitlar.containsKey(ders)) {
+            return false;
+        }
+
+        karne.kayitlar.put(ders, new NotKaydi(ogrenci, ders, harfNotu));
+        karne.katkiEkle(ders.getAkts(), harfNotu, 1);
+        dersOgrencileri.computeIfAbsent(ders, d -> new LinkedHashSet<>()).add(ogrenci);
+        kayitSayisi++;
+        return true;
+    }
+
+    /**
+     * Kaydı ekler; öğrencinin ortalama toplamları {@link #yuklemeyiBitir()} çağrısında hesaplanır.
+     */
+    @Override
+    public boolean yukle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        if (karne == null) {
+            karne = new OgrenciKarnesi(ogrenci);
+            karneler.put(ogrenci.getOgrenciNo(), karne);
+        } else if (karne.kayitlar.containsKey(ders)) {
+            return false;
+        }
+
+        karne.kayitlar.put(ders, new NotKaydi(ogrenci, ders, harfNotu));
+        dersOgrencileri.computeIfAbsent(ders, d -> new LinkedHashSet<>()).add(ogrenci);
+        kayitSayisi++;
+        return true;
+    }
+
+    /**
+     * Tüm öğrencilerin ortalama toplamlarını kayıtlarından baştan hesaplar.
+     */
+    @Override
+    public void yuklemeyiBitir() {
+        karneler.forEach(karne -> {
+            karne.toplamAkts = 0;
+            karne.kazanilanAkts = 0;
+            karne.agirlikliToplam = 0;
+            for (NotKaydi kayit : karne.kayitlar.values()) {
+                karne.katkiEkle(kayit.ders.getAkts(), kayit.harfNotu, 1);
+            }
+        });
+    }
+
+    @Override
+    public byte guncelle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        NotKaydi kayit = karne != null ? karne.kayitlar.get(ders) : null;
+        if (kayit == null) {
+            return HarfNotu.GECERSIZ;
+        }
+
+        byte eski = kayit.harfNotu;
+        karne.katkiEkle(ders.getAkts(), eski, -1);
+        kayit.harfNotu = harfNotu;
+        karne.katkiEkle(ders.getAkts(), harfNotu, 1);
+        return eski;
+    }
+
+    @Override
+    public byte bul(Ogrenci ogrenci, Ders ders) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        NotKaydi kayit = karne != null ? karne.kayitlar.get(ders) : null;
+        return kayit != null ? kayit.harfNotu : HarfNotu.GECERSIZ;
+    }
+
+    @Override
+    public List<Ders> dersler(Ogrenci ogrenci) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        if (karne == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(karne.kayitlar.keySet());
+    }
+
+    @Override
+    public List<Ogrenci> ogrenciler(Ders ders) {
+        Set<Ogrenci> ogrenciler = dersOgrencileri.get(ders);
+        if (ogrenciler == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(ogrenciler);
+    }
+
+    @Override
+    public double gpa(Ogrenci ogrenci) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+
+        if (karne == null || karne.toplamAkts == 0) {
+            return 0.0;
+        }
+
+        return karne.agirlikliToplam / karne.toplamAkts;
+    }
+
+    @Override
+    public int toplamAkts(Ogrenci ogrenci) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        return karne != null ? karne.toplamAkts : 0;
+    }
+
+    @Override
+    public int kazanilanAkts(Ogrenci ogrenci) {
+        OgrenciKarnesi karne = karneler.get(ogrenci.getOgrenciNo());
+        return karne != null ? karne.kazanilanAkts : 0;
+    }
+
+    @Override
+    public void temizle(Ogrenci ogrenci) {
+        OgrenciKarnesi karne = karneler.remove(ogrenci.getOgrenciNo());
+        if (karne == null) {
+            return;
+        }
+
+        for (Ders ders : karne.kayitlar.keySet()) {
+            Set<Ogrenci> ogrenciler = dersOgrencileri.get(ders);
+            if (ogrenciler != null) {
+                ogrenciler.remove(karne.ogrenci);
+                if (ogrenciler.isEmpty()) {
+                    dersOgrencileri.remove(ders);
+                }
+            }
+        }
+        kayitSayisi -= karne.kayitlar.size();
+    }
+
+    @Override
+    public int kayitSayisi() {
+        return kayitSayisi;
+    }
+
+    @Override
+    public void kayitlariGez(KayitZiyaretcisi ziyaretci) {
+        karneler.forEach(karne -> {
+            for (NotKaydi kayit : karne.kayitlar.values()) {
+                ziyaretci.ziyaret(karne.ogrenci, kayit.ders, kayit.harfNotu);
+            }
+        });
+    }
+}
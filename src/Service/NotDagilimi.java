@@ -0,0 +1,67 @@
+package Service;
+
+import Model.HarfNotu;
+
+/**
+ * Bir dersin harf notu dağılımını (AA..FF) ve geçen/kalan öğrenci sayılarını temsil eden sonuç sınıfıdır.
+ * <p>
+ * {@link GpaService#notDagilimi(Model.Ders)} tarafından sorgu anındaki sayaçlardan oluşturulur; sonraki
+ * not değişikliklerinden etkilenmez.
+ * </p>
+ */
+public class NotDagilimi {
+
+    /** Harf notu kodlarına göre (indeks = kod) kayıt sayıları. */
+    private final int[] adetler;
+
+    NotDagilimi(int[] adetler) {
+        this.adetler = adetler;
+    }
+
+    /**
+     * Verilen harf notunu alan öğrenci sayısını döndürür.
+     *
+     * @param harfNotu Harf notu kodu ({@link HarfNotu#AA} ... {@link HarfNotu#FF}).
+     * @return Kayıt sayısı, geçersiz kod için 0.
+     */
+    public int adet(byte harfNotu) {
+        return HarfNotu.gecerliMi(harfNotu) ? adetler[harfNotu] : 0;
+    }
+
+    /**
+     * Dersten geçme notu ({@link HarfNotu#gectiMi(byte)}) alan öğrenci sayısını döndürür.
+     *
+     * @return Geçen öğrenci sayısı.
+     */
+    public int gecen() {
+        int toplam = 0;
+        for (byte kod = HarfNotu.AA; kod < HarfNotu.ADET; kod++) {
+            if (HarfNotu.gectiMi(kod)) {
+                toplam += adetler[kod];
+            }
+        }
+        return toplam;
+    }
+
+    /**
+     * Dersten kalan (FD veya FF alan) öğrenci sayısını döndürür.
+     *
+     * @return Kalan öğrenci sayısı.
+     */
+    public int kalan() {
+        return toplam() - gecen();
+    }
+
+    /**
+     * Dersin toplam not kaydı sayısını döndürür.
+     *
+     * @return Kayıt sayısı.
+     */
+    public int toplam() {
+        int toplam = 0;
+        for (int adet : adetler) {
+            toplam += adet;
+        }
+        return toplam;
+    }
+}
@@ -0,0 +1,187 @@
+package Service;
+
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * {@link GpaService} tarafından kullanılan not kayıtlarının saklama katmanını tanımlayan arayüzdür.
+ * <p>
+ * Harf notları {@link HarfNotu} bayt kodlarıyla saklanır; metin dönüşümleri ve doğrulama
+ * servis katmanında yapılır. Uygulamalar, her öğrenci/ders ikilisi için en fazla bir kayıt
+ * tutulmasını ve GPA değerinin öğrencinin transkript büyüklüğünden bağımsız olarak
+ * okunabilmesini sağlamalıdır.
+ * </p>
+ */
+public interface NotDeposu {
+
+    /**
+     * Depodaki not kayıtlarını tek tek işlemek için kullanılan geri çağırma arayüzü.
+     */
+    @FunctionalInterface
+    interface KayitZiyaretcisi {
+        /**
+         * @param ogrenci  Kaydın öğrencisi.
+         * @param ders     Kaydın dersi.
+         * @param harfNotu Kaydın harf notu kodu.
+         */
+        void ziyaret(Ogrenci ogrenci, Ders ders, byte harfNotu);
+    }
+
+    /**
+     * Öğrenci/ders ikilisi için yeni bir not kaydı ekler.
+     *
+     * @param ogrenci  Notun ait olduğu öğrenci.
+     * @param ders     Notun ait olduğu ders.
+     * @param harfNotu Geçerli bir harf notu kodu.
+     * @return Kayıt eklendiyse true, aynı ikili için kayıt zaten varsa false.
+     */
+    boolean ekle(Ogrenci ogrenci, Ders ders, byte harfNotu);
+
+    /**
+     * Anlık görüntüden yükleme gibi toplu yüklemelerde yeni bir not kaydı ekler.
+     * <p>
+     * {@link #ekle(Ogrenci, Ders, byte)} ile aynı kaydı oluşturur, ancak uygulamalar öğrencinin ortalama
+     * toplamlarını her kayıtta güncellemek yerine {@link #yuklemeyiBitir()} çağrısında bir kez hesaplayabilir.
+     * Yükleme bitene kadar GPA ve AKTS değerleri okunmamalıdır. Varsayılan uygulama {@code ekle} metodunu çağırır.
+     * </p>
+     *
+     * @param ogrenci  Notun ait olduğu öğrenci.
+     * @param ders     Notun ait olduğu ders.
+     * @param harfNotu Geçerli bir harf notu kodu.
+     * @return Kayıt eklendiyse true, aynı ikili için kayıt zaten varsa false.
+     */
+    default boolean yukle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        return ekle(ogrenci, ders, harfNotu);
+    }
+
+    /**
+     * {@link #yukle(Ogrenci, Ders, byte)} ile yapılan toplu yüklemeyi tamamlar ve ertelenen ortalama toplamlarını hesaplar.
+     * <p>
+     * Varsayılan uygulama bir şey yapmaz.
+     * </p>
+     */
+    default void yuklemeyiBitir() {
+    }
+
+    /**
+     * Mevcut bir not kaydının harf notunu değiştirir.
+     *
+     * @param ogrenci  Notu güncellenecek öğrenci.
+     * @param ders     Notu güncellenecek ders.
+     * @param harfNotu Atanacak geçerli harf notu kodu.
+     * @return Kaydın önceki harf notu kodu, kayıt yoksa {@link HarfNotu#GECERSIZ}.
+     */
+    byte guncelle(Ogrenci ogrenci, Ders ders, byte harfNotu);
+
+    /**
+     * Öğrencinin dersten aldığı harf notunun kodunu döndürür.
+     *
+     * @param ogrenci Sorgulanan öğrenci.
+     * @param ders    Sorgulanan ders.
+     * @return Harf notu kodu, kayıt yoksa {@link HarfNotu#GECERSIZ}.
+     */
+    byte bul(Ogrenci ogrenci, Ders ders);
+
+    /**
+     * Öğrencinin not kaydı bulunan derslerini ekleme sırasıyla döndürür.
+     *
+     * @param ogrenci Dersleri listelenecek öğrenci.
+     * @return Öğrencinin dersleri.
+     */
+    List<Ders> dersler(Ogrenci ogrenci);
+
+    /**
+     * Dersten not kaydı bulunan öğrencileri döndürür.
+     *
+     * @param ders Öğrencileri listelenecek ders.
+     * @return Dersi alan öğrenciler.
+     */
+    List<Ogrenci> ogrenciler(Ders ders);
+
+    /**
+     * Öğrencinin AKTS ağırlıklı genel not ortalamasını döndürür.
+     *
+     * @param ogrenci GPA değeri istenen öğrenci.
+     * @return GPA değeri, toplam AKTS sıfırsa 0.0.
+     */
+    double gpa(Ogrenci ogrenci);
+
+    /**
+     * Öğrencinin not kaydı bulunan derslerinin toplam AKTS değerini döndürür.
+     *
+     * @param ogrenci Sorgulanan öğrenci.
+     * @return Toplam AKTS, kayıt yoksa 0.
+     */
+    int toplamAkts(Ogrenci ogrenci);
+
+    /**
+     * Öğrencinin geçme notu aldığı ({@link HarfNotu#gectiMi(byte)}) derslerin toplam AKTS değerini döndürür.
+     * <p>
+     * {@link #gpa(Ogrenci)} gibi bu değer de not değişikliklerinde güncel tutulur ve sabit sürede okunur.
+     * </p>
+     *
+     * @param ogrenci Sorgulanan öğrenci.
+     * @return Kazanılan AKTS, kayıt yoksa 0.
+     */
+    int kazanilanAkts(Ogrenci ogrenci);
+
+    /**
+     * Öğrenciye ait tüm not kayıtlarını siler.
+     *
+     * @param ogrenci Notları silinecek öğrenci.
+     */
+    void temizle(Ogrenci ogrenci);
+
+    /**
+     * Depodaki toplam not kaydı sayısını döndürür.
+     *
+     * @return Kayıt sayısı.
+     */
+    int kayitSayisi();
+
+    /**
+     * Depodaki tüm not kayıtlarını ziyaretçiye gönderir.
+     * <p>
+     * Aynı öğrenciye ait kayıtlar, o öğrencinin transkriptindeki ekleme sırasıyla gönderilir.
+     * </p>
+     *
+     * @param ziyaretci Her kayıt için çağrılacak ziyaretçi.
+     */
+    void kayitlariGez(KayitZiyaretcisi ziyaretci);
+
+    /**
+     * Öğrencinin not kayıtlarını koruyan okuma/yazma kilidini döndürür.
+     * <p>
+     * Kendi içinde eş zamanlı erişime uygun depolar, öğrencinin kayıtlarını koruyan kilidi döndürür;
+     * {@link GpaService} bu durumda tüm depo için tek bir kilit kullanmaz ve yalnızca bu kilit altında
+     * değişikliği yapıp dinleyiciyi bilgilendirir. Kilidin sahibi çağırandır: öğrenci bazlı metotlar
+     * bu kilit tutulurken çağrılır ve depo aynı kilidi yeniden almaz. Varsayılan uygulama null döndürür; bu durumda depo
+     * eş zamanlı erişime uygun kabul edilmez ve servis tüm depoyu tek bir kilitle korur.
+     * </p>
+     *
+     * @param ogrenci Kayıtları korunacak öğrenci.
+     * @return Öğrencinin kilidi, depo eş zamanlı erişime uygun değilse null.
+     */
+    default ReadWriteLock kilit(Ogrenci ogrenci) {
+        return null;
+    }
+
+    /**
+     * Öğrencinin kilidinin, birden çok kilidin birlikte alınması gerektiğinde kullanılacak sırasını döndürür.
+     * <p>
+     * Birden fazla öğrencinin kilidini tutması gereken toplu işlemler kilitleri bu değere göre artan
+     * sırada alır; böylece eş zamanlı iki toplu işlem birbirini kilitlenmeye (deadlock) sokamaz.
+     * Aynı kilidi paylaşan öğrenciler için aynı değer dönmelidir.
+     * </p>
+     *
+     * @param ogrenci Kilidinin sırası istenen öğrenci.
+     * @return Kilit sırası; varsayılan uygulamada 0.
+     */
+    default int kilitSirasi(Ogrenci ogrenci) {
+        return 0;
+    }
+}
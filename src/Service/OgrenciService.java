@@ -1,8 +1,25 @@
 package Service;
 
+import Metrik.IslemMetrigi;
+import Metrik.Metrikler;
+import Model.Bolum;
 import Model.Ogrenci;
-import java.util.ArrayList;
+import Util.DogrulamaUtil;
+import Util.IntIndeks;
+import Util.MetinUtil;
+import Util.Sayfa;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Öğrenci kayıtları ve bu kayıtlar üzerindeki iş mantığını yöneten servis sınıfıdır.
@@ -11,17 +28,98 @@ import java.util.List;
  * numara ile arama, tüm öğrencileri listeleme ve mevcut öğrenci bilgilerini
  * güncelleme işlemlerini koordine eder.
  * </p>
+ * <p>
+ * Servis birden çok iş parçacığından eş zamanlı kullanılabilir: okumalar bir okuma kilidi
+ * altında birbirini beklemeden, yazmalar yazma kilidi altında tek tek yapılır.
+ * {@link #ogrenciListele()} canlı indeksi değil, değiştirilemez bir anlık kopyasını döndürür;
+ * böylece listeyi dolaşan kod eş zamanlı bir yazmadan etkilenmez.
+ * </p>
  */
 public class OgrenciService {
 
-    /** * Sistemde kayıtlı olan tüm öğrencileri bellekte tutan liste. */
-    private final List<Ogrenci> ogrenciler;
+    /** Genel işlemlerin çağrı sayısı ve süre metrikleri (bkz. {@link Metrikler}). */
+    private static final IslemMetrigi EKLE = Metrikler.islem("OgrenciService", "ogrenciEkle");
+    private static final IslemMetrigi SIL = Metrikler.islem("OgrenciService", "ogrenciSil");
+    private static final IslemMetrigi ARA = Metrikler.islem("OgrenciService", "ogrenciAra");
+    private static final IslemMetrigi LISTELE = Metrikler.islem("OgrenciService", "ogrenciListele");
+    private static final IslemMetrigi VAR_MI = Metrikler.islem("OgrenciService", "ogrenciVarMi");
+    private static final IslemMetrigi BOLUM_OGRENCILERI = Metrikler.islem("OgrenciService", "bolumOgrencileri");
+    private static final IslemMetrigi GUNCELLE = Metrikler.islem("OgrenciService", "ogrenciGuncelle");
+    private static final IslemMetrigi ISIM_ARA = Metrikler.islem("OgrenciService", "isimAra");
+    private static final IslemMetrigi SAYFA = Metrikler.islem("OgrenciService", "ogrenciSayfasi");
+
+    /**
+     * Öğrenci numarasından öğrenci nesnesine O(1) erişim sağlayan indeks.
+     * <p>
+     * Arama ve benzersizlik kontrolleri tüm öğrencileri dolaşmak yerine bu indeks üzerinden yapılır.
+     * </p>
+     */
+    private final IntIndeks<Ogrenci> numaraIndeksi;
+
+    /**
+     * Normalize edilmiş bölüm adından ({@link MetinUtil#anahtar(String)}) o bölümdeki öğrencilere ters indeks.
+     * <p>
+     * Ekleme ve silme işlemlerinde güncel tutulur; bir bölümün öğrencisi kalmadığında anahtarı kaldırılır.
+     * Kümeler ekleme sırasını korur. Öğrencinin bölümü güncelleme ile değiştirilemediğinden başka bir
+     * işlemin indeksi etkilemesi gerekmez.
+     * </p>
+     */
+    private final Map<String, Set<Ogrenci>> bolumIndeksi;
+
+    /**
+     * İsim ve soyisim kelimeleri üzerinde önek ve yazım hatası toleranslı arama indeksi.
+     * <p>
+     * Ekleme, silme ve güncelleme işlemlerinde yazma kilidi altında artımlı olarak güncel tutulur.
+     * </p>
+     */
+    private final IsimIndeksi isimIndeksi;
+
+    /** İndekslere eş zamanlı erişimi düzenleyen okuma/yazma kilidi. */
+    private final ReentrantReadWriteLock kilit = new ReentrantReadWriteLock();
+
+    /**
+     * {@link #ogrenciListele()} tarafından döndürülen değiştirilemez kopya.
+     * <p>
+     * İlk listelemede oluşturulur ve sonraki listelemelerde yeniden kullanılır; her yazma işleminde geçersiz kılınır (null).
+     * </p>
+     */
+    private volatile List<Ogrenci> listeKopyasi;
+
+    /**
+     * Doğum tarihine (eşitlikte öğrenci numarasına) göre sıralı öğrenci indeksi.
+     * <p>
+     * Anahtar, {@link #tarihAnahtari(LocalDate, int)} ile tarih ve numaradan oluşturulur. Ekleme ve silme
+     * işlemlerinde yazma kilidi altında güncel tutulur; tarih aralığı sorgularında aralığın başı indekste
+     * doğrudan bulunur. Doğum tarihi olmayan öğrenciler indekste yer almaz.
+     * </p>
+     */
+    private final NavigableMap<Long, Ogrenci> dogumTarihiSirasi;
+
+    /**
+     * Sistemde kayıtlı tüm öğrencileri öğrenci numarasına göre sıralı tutan indeks.
+     * <p>
+     * Ekleme ve silme işlemlerinde yazma kilidi altında güncel tutulur; silme, bir listeden çıkarmanın aksine
+     * logaritmik sürede yapılır. {@link #ogrenciSayfasi(String, int)} sayfaları her istekte yeniden sıralama
+     * yapılmadan doğrudan bu indeksten keser, {@link #ogrenciListele()} de kopyasını bu indeksten oluşturur.
+     * </p>
+     */
+    private final NavigableMap<Integer, Ogrenci> numaraSirasi;
+
+    /** Başarılı değişikliklerin bildirileceği dinleyici. */
+    private volatile DegisiklikDinleyicisi dinleyici = DegisiklikDinleyicisi.BOS;
+
+    /** Değişikliklerin anlık görüntü alma gibi tüm servisleri okuyan işlemlerle koordine edildiği ortak kilit. */
+    private volatile DegisiklikKilidi degisiklikKilidi = new DegisiklikKilidi();
 
     /**
      * Yeni bir OgrenciService nesnesi oluşturur ve öğrenci listesini başlatır.
      */
     public OgrenciService() {
-        this.ogrenciler = new ArrayList<>();
+        this.numaraIndeksi = new IntIndeks<>();
+        this.numaraSirasi = new TreeMap<>();
+        this.dogumTarihiSirasi = new TreeMap<>();
+        this.bolumIndeksi = new HashMap<>();
+        this.isimIndeksi = new IsimIndeksi();
     }
 
     /**
@@ -41,28 +139,58 @@ public class OgrenciService {
      * Ekleme işlemi yapılmadan önce şu doğrulamalar gerçekleştirilir:
      * 1. Öğrenci nesnesi null olamaz.
      * 2. Öğrenci numarası tam 9 hane olmalıdır.
-     * 3. Aynı öğrenci numarasıyla sistemde başka bir kayıt bulunmamalıdır.
+     * 3. İsim ve soyisim en fazla {@link DogrulamaUtil#EN_UZUN_METIN} karakter olabilir.
+     * 4. Aynı öğrenci numarasıyla sistemde başka bir kayıt bulunmamalıdır.
      * </p>
      *
      * @param ogrenci Eklenecek olan {@link Ogrenci} nesnesi.
      * @return Kayıt başarıyla eklenirse true, kural ihlali durumunda false döner.
      */
     public boolean ogrenciEkle(Ogrenci ogrenci) {
-        if (ogrenci == null) {
-            return false;
-        }
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            if (ogrenci == null) {
+                return false;
+            }
 
-        if (!ogrenciNoGecerliMi(ogrenci.getOgrenciNo())) {
-            System.out.println("Hata: Öğrenci numarası 9 haneli olmalıdır (Örn: 192113001)");
-            return false;
-        }
+            if (!ogrenciNoGecerliMi(ogrenci.getOgrenciNo())) {
+                System.out.println("Hata: Öğrenci numarası 9 haneli olmalıdır (Örn: 192113001)");
+                return false;
+            }
 
-        if (ogrenciVarMi(ogrenci.getOgrenciNo())) {
-            return false;
-        }
+            if (!DogrulamaUtil.uzunlukGecerliMi(ogrenci.getIsim(), ogrenci.getSoyisim())) {
+                System.out.println("Hata: Metin alanları en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir.");
+                return false;
+            }
 
-        ogrenciler.add(ogrenci);
-        return true;
+            kilit.writeLock().lock();
+            try {
+                if (numaraIndeksi.containsKey(ogrenci.getOgrenciNo())) {
+                    return false;
+                }
+
+                numaraIndeksi.put(ogrenci.getOgrenciNo(), ogrenci);
+                numaraSirasi.put(ogrenci.getOgrenciNo(), ogrenci);
+                if (ogrenci.getDogumTarihi() != null) {
+                    dogumTarihiSirasi.put(tarihAnahtari(ogrenci.getDogumTarihi(), ogrenci.getOgrenciNo()), ogrenci);
+                }
+                String bolumAnahtari = bolumAnahtari(ogrenci);
+                if (bolumAnahtari != null) {
+                    bolumIndeksi.computeIfAbsent(bolumAnahtari, k -> new LinkedHashSet<>()).add(ogrenci);
+                }
+                isimIndeksi.ekle(ogrenci);
+                listeKopyasi = null;
+                dinleyici.ogrenciEklendi(ogrenci);
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            EKLE.kaydet(baslangic);
+        }
     }
 
     /**
@@ -72,12 +200,63 @@ public class OgrenciService {
      * @return Silme işlemi başarılıysa true, öğrenci bulunamazsa false döner.
      */
     public boolean ogrenciSil(int ogrenciNo) {
-        Ogrenci ogrenci = ogrenciAra(ogrenciNo);
-        if (ogrenci == null) {
-            return false;
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            kilit.writeLock().lock();
+            try {
+                Ogrenci ogrenci = numaraIndeksi.remove(ogrenciNo);
+                if (ogrenci == null) {
+                    return false;
+                }
+                numaraSirasi.remove(ogrenciNo);
+                if (ogrenci.getDogumTarihi() != null) {
+                    dogumTarihiSirasi.remove(tarihAnahtari(ogrenci.getDogumTarihi(), ogrenciNo));
+                }
+                String bolumAnahtari = bolumAnahtari(ogrenci);
+                Set<Ogrenci> bolumOgrencileri = bolumAnahtari != null ? bolumIndeksi.get(bolumAnahtari) : null;
+                if (bolumOgrencileri != null) {
+                    bolumOgrencileri.remove(ogrenci);
+                    if (bolumOgrencileri.isEmpty()) {
+                        bolumIndeksi.remove(bolumAnahtari);
+                    }
+                }
+                isimIndeksi.sil(ogrenci);
+                listeKopyasi = null;
+                dinleyici.ogrenciSilindi(ogrenciNo);
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            SIL.kaydet(baslangic);
         }
-        ogrenciler.remove(ogrenci);
-        return true;
+    }
+
+    /**
+     * Öğrenciyi ve öğrenciye ait tüm not kayıtlarını tek bir işlem olarak siler.
+     * <p>
+     * İşlem boyunca öğrenci ve not servislerindeki diğer değişiklikler durdurulur
+     * ({@link DegisiklikKilidi#dondurma()}); notlar temizlendikten sonra öğrenci silinmeden önce araya
+     * yeni bir not giremez ve aynı öğrenciyi eş zamanlı silmeye çalışan ikinci bir istek, notları temizlemeden
+     * false alır.
+     * </p>
+     *
+     * @param ogrenciNo  Silinecek öğrencinin numarası.
+     * @param gpaService Öğrencinin notlarının tutulduğu servis.
+     * @return Öğrenci ve notları silindiyse true, öğrenci bulunamazsa false.
+     */
+    public boolean ogrenciVeNotlariniSil(int ogrenciNo, GpaService gpaService) {
+        return DegisiklikKilidi.dondurarak(degisiklikKilidi, gpaService.degisiklikKilidi(), () -> {
+            Ogrenci ogrenci = ogrenciAra(ogrenciNo);
+            if (ogrenci == null) {
+                return false;
+            }
+            gpaService.notlariTemizle(ogrenci);
+            return ogrenciSil(ogrenciNo);
+        });
     }
 
     /**
@@ -87,21 +266,107 @@ public class OgrenciService {
      * @return Eşleşen {@link Ogrenci} nesnesini döndürür, bulunamazsa null döndürür.
      */
     public Ogrenci ogrenciAra(int ogrenciNo) {
-        for (Ogrenci ogrenci : ogrenciler) {
-            if (ogrenci.getOgrenciNo() == ogrenciNo) {
-                return ogrenci;
+        long baslangic = System.nanoTime();
+        try {
+            kilit.readLock().lock();
+            try {
+                return numaraIndeksi.get(ogrenciNo);
+            } finally {
+                kilit.readLock().unlock();
             }
+        } finally {
+            ARA.kaydet(baslangic);
         }
-        return null;
     }
 
     /**
      * Sistemde kayıtlı olan tüm öğrencilerin listesini döndürür.
+     * <p>
+     * Öğrenciler numara sırasıyla döner. Dönen liste çağrı anındaki durumun değiştirilemez bir kopyasıdır ve
+     * sonraki değişikliklerden etkilenmez. Araya yazma girmediği sürece aynı kopya tekrar döndürülür.
+     * </p>
      *
      * @return Mevcut tüm öğrencileri içeren {@link List}.
      */
     public List<Ogrenci> ogrenciListele() {
-        return ogrenciler;
+        long baslangic = System.nanoTime();
+        try {
+            List<Ogrenci> kopya = listeKopyasi;
+            if (kopya != null) {
+                return kopya;
+            }
+
+            kilit.readLock().lock();
+            try {
+                kopya = listeKopyasi;
+                if (kopya == null) {
+                    kopya = List.copyOf(numaraSirasi.values());
+                    listeKopyasi = kopya;
+                }
+                return kopya;
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            LISTELE.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Kayıtlı öğrencileri öğrenci numarasına göre sıralı, sayfa sayfa döndürür.
+     * <p>
+     * İlk sayfa için imleç verilmez; sonraki ve önceki sayfalar dönen {@link Sayfa}'nın imleçleriyle istenir.
+     * İmleç öğrenci numarasını taşıdığından sayfalar arasında yapılan eklemeler ve silmeler kayıt atlanmasına
+     * veya tekrarına yol açmaz. Dönen sayfa yalnızca kendi kayıtlarının kopyasını içerir.
+     * </p>
+     *
+     * @param imlec Önceki bir sayfadan alınan imleç; null ise ilk sayfa.
+     * @param boyut Sayfadaki en fazla kayıt sayısı (1 ile {@link Sayfa#EN_BUYUK_BOYUT} arası).
+     * @return İstenen sayfa, imleç geçersizse null.
+     */
+    public Sayfa<Ogrenci> ogrenciSayfasi(String imlec, int boyut) {
+        long baslangic = System.nanoTime();
+        try {
+            kilit.readLock().lock();
+            try {
+                return Sayfa.kes(numaraSirasi, Integer::valueOf, imlec, boyut);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            SAYFA.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Öğrencileri isim ve/veya soyisimlerine göre arar.
+     * <p>
+     * Sorgudaki her kelime, öğrencinin isim veya soyisim kelimelerinden birinin başıyla ya da (3 harf ve
+     * üzeri kelimelerde) birkaç harflik yazım hatasıyla eşleşmelidir. Karşılaştırma büyük/küçük harf ve Türkçe
+     * karakter duyarsızdır ("isik" → "Işık"). Önekle eşleşenler önce, yazım hatasıyla eşleşenler sonra gelir.
+     * Arama tüm öğrencileri dolaşmaz; isim indeksi üzerinden yapılır.
+     * </p>
+     *
+     * @param sorgu   Aranacak isim, soyisim veya ikisi birlikte (örn. "ali yıl").
+     * @param enFazla Döndürülecek en fazla öğrenci sayısı.
+     * @return Eşleşen öğrencileri içeren değiştirilemez {@link List}; eşleşme yoksa boş liste.
+     */
+    public List<Ogrenci> isimAra(String sorgu, int enFazla) {
+        long baslangic = System.nanoTime();
+        try {
+            if (sorgu == null) {
+                return List.of();
+            }
+
+            kilit.readLock().lock();
+            try {
+                return isimIndeksi.ara(sorgu, enFazla);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            ISIM_ARA.kaydet(baslangic);
+        }
     }
 
     /**
@@ -111,7 +376,146 @@ public class OgrenciService {
      * @return Kayıt mevcutsa true, yoksa false döner.
      */
     public boolean ogrenciVarMi(int ogrenciNo) {
-        return ogrenciAra(ogrenciNo) != null;
+        long baslangic = System.nanoTime();
+        try {
+            kilit.readLock().lock();
+            try {
+                return numaraIndeksi.containsKey(ogrenciNo);
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            VAR_MI.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Belirtilen bölüme kayıtlı en az bir öğrenci olup olmadığını kontrol eder.
+     * <p>
+     * Bölüm adı büyük/küçük harf duyarsız karşılaştırılır. Kontrol ters indeks üzerinden sabit sürede yapılır.
+     * </p>
+     *
+     * @param bolumAdi Kontrol edilecek bölümün adı.
+     * @return Bölümde kayıtlı öğrenci varsa true, yoksa false.
+     */
+    public boolean bolumdeOgrenciVarMi(String bolumAdi) {
+        return bolumOgrenciSayisi(bolumAdi) > 0;
+    }
+
+    /**
+     * Belirtilen bölüme kayıtlı öğrenci sayısını döndürür.
+     *
+     * @param bolumAdi Sayılacak bölümün adı (büyük/küçük harf duyarsız).
+     * @return Bölümdeki öğrenci sayısı, bölüm adı null ise veya öğrenci yoksa 0.
+     */
+    public int bolumOgrenciSayisi(String bolumAdi) {
+        if (bolumAdi == null) {
+            return 0;
+        }
+
+        kilit.readLock().lock();
+        try {
+            Set<Ogrenci> bolumOgrencileri = bolumIndeksi.get(MetinUtil.anahtar(bolumAdi));
+            return bolumOgrencileri != null ? bolumOgrencileri.size() : 0;
+        } finally {
+            kilit.readLock().unlock();
+        }
+    }
+
+    /**
+     * Belirtilen bölüme kayıtlı öğrencileri kayıt sırasıyla döndürür.
+     * <p>
+     * Tüm öğrenciler dolaşılmaz; maliyet yalnızca bölümün öğrenci sayısıyla orantılıdır.
+     * Dönen liste değiştirilemez bir anlık kopyadır.
+     * </p>
+     *
+     * @param bolumAdi Öğrencileri listelenecek bölümün adı (büyük/küçük harf duyarsız).
+     * @return Bölümdeki öğrencileri içeren {@link List}; öğrenci yoksa boş liste.
+     */
+    public List<Ogrenci> bolumOgrencileri(String bolumAdi) {
+        long baslangic = System.nanoTime();
+        try {
+            if (bolumAdi == null) {
+                return List.of();
+            }
+
+            kilit.readLock().lock();
+            try {
+                Set<Ogrenci> bolumOgrencileri = bolumIndeksi.get(MetinUtil.anahtar(bolumAdi));
+                return bolumOgrencileri != null ? List.copyOf(bolumOgrencileri) : List.of();
+            } finally {
+                kilit.readLock().unlock();
+            }
+        } finally {
+            BOLUM_OGRENCILERI.kaydet(baslangic);
+        }
+    }
+
+    /**
+     * Doğum tarihi verilen aralıkta (sınırlar dahil) olan öğrencileri doğum tarihi sırasıyla döndürür.
+     * <p>
+     * Aralığın başı sıralı tarih indeksinde logaritmik sürede bulunur ve yalnızca aralıktaki öğrenciler
+     * kopyalanır; maliyet toplam öğrenci sayısından değil, aralıktaki öğrenci sayısından etkilenir.
+     * Doğum tarihi olmayan öğrenciler hiçbir aralıkta yer almaz.
+     * </p>
+     *
+     * @param bas Aralığın başlangıcı; null ise alt sınır yoktur.
+     * @param son Aralığın sonu; null ise üst sınır yoktur.
+     * @return Aralıktaki öğrencileri içeren değiştirilemez {@link List}.
+     */
+    public List<Ogrenci> dogumTarihiAraligi(LocalDate bas, LocalDate son) {
+        kilit.readLock().lock();
+        try {
+            return List.copyOf(tarihAraligi(bas, son).values());
+        } finally {
+            kilit.readLock().unlock();
+        }
+    }
+
+    /**
+     * Doğum tarihi verilen aralıkta (sınırlar dahil) olan öğrenci sayısını döndürür.
+     * <p>
+     * Aralık kopyalanmadan indeks üzerinde sayılır; maliyet aralıktaki öğrenci sayısıyla orantılıdır.
+     * </p>
+     *
+     * @param bas Aralığın başlangıcı; null ise alt sınır yoktur.
+     * @param son Aralığın sonu; null ise üst sınır yoktur.
+     * @return Aralıktaki öğrenci sayısı.
+     */
+    public int dogumTarihiAraligiSayisi(LocalDate bas, LocalDate son) {
+        kilit.readLock().lock();
+        try {
+            return tarihAraligi(bas, son).size();
+        } finally {
+            kilit.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tarih indeksinin verilen aralığa düşen görünümünü döndürür; okuma kilidi altında çağrılmalıdır.
+     */
+    private NavigableMap<Long, Ogrenci> tarihAraligi(LocalDate bas, LocalDate son) {
+        long alt = bas != null ? tarihAnahtari(bas, 0) : Long.MIN_VALUE;
+        long ust = son != null ? tarihAnahtari(son, Integer.MAX_VALUE) : Long.MAX_VALUE;
+        return alt <= ust ? dogumTarihiSirasi.subMap(alt, true, ust, true) : Collections.emptyNavigableMap();
+    }
+
+    /**
+     * Tarih indeksinin anahtarını oluşturur: üst 32 bit tarihin gün sayısı, alt 32 bit öğrenci numarasıdır;
+     * anahtarların sırası önce tarih, sonra numara sırasıdır. Gün sayısı 32 bite sığmayan uç tarihler
+     * (yalnızca sorgu sınırlarında anlamlı) sınıra çekilir.
+     */
+    private static long tarihAnahtari(LocalDate tarih, int ogrenciNo) {
+        long gun = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, tarih.toEpochDay()));
+        return (gun << 32) | (ogrenciNo & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Öğrencinin bölüm indeksindeki anahtarını döndürür; bölümü olmayan öğrenciler indekslenmez.
+     */
+    private static String bolumAnahtari(Ogrenci ogrenci) {
+        Bolum bolum = ogrenci.getBolum();
+        return bolum != null ? MetinUtil.anahtar(bolum.getAd()) : null;
     }
 
     /**
@@ -122,16 +526,66 @@ public class OgrenciService {
      * </p>
      *
      * @param ogrenci Güncel bilgileri taşıyan {@link Ogrenci} nesnesi.
-     * @return Güncelleme başarılıysa true, öğrenci bulunamazsa false döner.
+     * @return Güncelleme başarılıysa true, öğrenci bulunamazsa veya isim/soyisim çok uzunsa false döner.
      */
     public boolean ogrenciGuncelle(Ogrenci ogrenci) {
-        Ogrenci eski = ogrenciAra(ogrenci.getOgrenciNo());
-        if (eski == null) {
-            return false;
+        long baslangic = System.nanoTime();
+        Lock degisiklik = degisiklikKilidi.degisiklik();
+        degisiklik.lock();
+        try {
+            if (!DogrulamaUtil.uzunlukGecerliMi(ogrenci.getIsim(), ogrenci.getSoyisim())) {
+                System.out.println("Hata: Metin alanları en fazla " + DogrulamaUtil.EN_UZUN_METIN + " karakter olabilir.");
+                return false;
+            }
+
+            kilit.writeLock().lock();
+            try {
+                Ogrenci eski = numaraIndeksi.get(ogrenci.getOgrenciNo());
+                if (eski == null) {
+                    return false;
+                }
+
+                // İndeks kelimeleri eski isimden çıkarılıp yeni isimle yeniden eklenir.
+                isimIndeksi.sil(eski);
+                eski.setIsim(ogrenci.getIsim());
+                eski.setSoyisim(ogrenci.getSoyisim());
+                isimIndeksi.ekle(eski);
+                dinleyici.ogrenciGuncellendi(eski);
+                return true;
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        } finally {
+            degisiklik.unlock();
+            GUNCELLE.kaydet(baslangic);
         }
+    }
+
+    /**
+     * Öğrenci kayıtlarında yapılan başarılı değişikliklerin bildirileceği dinleyiciyi atar.
+     *
+     * @param dinleyici Değişiklik dinleyicisi; null verilirse bildirim yapılmaz.
+     */
+    public void setDinleyici(DegisiklikDinleyicisi dinleyici) {
+        this.dinleyici = dinleyici != null ? dinleyici : DegisiklikDinleyicisi.BOS;
+    }
 
-        eski.setIsim(ogrenci.getIsim());
-        eski.setSoyisim(ogrenci.getSoyisim());
-        return true;
+    /**
+     * Değişikliklerin paylaşımlı olarak tutacağı ortak kilidi atar.
+     * <p>
+     * Servis değişikliğe açılmadan önce (örn. işlem günlüğüne bağlanırken) çağrılmalıdır.
+     * </p>
+     *
+     * @param degisiklikKilidi Diğer servislerle paylaşılan {@link DegisiklikKilidi}.
+     */
+    public void setDegisiklikKilidi(DegisiklikKilidi degisiklikKilidi) {
+        this.degisiklikKilidi = degisiklikKilidi;
+    }
+
+    /**
+     * Birden çok servisi birlikte değiştiren işlemlerin kullandığı ortak kilidi döndürür.
+     */
+    DegisiklikKilidi degisiklikKilidi() {
+        return degisiklikKilidi;
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package Service;
+
+import java.time.LocalDate;
+
+/**
+ * Öğrencileri birden çok ölçüte göre süzmek için kullanılan sorgu tanımıdır.
+ * <p>
+ * Verilen tüm koşullar birlikte (VE) uygulanır; atanmamış koşullar sonucu kısıtlamaz. Aralık koşullarının
+ * sınırları dahildir ve her iki sınırdan biri boş (null) bırakılarak açık aralık tanımlanabilir.
+ * Sorgu {@link SorguService#sorgula(OgrenciSorgusu)} ile çalıştırılır.
+ * </p>
+ */
+public class OgrenciSorgusu {
+
+    private String bolum;
+    private LocalDate dogumTarihiBas;
+    private LocalDate dogumTarihiSon;
+    private Double gpaEnAz;
+    private Double gpaEnCok;
+
+    /**
+     * @return Bölüm adı koşulu, yoksa null.
+     */
+    public String getBolum() {
+        return bolum;
+    }
+
+    /**
+     * @param bolum Öğrencinin bölüm adı (büyük/küçük harf duyarsız); null ise bölüm koşulu yoktur.
+     */
+    public void setBolum(String bolum) {
+        this.bolum = bolum;
+    }
+
+    public LocalDate getDogumTarihiBas() {
+        return dogumTarihiBas;
+    }
+
+    public LocalDate getDogumTarihiSon() {
+        return dogumTarihiSon;
+    }
+
+    /**
+     * @param bas Doğum tarihinin en erken değeri; null ise alt sınır yoktur.
+     * @param son Doğum tarihinin en geç değeri; null ise üst sınır yoktur.
+     */
+    public void setDogumTarihiAraligi(LocalDate bas, LocalDate son) {
+        this.dogumTarihiBas = bas;
+        this.dogumTarihiSon = son;
+    }
+
+    public Double getGpaEnAz() {
+        return gpaEnAz;
+    }
+
+    public Double getGpaEnCok() {
+        return gpaEnCok;
+    }
+
+    /**
+     * Notu olmayan öğrencilerin GPA değeri 0.0 kabul edilir ({@link GpaService#gpaHesapla(Model.Ogrenci)}).
+     *
+     * @param enAz GPA'nın en küçük değeri; null ise alt sınır yoktur.
+     * @param enCok GPA'nın en büyük değeri; null ise üst sınır yoktur.
+     */
+    public void setGpaAraligi(Double enAz, Double enCok) {
+        this.gpaEnAz = enAz;
+        this.gpaEnCok = enCok;
+    }
+
+    /**
+     * @return Doğum tarihi koşulu varsa true.
+     */
+    public boolean dogumTarihiKosuluVarMi() {
+        return dogumTarihiBas != null || dogumTarihiSon != null;
+    }
+
+    /**
+     * @return GPA koşulu varsa true.
+     */
+    public boolean gpaKosuluVarMi() {
+        return gpaEnAz != null || gpaEnCok != null;
+    }
+}
@@ -0,0 +1,192 @@
+package Service;
+
+import Model.Ders;
+import Model.Ogrenci;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Not kayıtlarını öğrenci numarasına göre şeritlere (stripe) bölen, eş zamanlı kullanıma uygun {@link NotDeposu} uygulamasıdır.
+ * <p>
+ * Her şerit kendi {@link NesneNotDeposu} nesnesini ve okuma/yazma kilidini tutar. Bir öğrencinin
+ * tüm kayıtları her zaman aynı şeritte bulunduğundan öğrenci bazlı işlemler yalnızca o şeridi kilitler;
+ * farklı şeritlerdeki öğrencilere yapılan not girişleri birbirini beklemeden paralel ilerler.
+ * </p>
+ * <p>
+ * Öğrenci bazlı metotlar (ekleme, güncelleme, okuma, temizleme) şerit kilidini kendileri almaz: çağıranın
+ * öğrencinin {@link #kilit(Ogrenci)} kilidini (okumalar için okuma, değişiklikler için yazma modunda) tutması
+ * gerekir. {@link GpaService} bu kilidi değişikliği ve dinleyici bildirimini birlikte korumak için zaten tuttuğundan
+ * kilit her işlemde iki kez alınmaz. "Her öğrenci/ders ikilisi için tek kayıt" kuralı, kontrol ve ekleme aynı
+ * şerit kilidi altında yapıldığı için eş zamanlı yazmalarda da korunur.
+ * </p>
+ * <p>
+ * Tüm depoyu ilgilendiren işlemler ({@link #ogrenciler(Ders)}, {@link #kayitSayisi()},
+ * {@link #kayitlariGez(KayitZiyaretcisi)}) şeritleri kendileri sırayla kilitler; sonuçları şerit sırasına göre birleştirilir.
+ * </p>
+ */
+public class SeritliNotDeposu implements NotDeposu {
+
+    /** Şeritlerin depoları. */
+    private final NesneNotDeposu[] seritler;
+    /** Aynı sıradaki şeridi koruyan kilitler. */
+    private final ReentrantReadWriteLock[] kilitler;
+    /** Şerit sayısının 2 tabanındaki logaritması. */
+    private final int seritBiti;
+
+    /**
+     * İşlemci sayısının dört katı kadar (en az 16) şeritle boş bir depo oluşturur.
+     */
+    public SeritliNotDeposu() {
+        this(Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    /**
+     * Belirtilen sayıda şeritle boş bir depo oluşturur.
+     *
+     * @param seritSayisi İstenen şerit sayısı; 2'nin bir üst kuvvetine yuvarlanır.
+     */
+    public SeritliNotDeposu(int seritSayisi) {
+        int bit = 0;
+        while ((1 << bit) < seritSayisi && bit < 16) {
+            bit++;
+        }
+        this.seritBiti = bit;
+        this.seritler = new NesneNotDeposu[1 << bit];
+        this.kilitler = new ReentrantReadWriteLock[1 << bit];
+        for (int i = 0; i < seritler.length; i++) {
+            seritler[i] = new NesneNotDeposu();
+            kilitler[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Öğrencinin kayıtlarının bulunduğu şeridin sırasını hesaplar.
+     * <p>
+     * Ardışık öğrenci numaralarının şeritlere dengeli dağılması için numara altın oran sabitiyle çarpılır.
+     * </p>
+     */
+    private int serit(Ogrenci ogrenci) {
+        if (seritBiti == 0) {
+            return 0;
+        }
+        return (ogrenci.getOgrenciNo() * 0x9E3779B9) >>> (32 - seritBiti);
+    }
+
+    /**
+     * Öğrencinin şeridine ait kilidi döndürür. Öğrenci bazlı metotlar çağrılırken bu kilit tutulmalıdır.
+     */
+    @Override
+    public ReadWriteLock kilit(Ogrenci ogrenci) {
+        return kilitler[serit(ogrenci)];
+    }
+
+    /**
+     * Öğrencinin şerit sırasını döndürür; toplu işlemler şerit kilitlerini bu sırayla alır.
+     */
+    @Override
+    public int kilitSirasi(Ogrenci ogrenci) {
+        return serit(ogrenci);
+    }
+
+    @Override
+    public boolean ekle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        return seritler[serit(ogrenci)].ekle(ogrenci, ders, harfNotu);
+    }
+
+    /**
+     * Kaydı öğrencinin şeridine kilit almadan yükler; yükleme sırasında depo başka iş parçacıklarınca kullanılmamalıdır.
+     */
+    @Override
+    public boolean yukle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        return seritler[serit(ogrenci)].yukle(ogrenci, ders, harfNotu);
+    }
+
+    @Override
+    public void yuklemeyiBitir() {
+        for (NesneNotDeposu serit : seritler) {
+            serit.yuklemeyiBitir();
+        }
+    }
+
+    @Override
+    public byte guncelle(Ogrenci ogrenci, Ders ders, byte harfNotu) {
+        return seritler[serit(ogrenci)].guncelle(ogrenci, ders, harfNotu);
+    }
+
+    @Override
+    public byte bul(Ogrenci ogrenci, Ders ders) {
+        return seritler[serit(ogrenci)].bul(ogrenci, ders);
+    }
+
+    @Override
+    public List<Ders> dersler(Ogrenci ogrenci) {
+        return seritler[serit(ogrenci)].dersler(ogrenci);
+    }
+
+    @Override
+    public List<Ogrenci> ogrenciler(Ders ders) {
+        List<Ogrenci> sonuc = new ArrayList<>();
+        for (int s = 0; s < seritler.length; s++) {
+            Lock okuma = kilitler[s].readLock();
+            okuma.lock();
+            try {
+                sonuc.addAll(seritler[s].ogrenciler(ders));
+            } finally {
+                okuma.unlock();
+            }
+        }
+        return sonuc;
+    }
+
+    @Override
+    public double gpa(Ogrenci ogrenci) {
+        return seritler[serit(ogrenci)].gpa(ogrenci);
+    }
+
+    @Override
+    public int toplamAkts(Ogrenci ogrenci) {
+        return seritler[serit(ogrenci)].toplamAkts(ogrenci);
+    }
+
+    @Override
+    public int kazanilanAkts(Ogrenci ogrenci) {
+        return seritler[serit(ogrenci)].kazanilanAkts(ogrenci);
+    }
+
+    @Override
+    public void temizle(Ogrenci ogrenci) {
+        seritler[serit(ogrenci)].temizle(ogrenci);
+    }
+
+    @Override
+    public int kayitSayisi() {
+        int toplam = 0;
+        for (int s = 0; s < seritler.length; s++) {
+            Lock okuma = kilitler[s].readLock();
+            okuma.lock();
+            try {
+                toplam += seritler[s].kayitSayisi();
+            } finally {
+                okuma.unlock();
+            }
+        }
+        return toplam;
+    }
+
+    @Override
+    public void kayitlariGez(KayitZiyaretcisi ziyaretci) {
+        for (int s = 0; s < seritler.length; s++) {
+            Lock okuma = kilitler[s].readLock();
+            okuma.lock();
+            try {
+                seritler[s].kayitlariGez(ziyaretci);
+            } finally {
+                okuma.unlock();
+            }
+        }
+    }
+}
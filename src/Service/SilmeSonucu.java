@@ -0,0 +1,14 @@
+package Service;
+
+/**
+ * Başka kayıtlar tarafından kullanılıyor olabilecek bir kaydın silinmesi isteğinin sonucudur.
+ */
+public enum SilmeSonucu {
+
+    /** Kayıt silindi. */
+    SILINDI,
+    /** Silinecek kayıt bulunamadı. */
+    BULUNAMADI,
+    /** Kayıt başka kayıtlar tarafından kullanıldığı için silinmedi. */
+    KULLANIMDA
+}
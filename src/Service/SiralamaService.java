@@ -0,0 +1,111 @@
+package Service;
+
+import Metrik.SiralamaOlayi;
+import Model.Ogrenci;
+
+import java.util.Collection;
+
+/**
+ * Öğrencilerin GPA değerlerine göre başarı sıralamasını oluşturan servis sınıfıdır.
+ * <p>
+ * Karşılaştırma sırasında GPA tekrar tekrar hesaplanmaz: her öğrencinin GPA değeri
+ * sıralamadan önce bir kez {@code double[]} dizisine alınır ve sıralama bu dizi
+ * üzerindeki indekslerle yapılır. Eşit GPA değerine sahip öğrenciler öğrenci numarasına
+ * göre artan sırada listelenir; bu sayede sonuç her çalıştırmada aynıdır.
+ * </p>
+ * <p>
+ * Her sıralama bir {@link SiralamaOlayi} Java Flight Recorder olayı olarak kaydedilir.
+ * </p>
+ */
+public class SiralamaService {
+
+    /** GPA değerlerini sağlayan servis. */
+    private final GpaService gpaService;
+
+    /**
+     * Yeni bir SiralamaService nesnesi oluşturur.
+     *
+     * @param gpaService GPA hesaplamalarında kullanılacak servis.
+     */
+    public SiralamaService(GpaService gpaService) {
+        this.gpaService = gpaService;
+    }
+
+    /**
+     * Verilen öğrencileri GPA değerine göre büyükten küçüğe sıralar.
+     *
+     * @param ogrenciler Sıralanacak öğrenciler.
+     * @return GPA değerleriyle birlikte sıralanmış {@link GpaSiralamasi}.
+     */
+    public GpaSiralamasi gpaSiralamasi(Collection<Ogrenci> ogrenciler) {
+        SiralamaOlayi olay = new SiralamaOlayi();
+        olay.begin();
+        Ogrenci[] kaynak = ogrenciler.toArray(new Ogrenci[0]);
+        int n = kaynak.length;
+        olay.ogrenciSayisi = n;
+
+        double[] gpalar = new double[n];
+        int[] numaralar = new int[n];
+        int[] sira = new int[n];
+        for (int i = 0; i < n; i++) {
+            gpalar[i] = gpaService.gpaHesapla(kaynak[i]);
+            numaralar[i] = kaynak[i].getOgrenciNo();
+            sira[i] = i;
+        }
+
+        birlestirerekSirala(sira, new int[n], 0, n, gpalar, numaralar);
+
+        Ogrenci[] sonucOgrenciler = new Ogrenci[n];
+        double[] sonucGpalar = new double[n];
+        for (int i = 0; i < n; i++) {
+            sonucOgrenciler[i] = kaynak[sira[i]];
+            sonucGpalar[i] = gpalar[sira[i]];
+        }
+        olay.commit();
+        return new GpaSiralamasi(sonucOgrenciler, sonucGpalar);
+    }
+
+    /**
+     * İndeks dizisini [bas, son) aralığında birleştirme sıralaması (merge sort) ile sıralar.
+     */
+    private static void birlestirerekSirala(int[] sira, int[] gecici, int bas, int son,
+                                            double[] gpalar, int[] numaralar) {
+        if (son - bas < 2) {
+            return;
+        }
+
+        int orta = (bas + son) >>> 1;
+        birlestirerekSirala(sira, gecici, bas, orta, gpalar, numaralar);
+        birlestirerekSirala(sira, gecici, orta, son, gpalar, numaralar);
+
+        if (once(sira[orta - 1], sira[orta], gpalar, numaralar)) {
+            return;
+        }
+
+        System.arraycopy(sira, bas, gecici, bas, son - bas);
+        int i = bas, j = orta, k = bas;
+        while (i < orta && j < son) {
+            sira[k++] = once(gecici[j], gecici[i], gpalar, numaralar) ? gecici[j++] : gecici[i++];
+        }
+        while (i < orta) {
+            sira[k++] = gecici[i++];
+        }
+        while (j < son) {
+            sira[k++] = gecici[j++];
+        }
+    }
+
+    /**
+     * a indeksli öğrencinin b indeksli öğrenciden önce gelip gelmediğini döndürür.
+     * <p>
+     * Yüksek GPA önce gelir; GPA eşitse küçük öğrenci numarası önce gelir.
+     * </p>
+     */
+    private static boolean once(int a, int b, double[] gpalar, int[] numaralar) {
+        int karsilastirma = Double.compare(gpalar[b], gpalar[a]);
+        if (karsilastirma != 0) {
+            return karsilastirma < 0;
+        }
+        return numaralar[a] < numaralar[b];
+    }
+}
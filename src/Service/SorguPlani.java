@@ -0,0 +1,50 @@
+package Service;
+
+/**
+ * {@link SorguService}'in bir sorgu için seçtiği erişim yolunu ve tahmini aday sayısını gösterir.
+ */
+public class SorguPlani {
+
+    /**
+     * Sorgunun adaylarının okunduğu indeks.
+     */
+    public enum Indeks {
+        BOLUM("Bölüm indeksi"),
+        DOGUM_TARIHI("Doğum tarihi indeksi"),
+        GPA("GPA indeksi"),
+        TAM_TARAMA("Tüm öğrenciler");
+
+        private final String aciklama;
+
+        Indeks(String aciklama) {
+            this.aciklama = aciklama;
+        }
+
+        public String getAciklama() {
+            return aciklama;
+        }
+    }
+
+    private final Indeks indeks;
+    private final int adaySayisi;
+
+    SorguPlani(Indeks indeks, int adaySayisi) {
+        this.indeks = indeks;
+        this.adaySayisi = adaySayisi;
+    }
+
+    /**
+     * @return Seçilen indeks.
+     */
+    public Indeks getIndeks() {
+        return indeks;
+    }
+
+    /**
+     * @return İndeksten okunacak aday öğrenci sayısı; diğer koşullar bu adaylara süzgeç olarak uygulanır.
+     * GPA indeksi güncel değilse tüm öğrenci sayısıdır.
+     */
+    public int getAdaySayisi() {
+        return adaySayisi;
+    }
+}
@@ -0,0 +1,237 @@
+package Service;
+
+import Model.Bolum;
+import Model.Ogrenci;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Öğrencileri bölüm, doğum tarihi aralığı ve GPA aralığı ölçütlerine göre sorgulayan servis sınıfıdır.
+ * <p>
+ * Her sorgu için koşulu olan indekslerin aday sayıları karşılaştırılır ve en seçici olanı kullanılır:
+ * bölüm indeksi ({@link OgrenciService#bolumOgrencileri(String)}), sıralı doğum tarihi indeksi
+ * ({@link OgrenciService#dogumTarihiAraligi(LocalDate, LocalDate)}) veya GPA'ya göre sıralı indeks.
+ * Kalan koşullar yalnızca bu adaylara süzgeç olarak uygulanır. Hiç koşul yoksa tüm öğrenciler taranır.
+ * </p>
+ * <p>
+ * GPA indeksi, {@link SiralamaService} ile oluşturulan bir sıralamadır. Not değişikliklerinde güncel tutulmaz;
+ * öğrenci listesi veya notlar değiştiyse eskimiş sayılır ve kullanılmaz. Sorgu bu durumda sıralamayı beklemez:
+ * diğer indekslerle ya da tam taramayla çalışır ve GPA koşulu süzgeç olarak uygulanır. Eskimiş indeks aynı anda
+ * en fazla bir arka plan göreviyle yeniden oluşturulur; sonraki sorgular, araya değişiklik girmediyse onu kullanır.
+ * Sürekli not girişi olan bir sistemde indeks hiç güncel kalmayabileceğinden yenilemeler seyreltilir: bir yenileme
+ * bittikten sonra, süresinin {@code YENILEME_BEKLEME_KATSAYISI} katı geçmeden yenisi başlatılmaz. Böylece arka
+ * plandaki sıralamalar işlemci zamanının küçük bir kısmıyla sınırlı kalır.
+ * </p>
+ * <p>
+ * Sonuçlar tembel (lazy) bir {@link Stream} olarak döndürülür: süzgeçler akış tüketildikçe uygulanır ve
+ * sonuç kümesi bellekte oluşturulmaz. Akış, sorgu anındaki indeksler üzerinde çalışır; tüketim sürerken
+ * yapılan değişiklikler sonuca yansımayabilir. Sonuçlar kullanılan indeksin sırasıyla gelir.
+ * </p>
+ */
+public class SorguService {
+
+    /** Bir GPA indeksi yenilemesinin ardından, yenileme süresinin kaç katı beklendikten sonra yenisine izin verileceği. */
+    private static final int YENILEME_BEKLEME_KATSAYISI = 10;
+
+    private final OgrenciService ogrenciService;
+    private final GpaService gpaService;
+    private final SiralamaService siralamaService;
+
+    /** En son oluşturulan GPA indeksi; hiç oluşturulmadıysa null. */
+    private volatile GpaIndeksi gpaIndeksi;
+
+    /** GPA indeksini yeniden oluşturan bir arka plan görevinin çalışıp çalışmadığı. */
+    private final AtomicBoolean yenileniyor = new AtomicBoolean();
+
+    /** Bir sonraki yenilemenin en erken başlatılabileceği an ({@link System#nanoTime()}). */
+    private volatile long sonrakiYenileme = System.nanoTime();
+
+    /**
+     * Yeni bir SorguService nesnesi oluşturur.
+     *
+     * @param ogrenciService Öğrenci ve bölüm/doğum tarihi indekslerini sağlayan servis.
+     * @param gpaService     GPA değerlerini sağlayan servis.
+     */
+    public SorguService(OgrenciService ogrenciService, GpaService gpaService) {
+        this.ogrenciService = ogrenciService;
+        this.gpaService = gpaService;
+        this.siralamaService = new SiralamaService(gpaService);
+    }
+
+    /**
+     * Sorgunun hangi indeksle çalıştırılacağını belirler; sorguyu çalıştırmaz.
+     *
+     * @param sorgu Planlanacak sorgu.
+     * @return Seçilen indeks ve aday sayısı.
+     */
+    public SorguPlani planla(OgrenciSorgusu sorgu) {
+        List<Ogrenci> tumu = ogrenciService.ogrenciListele();
+        SorguPlani secilen = null;
+
+        if (sorgu.getBolum() != null) {
+            secilen = dahaSecici(secilen, SorguPlani.Indeks.BOLUM, ogrenciService.bolumOgrenciSayisi(sorgu.getBolum()));
+        }
+        if (sorgu.dogumTarihiKosuluVarMi()) {
+            secilen = dahaSecici(secilen, SorguPlani.Indeks.DOGUM_TARIHI,
+                    ogrenciService.dogumTarihiAraligiSayisi(sorgu.getDogumTarihiBas(), sorgu.getDogumTarihiSon()));
+        }
+        if (sorgu.gpaKosuluVarMi()) {
+            GpaIndeksi indeks = guncelGpaIndeksi(tumu);
+            if (indeks != null) {
+                secilen = dahaSecici(secilen, SorguPlani.Indeks.GPA, indeks.sayi(sorgu.getGpaEnAz(), sorgu.getGpaEnCok()));
+            }
+        }
+
+        return secilen != null ? secilen : new SorguPlani(SorguPlani.Indeks.TAM_TARAMA, tumu.size());
+    }
+
+    /**
+     * Sorguyu en seçici indeksle çalıştırır.
+     * <p>
+     * Sorgu nesnesi çağrı anında okunur; sonradan değiştirilmesi dönen akışı etkilemez.
+     * </p>
+     *
+     * @param sorgu Çalıştırılacak sorgu.
+     * @return Koşulların tümünü sağlayan öğrencilerin tembel akışı.
+     */
+    public Stream<Ogrenci> sorgula(OgrenciSorgusu sorgu) {
+        String bolum = sorgu.getBolum();
+        LocalDate dogumBas = sorgu.getDogumTarihiBas();
+        LocalDate dogumSon = sorgu.getDogumTarihiSon();
+        Double gpaEnAz = sorgu.getGpaEnAz();
+        Double gpaEnCok = sorgu.getGpaEnCok();
+
+        SorguPlani.Indeks indeks = planla(sorgu).getIndeks();
+        GpaIndeksi gpaAdaylari = null;
+        if (indeks == SorguPlani.Indeks.GPA) {
+            gpaAdaylari = guncelGpaIndeksi(ogrenciService.ogrenciListele());
+            if (gpaAdaylari == null) {
+                // İndeks planlamadan sonra eskidi; beklemek yerine taranır.
+                indeks = SorguPlani.Indeks.TAM_TARAMA;
+            }
+        }
+        Stream<Ogrenci> adaylar = switch (indeks) {
+            case BOLUM -> ogrenciService.bolumOgrencileri(bolum).stream();
+            case DOGUM_TARIHI -> ogrenciService.dogumTarihiAraligi(dogumBas, dogumSon).stream();
+            case GPA -> gpaAdaylari.aralik(gpaEnAz, gpaEnCok);
+            case TAM_TARAMA -> ogrenciService.ogrenciListele().stream();
+        };
+
+        Predicate<Ogrenci> kosul = ogrenci -> true;
+        if (bolum != null && indeks != SorguPlani.Indeks.BOLUM) {
+            kosul = kosul.and(ogrenci -> {
+                Bolum b = ogrenci.getBolum();
+                return b != null && b.getAd().equalsIgnoreCase(bolum);
+            });
+        }
+        if ((dogumBas != null || dogumSon != null) && indeks != SorguPlani.Indeks.DOGUM_TARIHI) {
+            kosul = kosul.and(ogrenci -> {
+                LocalDate tarih = ogrenci.getDogumTarihi();
+                return tarih != null && (dogumBas == null || !tarih.isBefore(dogumBas))
+                        && (dogumSon == null || !tarih.isAfter(dogumSon));
+            });
+        }
+        if ((gpaEnAz != null || gpaEnCok != null) && indeks != SorguPlani.Indeks.GPA) {
+            kosul = kosul.and(ogrenci -> {
+                double gpa = gpaService.gpaHesapla(ogrenci);
+                return (gpaEnAz == null || gpa >= gpaEnAz) && (gpaEnCok == null || gpa <= gpaEnCok);
+            });
+        }
+        return adaylar.filter(kosul);
+    }
+
+    private static SorguPlani dahaSecici(SorguPlani mevcut, SorguPlani.Indeks indeks, int adaySayisi) {
+        return mevcut == null || adaySayisi < mevcut.getAdaySayisi() ? new SorguPlani(indeks, adaySayisi) : mevcut;
+    }
+
+    /**
+     * GPA indeksini güncelse döndürür. Eskimişse veya hiç oluşturulmadıysa null döndürür ve (başka bir görev
+     * çalışmıyorsa ve son yenilemenin bekleme süresi dolduysa) indeksin arka planda yeniden oluşturulmasını
+     * başlatır; çağıran sıralamayı beklemez.
+     */
+    private GpaIndeksi guncelGpaIndeksi(List<Ogrenci> tumu) {
+        GpaIndeksi indeks = gpaIndeksi;
+        if (indeks != null && indeks.guncelMi(tumu, gpaService.degisiklikSayisi())) {
+            return indeks;
+        }
+
+        if (System.nanoTime() - sonrakiYenileme >= 0 && yenileniyor.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                long baslangic = System.nanoTime();
+                try {
+                    // Değişiklik sayısı listeden önce okunur; oluşturma sırasında yapılan bir değişiklik indeksi eskimiş bırakır.
+                    long surum = gpaService.degisiklikSayisi();
+                    List<Ogrenci> guncel = ogrenciService.ogrenciListele();
+                    gpaIndeksi = new GpaIndeksi(guncel, surum, siralamaService.gpaSiralamasi(guncel));
+                } finally {
+                    long bitis = System.nanoTime();
+                    sonrakiYenileme = bitis + YENILEME_BEKLEME_KATSAYISI * (bitis - baslangic);
+                    yenileniyor.set(false);
+                }
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Öğrencilerin GPA'ya göre azalan sırada tutulduğu, oluşturulduğu andaki duruma ait indeks.
+     */
+    private static class GpaIndeksi {
+        /** İndeksin oluşturulduğu öğrenci listesi; öğrenci eklenip silindiğinde servis yeni bir liste döndürür. */
+        final List<Ogrenci> kaynak;
+        /** İndeks oluşturulurken okunan not değişikliği sayısı. */
+        final long surum;
+        final GpaSiralamasi siralama;
+
+        GpaIndeksi(List<Ogrenci> kaynak, long surum, GpaSiralamasi siralama) {
+            this.kaynak = kaynak;
+            this.surum = surum;
+            this.siralama = siralama;
+        }
+
+        boolean guncelMi(List<Ogrenci> tumu, long guncelSurum) {
+            return kaynak == tumu && surum == guncelSurum;
+        }
+
+        int sayi(Double enAz, Double enCok) {
+            return Math.max(0, bitis(enAz) - baslangic(enCok));
+        }
+
+        Stream<Ogrenci> aralik(Double enAz, Double enCok) {
+            int bas = baslangic(enCok);
+            return IntStream.range(bas, Math.max(bas, bitis(enAz))).mapToObj(siralama::ogrenci);
+        }
+
+        /** GPA'sı en fazla {@code enCok} olan ilk konum. */
+        private int baslangic(Double enCok) {
+            return enCok == null ? 0 : ilkKonum(gpa -> gpa <= enCok);
+        }
+
+        /** GPA'sı {@code enAz} değerinden küçük olan ilk konum. */
+        private int bitis(Double enAz) {
+            return enAz == null ? siralama.boyut() : ilkKonum(gpa -> gpa < enAz);
+        }
+
+        /** Azalan sıradaki GPA'lar için koşulu sağlayan ilk konumu ikili aramayla bulur. */
+        private int ilkKonum(DoublePredicate kosul) {
+            int alt = 0;
+            int ust = siralama.boyut();
+            while (alt < ust) {
+                int orta = (alt + ust) >>> 1;
+                if (kosul.test(siralama.gpa(orta))) {
+                    ust = orta;
+                } else {
+                    alt = orta + 1;
+                }
+            }
+            return alt;
+        }
+    }
+}
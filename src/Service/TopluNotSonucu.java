@@ -0,0 +1,33 @@
+package Service;
+
+/**
+ * {@link GpaService#notEkleToplu} ile gönderilen not çizelgesindeki her satırın sonucudur.
+ */
+public enum TopluNotSonucu {
+
+    /** Not kaydı eklendi. */
+    EKLENDI("Not eklendi."),
+    /** Puan 0-100 aralığında değil. */
+    GECERSIZ_PUAN("Puan 0 ile 100 arasında olmalıdır."),
+    /** Öğrenci numarası sistemde kayıtlı değil. */
+    OGRENCI_BULUNAMADI("Öğrenci bulunamadı."),
+    /** Aynı öğrenci çizelgede daha önceki bir satırda yer alıyor; yalnızca ilk satır dikkate alınır. */
+    TEKRARLANAN_SATIR("Öğrenci çizelgede birden fazla kez yer alıyor."),
+    /** Öğrencinin bu derse ait notu zaten mevcut. */
+    NOT_MEVCUT("Bu derse ait not zaten mevcut.");
+
+    private final String aciklama;
+
+    TopluNotSonucu(String aciklama) {
+        this.aciklama = aciklama;
+    }
+
+    /**
+     * Sonucun kullanıcıya gösterilecek açıklamasını döndürür.
+     *
+     * @return Açıklama metni.
+     */
+    public String getAciklama() {
+        return aciklama;
+    }
+}
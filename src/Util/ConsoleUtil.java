@@ -1,5 +1,8 @@
 package Util;
 
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * Konsol tabanlı kullanıcı arayüzü işlemlerini merkezileştirmek için kullanılan yardımcı sınıftır.
  * <p>
@@ -33,4 +36,55 @@ public class ConsoleUtil {
         } catch (Exception ignored) {
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Kayıtları sayfa sayfa gösterir ve kullanıcının sonraki/önceki sayfaya geçmesine izin verir.
+     * <p>
+     * Bellekte ve ekranda aynı anda yalnızca bir sayfa bulunur. Her sayfadan sonra konum bilgisi
+     * ("Kayıt 21-40 / 1000") yazdırılır; kullanıcı 'S' ile sonraki, 'O' ile önceki sayfaya geçer,
+     * boş bırakarak listelemeyi bitirir. Tek sayfalık listelerde seçim sorulmaz.
+     * </p>
+     *
+     * @param sayfaGetir Verilen imlecin (ilk sayfa için null) gösterdiği sayfayı döndüren işlem.
+     * @param yazdir     Tek bir kaydı ekrana yazdıran işlem.
+     * @param bosMesaji  Hiç kayıt yoksa gösterilecek mesaj.
+     * @param <T>        Kayıt türü.
+     */
+    public static <T> void printPaged(Function<String, Sayfa<T>> sayfaGetir, Consumer<T> yazdir, String bosMesaji) {
+        String imlec = null;
+        while (true) {
+            Sayfa<T> sayfa = sayfaGetir.apply(imlec);
+            if (sayfa == null || sayfa.getToplam() == 0) {
+                System.out.println(bosMesaji);
+                return;
+            }
+
+            printLine();
+            for (T oge : sayfa.getOgeler()) {
+                yazdir.accept(oge);
+            }
+            System.out.printf("Kayıt %d-%d / %d%n", sayfa.getBaslangic() + 1,
+                    sayfa.getBaslangic() + sayfa.getOgeler().size(), sayfa.getToplam());
+            if (sayfa.getOncekiImlec() == null && sayfa.getSonrakiImlec() == null) {
+                return;
+            }
+
+            while (true) {
+                String secim = InputUtil.readString("[S] Sonraki  [O] Önceki  [Enter] Bitir: ").toUpperCase();
+                if (secim.isEmpty()) {
+                    return;
+                }
+                if (secim.equals("S") && sayfa.getSonrakiImlec() != null) {
+                    imlec = sayfa.getSonrakiImlec();
+                    break;
+                }
+                if ((secim.equals("O") || secim.equals("Ö")) && sayfa.getOncekiImlec() != null) {
+                    imlec = sayfa.getOncekiImlec();
+                    break;
+                }
+                System.out.println(secim.equals("S") ? "Uyarı: Son sayfadasınız."
+                        : secim.equals("O") || secim.equals("Ö") ? "Uyarı: İlk sayfadasınız." : "Hata: Geçersiz seçim.");
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package Util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Konsol dışındaki giriş kanallarında (toplu aktarım, HTTP API) menülerle aynı doğrulama kurallarını uygulayan yardımcı sınıftır.
+ */
+public class DogrulamaUtil {
+
+    /** {@link InputUtil#readOnlyText(String)} ile aynı kural: yalnızca harf ve boşluk. */
+    private static final Pattern METIN_DESENI = Pattern.compile("^[\\p{L} ]+$");
+
+    /**
+     * İsim, kod ve web sayfası gibi metin alanlarının en fazla karakter sayısı.
+     * <p>
+     * Sınır, en uzun metnin UTF-8 karşılığının da işlem günlüğü ve anlık görüntü kayıtlarındaki 16 bitlik
+     * uzunluk alanına sığmasını sağlar.
+     * </p>
+     */
+    public static final int EN_UZUN_METIN = 255;
+
+    /**
+     * Metnin isim/ad alanı kuralına uyup uymadığını kontrol eder.
+     *
+     * @param metin Kontrol edilecek metin.
+     * @return En az 2, en fazla {@link #EN_UZUN_METIN} karakterli ve yalnızca harf ve boşluk içeriyorsa true.
+     */
+    public static boolean metinGecerliMi(String metin) {
+        return metin != null && metin.length() >= 2 && metin.length() <= EN_UZUN_METIN
+                && METIN_DESENI.matcher(metin).matches();
+    }
+
+    /**
+     * Metin alanlarının uzunluk sınırını aşıp aşmadığını kontrol eder.
+     *
+     * @param metinler Kontrol edilecek metinler; null olanlar geçerli sayılır.
+     * @return Hiçbiri {@link #EN_UZUN_METIN} karakterden uzun değilse true.
+     */
+    public static boolean uzunlukGecerliMi(String... metinler) {
+        for (String metin : metinler) {
+            if (metin != null && metin.length() > EN_UZUN_METIN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Öğrenci numarasının 9 haneli olup olmadığını kontrol eder.
+     *
+     * @param ogrenciNo Kontrol edilecek numara.
+     * @return Numara tam olarak 9 haneliyse true.
+     */
+    public static boolean ogrenciNoGecerliMi(long ogrenciNo) {
+        return ogrenciNo >= 100_000_000L && ogrenciNo <= 999_999_999L;
+    }
+}
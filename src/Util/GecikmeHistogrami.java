@@ -0,0 +1,157 @@
+package Util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gecikme gibi negatif olmayan değerlerin dağılımını logaritmik kovalarda tutan histogramdır.
+ * <p>
+ * Her ikinin kuvveti aralığı {@value #ALT_KOVA} eşit alt kovaya bölünür; böylece kaydedilen her değer
+ * yaklaşık %3 göreli hatayla temsil edilir ve histogram değer aralığından bağımsız olarak sabit
+ * boyutta (yaklaşık 15 KB) kalır. Kayıt işlemi kilitsizdir ve birden çok iş parçacığından eş zamanlı
+ * yapılabilir; yüzdelik sorguları kayıtlar sürerken de güvenle çağrılabilir.
+ * </p>
+ */
+public class GecikmeHistogrami {
+
+    /** Bir ikinin kuvveti aralığındaki alt kova sayısının 2 tabanındaki logaritması. */
+    private static final int ALT_KOVA_BITI = 5;
+    /** Bir ikinin kuvveti aralığındaki alt kova sayısı. */
+    private static final int ALT_KOVA = 1 << ALT_KOVA_BITI;
+    /** Toplam kova sayısı: doğrudan tutulan küçük değerler ve her üs için bir grup. */
+    private static final int KOVA_SAYISI = ALT_KOVA + (63 - ALT_KOVA_BITI) * ALT_KOVA;
+
+    private final AtomicLongArray kovalar = new AtomicLongArray(KOVA_SAYISI);
+    private final LongAdder sayi = new LongAdder();
+    private final LongAdder toplam = new LongAdder();
+    private final AtomicLong enBuyuk = new AtomicLong();
+
+    /**
+     * Bir değeri histograma ekler.
+     *
+     * @param deger Kaydedilecek değer; negatif değerler 0 kabul edilir.
+     */
+    public void kaydet(long deger) {
+        if (deger < 0) {
+            deger = 0;
+        }
+        kovalar.incrementAndGet(kova(deger));
+        sayi.increment();
+        toplam.add(deger);
+        long mevcut = enBuyuk.get();
+        while (deger > mevcut && !enBuyuk.compareAndSet(mevcut, deger)) {
+            mevcut = enBuyuk.get();
+        }
+    }
+
+    /**
+     * Başka bir histogramın kayıtlarını bu histograma ekler.
+     *
+     * @param diger Eklenecek histogram.
+     */
+    public void birlestir(GecikmeHistogrami diger) {
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            long adet = diger.kovalar.get(i);
+            if (adet != 0) {
+                kovalar.addAndGet(i, adet);
+            }
+        }
+        sayi.add(diger.sayi.sum());
+        toplam.add(diger.toplam.sum());
+        long digerEnBuyuk = diger.enBuyuk.get();
+        long mevcut = enBuyuk.get();
+        while (digerEnBuyuk > mevcut && !enBuyuk.compareAndSet(mevcut, digerEnBuyuk)) {
+            mevcut = enBuyuk.get();
+        }
+    }
+
+    /**
+     * Tüm kayıtları siler.
+     * <p>
+     * Eş zamanlı kayıtlarla birlikte atomik değildir: sıfırlama sırasında yapılan bir kayıt kısmen
+     * (örn. kovaya eklenmiş ama sayıya eklenmemiş) kalabilir. İzleme amaçlı sıfırlamalar için yeterlidir.
+     * </p>
+     */
+    public void sifirla() {
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            kovalar.set(i, 0);
+        }
+        sayi.reset();
+        toplam.reset();
+        enBuyuk.set(0);
+    }
+
+    /**
+     * Verilen yüzdelik dilime karşılık gelen değeri döndürür.
+     * <p>
+     * Sonuç, ilgili kovanın üst sınırıdır (en büyük kayıtla sınırlandırılır); gerçek değerden en fazla
+     * bir alt kova genişliği kadar büyük olabilir.
+     * </p>
+     *
+     * @param yuzdelik 0 ile 100 arasında yüzdelik dilim (örn. 99.9).
+     * @return Yüzdelik değeri, kayıt yoksa 0.
+     */
+    public long yuzdelik(double yuzdelik) {
+        long adet = sayi.sum();
+        if (adet == 0) {
+            return 0;
+        }
+
+        long hedef = Math.max(1, (long) Math.ceil(adet * Math.min(100.0, Math.max(0.0, yuzdelik)) / 100.0));
+        long birikimli = 0;
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            birikimli += kovalar.get(i);
+            if (birikimli >= hedef) {
+                return Math.min(ustSinir(i), enBuyuk.get());
+            }
+        }
+        return enBuyuk.get();
+    }
+
+    /**
+     * @return Kaydedilen değer sayısı.
+     */
+    public long getSayi() {
+        return sayi.sum();
+    }
+
+    /**
+     * @return Kaydedilen değerlerin ortalaması, kayıt yoksa 0.0.
+     */
+    public double getOrtalama() {
+        long adet = sayi.sum();
+        return adet == 0 ? 0.0 : (double) toplam.sum() / adet;
+    }
+
+    /**
+     * @return Kaydedilen en büyük değer, kayıt yoksa 0.
+     */
+    public long getEnBuyuk() {
+        return enBuyuk.get();
+    }
+
+    /**
+     * Değerin ait olduğu kovanın sırasını hesaplar.
+     */
+    private static int kova(long deger) {
+        if (deger < ALT_KOVA) {
+            return (int) deger;
+        }
+        int us = 63 - Long.numberOfLeadingZeros(deger);
+        int kayma = us - ALT_KOVA_BITI;
+        return ALT_KOVA + kayma * ALT_KOVA + (int) ((deger >>> kayma) - ALT_KOVA);
+    }
+
+    /**
+     * Kovadaki en büyük değeri hesaplar.
+     */
+    private static long ustSinir(int kova) {
+        if (kova < ALT_KOVA) {
+            return kova;
+        }
+        int kayma = (kova - ALT_KOVA) / ALT_KOVA;
+        long alt = (long) (ALT_KOVA + (kova - ALT_KOVA) % ALT_KOVA) << kayma;
+        return alt + (1L << kayma) - 1;
+    }
+}
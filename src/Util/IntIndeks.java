@@ -0,0 +1,281 @@
+package Util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * {@code int} anahtarları nesne değerlerine eşleyen, açık adreslemeli (open addressing) bir hash indeksidir.
+ * <p>
+ * Anahtarlar {@link Integer} nesnesine kutulanmadan doğrudan {@code int[]} dizisinde saklanır.
+ * Çakışmalar doğrusal yoklama (linear probing) ile çözülür; silme işleminde mezar taşı
+ * bırakılmaz, kayıtlar geri kaydırılarak (backward shift) yoklama zinciri korunur.
+ * Böylece arama, ekleme ve silme işlemleri ortalama O(1) sürede tamamlanır.
+ * </p>
+ * <p>
+ * {@code 0} anahtarı tabloda "boş hücre" işareti olarak kullanıldığından ayrı bir alanda tutulur.
+ * </p>
+ *
+ * @param <V> İndekslenen değerlerin türü
+ */
+public class IntIndeks<V> {
+
+    /** Tablonun dolmasına izin verilen en yüksek oran. */
+    private static final float DOLULUK_ORANI = 0.5f;
+
+    /** Anahtar dizisi; {@code 0} değeri boş hücreyi temsil eder. */
+    private int[] anahtarlar;
+    /** Anahtarlarla aynı konumda tutulan değer dizisi. */
+    private Object[] degerler;
+    /** Tablo boyutu - 1 (boyut her zaman 2'nin kuvvetidir). */
+    private int maske;
+    /** Tablodaki (0 anahtarı hariç) kayıt sayısı. */
+    private int adet;
+    /** Yeniden boyutlandırmanın tetikleneceği kayıt sayısı. */
+    private int esik;
+
+    /** {@code 0} anahtarının tabloda bulunup bulunmadığı. */
+    private boolean sifirVar;
+    /** {@code 0} anahtarına karşılık gelen değer. */
+    private V sifirDeger;
+
+    /**
+     * Varsayılan kapasiteyle boş bir indeks oluşturur.
+     */
+    public IntIndeks() {
+        this(16);
+    }
+
+    /**
+     * Belirtilen sayıda kaydı yeniden boyutlandırma yapmadan alabilecek boş bir indeks oluşturur.
+     *
+     * @param beklenenAdet Beklenen kayıt sayısı.
+     */
+    public IntIndeks(int beklenenAdet) {
+        int kapasite = 16;
+        while (kapasite * DOLULUK_ORANI < beklenenAdet) {
+            kapasite <<= 1;
+        }
+        tabloOlustur(kapasite);
+    }
+
+    /**
+     * Anahtara karşılık gelen değeri döndürür.
+     *
+     * @param anahtar Aranacak anahtar.
+     * @return Değer bulunursa değeri, bulunamazsa null.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int anahtar) {
+        if (anahtar == 0) {
+            return sifirDeger;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == anahtar) {
+                return (V) degerler[i];
+            }
+            if (k == 0) {
+                return null;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * Anahtarın indekste kayıtlı olup olmadığını kontrol eder.
+     *
+     * @param anahtar Kontrol edilecek anahtar.
+     * @return Kayıt mevcutsa true.
+     */
+    public boolean containsKey(int anahtar) {
+        if (anahtar == 0) {
+            return sifirVar;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == anahtar) {
+                return true;
+            }
+            if (k == 0) {
+                return false;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * Anahtar-değer çiftini indekse ekler; anahtar zaten varsa değerini değiştirir.
+     *
+     * @param anahtar Eklenecek anahtar.
+     * @param deger   Anahtara atanacak değer (null olamaz).
+     * @return Anahtarın önceki değeri, yoksa null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int anahtar, V deger) {
+        if (anahtar == 0) {
+            V eski = sifirDeger;
+            sifirVar = true;
+            sifirDeger = deger;
+            return eski;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == anahtar) {
+                V eski = (V) degerler[i];
+                degerler[i] = deger;
+                return eski;
+            }
+            if (k == 0) {
+                anahtarlar[i] = anahtar;
+                degerler[i] = deger;
+                if (++adet >= esik) {
+                    yenidenBoyutlandir(anahtarlar.length << 1);
+                }
+                return null;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * Anahtarı ve değerini indeksten kaldırır.
+     *
+     * @param anahtar Kaldırılacak anahtar.
+     * @return Kaldırılan değer, anahtar yoksa null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int anahtar) {
+        if (anahtar == 0) {
+            V eski = sifirDeger;
+            sifirVar = false;
+            sifirDeger = null;
+            return eski;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == 0) {
+                return null;
+            }
+            if (k == anahtar) {
+                V eski = (V) degerler[i];
+                geriKaydir(i);
+                adet--;
+                return eski;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * İndeksteki kayıt sayısını döndürür.
+     *
+     * @return Kayıt sayısı.
+     */
+    public int size() {
+        return sifirVar ? adet + 1 : adet;
+    }
+
+    /**
+     * İndeksin boş olup olmadığını kontrol eder.
+     *
+     * @return Kayıt yoksa true.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * İndeksteki tüm değerleri (belirli bir sıra gözetmeksizin) verilen işleme gönderir.
+     *
+     * @param islem Her değer için çağrılacak işlem.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> islem) {
+        if (sifirVar) {
+            islem.accept(sifirDeger);
+        }
+        for (int i = 0; i < anahtarlar.length; i++) {
+            if (anahtarlar[i] != 0) {
+                islem.accept((V) degerler[i]);
+            }
+        }
+    }
+
+    /**
+     * İndeksteki tüm kayıtları siler.
+     */
+    public void clear() {
+        Arrays.fill(anahtarlar, 0);
+        Arrays.fill(degerler, null);
+        adet = 0;
+        sifirVar = false;
+        sifirDeger = null;
+    }
+
+    /**
+     * Silinen hücreden sonra gelen kayıtları, yoklama zinciri kopmayacak şekilde geri kaydırır.
+     */
+    private void geriKaydir(int bos) {
+        int i = (bos + 1) & maske;
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == 0) {
+                break;
+            }
+            int ideal = konum(k);
+            // Kayıt, ideal konumu ile bulunduğu konum arasında boş hücre kalmıyorsa taşınır.
+            if (((i - ideal) & maske) >= ((i - bos) & maske)) {
+                anahtarlar[bos] = k;
+                degerler[bos] = degerler[i];
+                bos = i;
+            }
+            i = (i + 1) & maske;
+        }
+        anahtarlar[bos] = 0;
+        degerler[bos] = null;
+    }
+
+    /**
+     * Tabloyu yeni kapasiteyle oluşturur ve mevcut kayıtları yeniden yerleştirir.
+     */
+    private void yenidenBoyutlandir(int yeniKapasite) {
+        int[] eskiAnahtarlar = anahtarlar;
+        Object[] eskiDegerler = degerler;
+        tabloOlustur(yeniKapasite);
+
+        for (int j = 0; j < eskiAnahtarlar.length; j++) {
+            int k = eskiAnahtarlar[j];
+            if (k != 0) {
+                int i = konum(k);
+                while (anahtarlar[i] != 0) {
+                    i = (i + 1) & maske;
+                }
+                anahtarlar[i] = k;
+                degerler[i] = eskiDegerler[j];
+            }
+        }
+    }
+
+    private void tabloOlustur(int kapasite) {
+        anahtarlar = new int[kapasite];
+        degerler = new Object[kapasite];
+        maske = kapasite - 1;
+        esik = (int) (kapasite * DOLULUK_ORANI);
+    }
+
+    /**
+     * Anahtarın tablodaki ideal konumunu hesaplar.
+     * <p>
+     * Ardışık öğrenci numaralarının kümelenmesini önlemek için anahtar, altın oran
+     * sabitiyle çarpılarak bitleri karıştırılır.
+     * </p>
+     */
+    private int konum(int anahtar) {
+        int h = anahtar * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & maske;
+    }
+}
@@ -0,0 +1,191 @@
+package Util;
+
+import java.util.Arrays;
+
+/**
+ * {@code int} anahtarları negatif olmayan {@code int} değerlere eşleyen, açık adreslemeli bir hash indeksidir.
+ * <p>
+ * {@link IntIndeks} ile aynı yerleşimi (doğrusal yoklama, geri kaydırmalı silme) kullanır;
+ * farkı, değerlerin de kutulanmadan {@code int[]} dizisinde tutulmasıdır. Bulunamayan
+ * anahtarlar için {@link #YOK} döndürülür.
+ * </p>
+ */
+public class IntIntIndeks {
+
+    /** Anahtar bulunamadığında döndürülen değer. */
+    public static final int YOK = -1;
+
+    /** Tablonun dolmasına izin verilen en yüksek oran. */
+    private static final float DOLULUK_ORANI = 0.5f;
+
+    /** Anahtar dizisi; {@code 0} değeri boş hücreyi temsil eder. */
+    private int[] anahtarlar;
+    /** Anahtarlarla aynı konumda tutulan değer dizisi. */
+    private int[] degerler;
+    /** Tablo boyutu - 1 (boyut her zaman 2'nin kuvvetidir). */
+    private int maske;
+    /** Tablodaki (0 anahtarı hariç) kayıt sayısı. */
+    private int adet;
+    /** Yeniden boyutlandırmanın tetikleneceği kayıt sayısı. */
+    private int esik;
+
+    /** {@code 0} anahtarına karşılık gelen değer, yoksa {@link #YOK}. */
+    private int sifirDeger = YOK;
+
+    /**
+     * Varsayılan kapasiteyle boş bir indeks oluşturur.
+     */
+    public IntIntIndeks() {
+        tabloOlustur(16);
+    }
+
+    /**
+     * Anahtara karşılık gelen değeri döndürür.
+     *
+     * @param anahtar Aranacak anahtar.
+     * @return Değer, bulunamazsa {@link #YOK}.
+     */
+    public int get(int anahtar) {
+        if (anahtar == 0) {
+            return sifirDeger;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == anahtar) {
+                return degerler[i];
+            }
+            if (k == 0) {
+                return YOK;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * Anahtar-değer çiftini indekse ekler; anahtar zaten varsa değerini değiştirir.
+     *
+     * @param anahtar Eklenecek anahtar.
+     * @param deger   Anahtara atanacak negatif olmayan değer.
+     */
+    public void put(int anahtar, int deger) {
+        if (anahtar == 0) {
+            sifirDeger = deger;
+            return;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == anahtar) {
+                degerler[i] = deger;
+                return;
+            }
+            if (k == 0) {
+                anahtarlar[i] = anahtar;
+                degerler[i] = deger;
+                if (++adet >= esik) {
+                    yenidenBoyutlandir(anahtarlar.length << 1);
+                }
+                return;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * Anahtarı indeksten kaldırır.
+     *
+     * @param anahtar Kaldırılacak anahtar.
+     * @return Kaldırılan değer, anahtar yoksa {@link #YOK}.
+     */
+    public int remove(int anahtar) {
+        if (anahtar == 0) {
+            int eski = sifirDeger;
+            sifirDeger = YOK;
+            return eski;
+        }
+        int i = konum(anahtar);
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == 0) {
+                return YOK;
+            }
+            if (k == anahtar) {
+                int eski = degerler[i];
+                geriKaydir(i);
+                adet--;
+                return eski;
+            }
+            i = (i + 1) & maske;
+        }
+    }
+
+    /**
+     * İndeksteki kayıt sayısını döndürür.
+     *
+     * @return Kayıt sayısı.
+     */
+    public int size() {
+        return sifirDeger != YOK ? adet + 1 : adet;
+    }
+
+    /**
+     * İndeksteki tüm kayıtları siler.
+     */
+    public void clear() {
+        Arrays.fill(anahtarlar, 0);
+        adet = 0;
+        sifirDeger = YOK;
+    }
+
+    /**
+     * Silinen hücreden sonra gelen kayıtları, yoklama zinciri kopmayacak şekilde geri kaydırır.
+     */
+    private void geriKaydir(int bos) {
+        int i = (bos + 1) & maske;
+        while (true) {
+            int k = anahtarlar[i];
+            if (k == 0) {
+                break;
+            }
+            int ideal = konum(k);
+            if (((i - ideal) & maske) >= ((i - bos) & maske)) {
+                anahtarlar[bos] = k;
+                degerler[bos] = degerler[i];
+                bos = i;
+            }
+            i = (i + 1) & maske;
+        }
+        anahtarlar[bos] = 0;
+    }
+
+    private void yenidenBoyutlandir(int yeniKapasite) {
+        int[] eskiAnahtarlar = anahtarlar;
+        int[] eskiDegerler = degerler;
+        tabloOlustur(yeniKapasite);
+
+        for (int j = 0; j < eskiAnahtarlar.length; j++) {
+            int k = eskiAnahtarlar[j];
+            if (k != 0) {
+                int i = konum(k);
+                while (anahtarlar[i] != 0) {
+                    i = (i + 1) & maske;
+                }
+                anahtarlar[i] = k;
+                degerler[i] = eskiDegerler[j];
+            }
+        }
+    }
+
+    private void tabloOlustur(int kapasite) {
+        anahtarlar = new int[kapasite];
+        degerler = new int[kapasite];
+        maske = kapasite - 1;
+        esik = (int) (kapasite * DOLULUK_ORANI);
+    }
+
+    private int konum(int anahtar) {
+        int h = anahtar * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & maske;
+    }
+}
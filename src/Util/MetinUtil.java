@@ -0,0 +1,67 @@
+package Util;
+
+/**
+ * Metin tabanlı anahtarların karşılaştırılmasını standartlaştırmak için kullanılan yardımcı sınıftır.
+ * <p>
+ * Ders kodu ve bölüm adı gibi büyük/küçük harf duyarsız aranan alanlar, kayıt sırasında
+ * bir kez bu sınıf ile normalize edilir. Böylece her karşılaştırmada tekrar tekrar
+ * harf dönüşümü yapılmasına gerek kalmaz.
+ * </p>
+ */
+public class MetinUtil {
+
+    /**
+     * Verilen metni büyük/küçük harf duyarsız karşılaştırmaya uygun anahtar biçimine dönüştürür.
+     * <p>
+     * Her karakter önce büyük, sonra küçük harfe çevrilir. Bu yöntem
+     * {@link String#equalsIgnoreCase(String)} ile aynı eşitlik kuralını verir; yani iki metin
+     * ancak ve ancak anahtarları eşitse büyük/küçük harf duyarsız olarak eşittir.
+     * </p>
+     *
+     * @param metin Normalize edilecek metin.
+     * @return Normalize edilmiş anahtar, metin null ise null.
+     */
+    public static String anahtar(String metin) {
+        if (metin == null) {
+            return null;
+        }
+
+        char[] karakterler = metin.toCharArray();
+        for (int i = 0; i < karakterler.length; i++) {
+            karakterler[i] = Character.toLowerCase(Character.toUpperCase(karakterler[i]));
+        }
+        return new String(karakterler);
+    }
+
+    /**
+     * Verilen metni isim aramalarına uygun, Türkçe karakterlerden arındırılmış küçük harfli biçime dönüştürür.
+     * <p>
+     * Türkçe harfler ASCII karşılıklarına indirgenir (ı/I/İ → i, ş → s, ğ → g, ü → u, ö → o, ç → c) ve
+     * şapkalı harflerin şapkası kaldırılır; diğer karakterler küçük harfe çevrilir. Böylece "IŞIK", "ışık"
+     * ve "isik" aynı anahtarı verir; Türkçe klavyesi olmayan kullanıcılar da isimleri bulabilir.
+     * </p>
+     *
+     * @param metin Dönüştürülecek metin.
+     * @return Arama anahtarı, metin null ise null.
+     */
+    public static String aramaAnahtari(String metin) {
+        if (metin == null) {
+            return null;
+        }
+
+        char[] karakterler = metin.toCharArray();
+        for (int i = 0; i < karakterler.length; i++) {
+            karakterler[i] = switch (karakterler[i]) {
+                case 'I', 'İ', 'ı', 'Î', 'î' -> 'i';
+                case 'Ş', 'ş' -> 's';
+                case 'Ğ', 'ğ' -> 'g';
+                case 'Ü', 'ü', 'Û', 'û' -> 'u';
+                case 'Ö', 'ö' -> 'o';
+                case 'Ç', 'ç' -> 'c';
+                case 'Â', 'â' -> 'a';
+                default -> Character.toLowerCase(karakterler[i]);
+            };
+        }
+        return new String(karakterler);
+    }
+}
@@ -0,0 +1,230 @@
+package Util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Sıralı bir kayıt listesinin tek bir sayfasını ve komşu sayfalara geçiş imleçlerini tutan değiştirilemez sınıftır.
+ * <p>
+ * Sayfalar konumla değil, imleçle (cursor) istenir. İmleç, sayfanın ilk ya da son kaydının sıralama anahtarını,
+ * sayfanın konumunu ve yönü taşır; sonraki sayfa "bu anahtardan sonraki kayıtlar", önceki sayfa "bu anahtardan önceki kayıtlar"
+ * olarak bulunur. Böylece sayfalar arasında gezinirken araya eklenen veya silinen kayıtlar, kaydırma (offset)
+ * tabanlı sayfalamadaki gibi kayıtların atlanmasına ya da iki kez gösterilmesine yol açmaz. İmleçler
+ * çağıranlar için opaktır; yalnızca {@link #getSonrakiImlec()} ve {@link #getOncekiImlec()} ile alınıp
+ * aynı listeleme metoduna geri verilmelidir.
+ * </p>
+ *
+ * @param <T> Sayfadaki kayıtların türü
+ */
+public class Sayfa<T> {
+
+    /** Boyut belirtilmediğinde kullanılan sayfa boyutu. */
+    public static final int VARSAYILAN_BOYUT = 20;
+    /** Tek bir sayfada döndürülebilecek en fazla kayıt sayısı. */
+    public static final int EN_BUYUK_BOYUT = 500;
+
+    private static final char SONRA = '>';
+    private static final char ONCE = '<';
+    /** İmleçte sayfa konumunu anahtardan ayıran karakter. */
+    private static final char AYRAC = ':';
+
+    private final List<T> ogeler;
+    private final int baslangic;
+    private final int toplam;
+    private final String oncekiImlec;
+    private final String sonrakiImlec;
+
+    private Sayfa(List<T> ogeler, int baslangic, int toplam, String oncekiImlec, String sonrakiImlec) {
+        this.ogeler = ogeler;
+        this.baslangic = baslangic;
+        this.toplam = toplam;
+        this.oncekiImlec = oncekiImlec;
+        this.sonrakiImlec = sonrakiImlec;
+    }
+
+    /**
+     * Anahtara göre sıralı tutulan bir indeksten imlecin gösterdiği sayfayı keser.
+     * <p>
+     * İmlecin yeri indeksin kendisinde aranır ({@link NavigableMap#tailMap}/{@link NavigableMap#headMap})
+     * ve yalnızca sayfadaki kayıtlar dolaşılıp kopyalanır; maliyet indeks boyutundan değil, sayfa boyutundan
+     * etkilenir. Sayfanın konumu da indeks sayılmadan, imleçte taşınan önceki sayfanın konumundan bulunur;
+     * bu yüzden sayfalar arasında araya giren eklemeler ve silmeler {@link #getBaslangic()} değerini
+     * kaydırabilir, ilk ve son sayfada ise konum her zaman kesindir. Sayfa boyutu 1 ile
+     * {@link #EN_BUYUK_BOYUT} arasına çekilir. İndeks, çağıran tarafından değişikliklere karşı kilitlenmelidir.
+     * </p>
+     *
+     * @param sirali     Anahtarlarına göre sıralı kayıtlar.
+     * @param anahtarCoz İmleçteki anahtar metnini indeks anahtarına çevirir; metin geçersizse null döndürür
+     *                   veya {@link NumberFormatException} fırlatır.
+     *                   Anahtarlar imlece {@link String#valueOf(Object)} ile yazılır.
+     * @param imlec      Önceki bir sayfadan alınan imleç; null veya boş ise ilk sayfa.
+     * @param boyut      Sayfadaki en fazla kayıt sayısı.
+     * @return İstenen sayfa, imleç geçersizse null.
+     */
+    public static <K, T> Sayfa<T> kes(NavigableMap<K, T> sirali, Function<String, K> anahtarCoz, String imlec, int boyut) {
+        boyut = Math.min(EN_BUYUK_BOYUT, Math.max(1, boyut));
+        int toplam = sirali.size();
+
+        char yon = SONRA;
+        int konum = 0;
+        NavigableMap<K, T> gorunum = sirali;
+        if (imlec != null && !imlec.isEmpty()) {
+            yon = imlec.charAt(0);
+            int ayrac = imlec.indexOf(AYRAC);
+            if ((yon != SONRA && yon != ONCE) || ayrac < 2) {
+                return null;
+            }
+            K anahtar;
+            try {
+                konum = Integer.parseInt(imlec, 1, ayrac, 10);
+                anahtar = anahtarCoz.apply(imlec.substring(ayrac + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (anahtar == null) {
+                return null;
+            }
+            gorunum = yon == SONRA ? sirali.tailMap(anahtar, false) : sirali.headMap(anahtar, false);
+        }
+
+        // İmleçten sonra (önce) kayıt kalmadıysa (örn. araya silme girdiyse) boş sayfa yerine son (ilk) sayfa verilir.
+        if (gorunum.isEmpty()) {
+            gorunum = sirali;
+            yon = yon == SONRA ? ONCE : SONRA;
+            konum = yon == ONCE ? toplam : 0;
+        }
+
+        List<Map.Entry<K, T>> girdiler = new ArrayList<>(Math.min(boyut, toplam));
+        for (Map.Entry<K, T> girdi : yon == SONRA ? gorunum.entrySet() : gorunum.descendingMap().entrySet()) {
+            if (girdiler.size() == boyut) {
+                break;
+            }
+            girdiler.add(girdi);
+        }
+        if (yon == ONCE) {
+            Collections.reverse(girdiler);
+        }
+
+        List<T> ogeler = new ArrayList<>(girdiler.size());
+        for (Map.Entry<K, T> girdi : girdiler) {
+            ogeler.add(girdi.getValue());
+        }
+        if (girdiler.isEmpty()) {
+            return new Sayfa<>(List.of(), 0, toplam, null, null);
+        }
+
+        K ilk = girdiler.get(0).getKey();
+        K son = girdiler.get(girdiler.size() - 1).getKey();
+        boolean oncekiVar = sirali.lowerKey(ilk) != null;
+        boolean sonrakiVar = sirali.higherKey(son) != null;
+
+        int bas = yon == SONRA ? konum : konum - ogeler.size();
+        if (!oncekiVar) {
+            bas = 0;
+        } else if (!sonrakiVar) {
+            bas = toplam - ogeler.size();
+        } else {
+            bas = Math.min(toplam - ogeler.size() - 1, Math.max(1, bas));
+        }
+
+        String onceki = oncekiVar ? imlec(ONCE, bas, ilk) : null;
+        String sonraki = sonrakiVar ? imlec(SONRA, bas + ogeler.size(), son) : null;
+        return new Sayfa<>(Collections.unmodifiableList(ogeler), bas, toplam, onceki, sonraki);
+    }
+
+    /**
+     * Konumla erişilen ve sayfalar arasında gezinirken değişmeyen kayıtlardan (örn. bir kez hesaplanmış bir
+     * sıralama) imlecin gösterdiği sayfayı keser.
+     * <p>
+     * Kayıtlar değişmediğinden imleç yalnızca konumu taşır; yalnızca sayfadaki kayıtlar okunur.
+     * Sayfa boyutu 1 ile {@link #EN_BUYUK_BOYUT} arasına çekilir.
+     * </p>
+     *
+     * @param oge    Verilen konumdaki kaydı döndüren işlem.
+     * @param toplam Kayıt sayısı.
+     * @param imlec  Önceki bir sayfadan alınan imleç; null veya boş ise ilk sayfa.
+     * @param boyut  Sayfadaki en fazla kayıt sayısı.
+     * @return İstenen sayfa, imleç geçersizse null.
+     */
+    public static <T> Sayfa<T> kes(IntFunction<? extends T> oge, int toplam, String imlec, int boyut) {
+        boyut = Math.min(EN_BUYUK_BOYUT, Math.max(1, boyut));
+
+        int bas = 0;
+        int son = Math.min(toplam, boyut);
+        if (imlec != null && !imlec.isEmpty()) {
+            char yon = imlec.charAt(0);
+            int ayrac = imlec.indexOf(AYRAC);
+            if ((yon != SONRA && yon != ONCE) || ayrac < 2) {
+                return null;
+            }
+            int konum;
+            try {
+                konum = Math.min(toplam, Math.max(0, Integer.parseInt(imlec, 1, ayrac, 10)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            bas = yon == SONRA ? konum : Math.max(0, konum - boyut);
+            son = yon == SONRA ? Math.min(toplam, konum + boyut) : konum;
+            if (bas == son && toplam > 0) {
+                bas = yon == SONRA ? Math.max(0, toplam - boyut) : 0;
+                son = Math.min(toplam, bas + boyut);
+            }
+        }
+
+        List<T> ogeler = new ArrayList<>(son - bas);
+        for (int i = bas; i < son; i++) {
+            ogeler.add(oge.apply(i));
+        }
+        String onceki = bas > 0 ? imlec(ONCE, bas, "") : null;
+        String sonraki = son < toplam ? imlec(SONRA, son, "") : null;
+        return new Sayfa<>(Collections.unmodifiableList(ogeler), bas, toplam, onceki, sonraki);
+    }
+
+    /**
+     * Yön, konum ve anahtardan imleç metnini oluşturur (örn. {@code ">40:192113001"}).
+     */
+    private static String imlec(char yon, int konum, Object anahtar) {
+        return yon + Integer.toString(konum) + AYRAC + anahtar;
+    }
+
+    /**
+     * @return Sayfadaki kayıtlar (değiştirilemez).
+     */
+    public List<T> getOgeler() {
+        return ogeler;
+    }
+
+    /**
+     * @return Sayfanın ilk kaydının tüm liste içindeki 0 tabanlı konumu; önceki sayfalar alındıktan sonra
+     *         araya eklenen veya silinen kayıtlar varsa yaklaşıktır.
+     */
+    public int getBaslangic() {
+        return baslangic;
+    }
+
+    /**
+     * @return Sayfa oluşturulduğu andaki toplam kayıt sayısı.
+     */
+    public int getToplam() {
+        return toplam;
+    }
+
+    /**
+     * @return Önceki sayfanın imleci, ilk sayfadaysa null.
+     */
+    public String getOncekiImlec() {
+        return oncekiImlec;
+    }
+
+    /**
+     * @return Sonraki sayfanın imleci, son sayfadaysa null.
+     */
+    public String getSonrakiImlec() {
+        return sonrakiImlec;
+    }
+}
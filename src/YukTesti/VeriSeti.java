@@ -0,0 +1,51 @@
+package YukTesti;
+
+import Model.Bolum;
+import Model.Ders;
+
+/**
+ * {@link VeriUretici} tarafından yüklenen veri setinin özetidir; yük sürücüsü rastgele
+ * kayıt seçerken bu bilgileri kullanır.
+ */
+public class VeriSeti {
+
+    private final Bolum[] bolumler;
+    private final Ders[] dersler;
+    private final int[] ogrenciNolari;
+    private final long notSayisi;
+    private final long tohum;
+
+    VeriSeti(Bolum[] bolumler, Ders[] dersler, int[] ogrenciNolari, long notSayisi, long tohum) {
+        this.bolumler = bolumler;
+        this.dersler = dersler;
+        this.ogrenciNolari = ogrenciNolari;
+        this.notSayisi = notSayisi;
+        this.tohum = tohum;
+    }
+
+    public Bolum[] getBolumler() {
+        return bolumler;
+    }
+
+    public Ders[] getDersler() {
+        return dersler;
+    }
+
+    public int[] getOgrenciNolari() {
+        return ogrenciNolari;
+    }
+
+    /**
+     * @return Başarıyla eklenen not kaydı sayısı.
+     */
+    public long getNotSayisi() {
+        return notSayisi;
+    }
+
+    /**
+     * @return Veri setinin üretildiği tohum.
+     */
+    public long getTohum() {
+        return tohum;
+    }
+}
@@ -0,0 +1,239 @@
+package YukTesti;
+
+import Model.Bolum;
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Kapasite planlaması ve yük testleri için tohum (seed) tabanlı, tekrarlanabilir sentetik veri üreticisidir.
+ * <p>
+ * Bölümler, dersler, 9 haneli numaralı öğrenciler ve not kayıtları üretilip doğrudan servis API'leri
+ * üzerinden yüklenir; böylece indeksler, dinleyiciler ve doğrulamalar gerçek kullanımdaki gibi çalışır.
+ * Aynı tohum ve ayarlarla her çalıştırmada birebir aynı veri seti oluşur.
+ * </p>
+ * <p>
+ * Öğrenci numaraları 100000000-999999999 aralığına birebir bir eşlemeyle dağıtılır; ardışık değildir
+ * ancak tekrar etmez. Harf notları verilen ağırlıklara göre seçilir.
+ * </p>
+ */
+public class VeriUretici {
+
+    /** Öğrenci numarası aralığının başlangıcı. */
+    private static final long ILK_NUMARA = 100_000_000L;
+    /** Öğrenci numarası aralığının genişliği. */
+    private static final long NUMARA_ARALIGI = 900_000_000L;
+    /** Aralıkla aralarında asal çarpan; sıra numarasını aralık içinde karıştırır. */
+    private static final long NUMARA_CARPANI = 387_420_491L;
+
+    /** AA..FF için varsayılan ağırlıklar (indeks = harf notu kodu). */
+    private static final double[] VARSAYILAN_DAGILIM = {10, 10, 15, 15, 15, 10, 10, 7, 8};
+
+    private static final String[] HECELER = {
+            "ka", "le", "mi", "no", "ra", "se", "ti", "yu", "be", "da", "fe", "gi", "ha", "ce", "zu", "pa",
+            "ay", "el", "em", "er", "han", "can", "nur", "gül", "şe", "çi", "öz", "ül", "tan", "kan", "su", "de"
+    };
+
+    private final long tohum;
+    private int bolumSayisi = 20;
+    private int dersSayisi = 400;
+    private int ogrenciSayisi = 10_000;
+    private int ogrenciBasinaNot = 8;
+    private double[] harfNotuDagilimi = VARSAYILAN_DAGILIM.clone();
+
+    /**
+     * Verilen tohumla varsayılan ayarlara sahip bir üretici oluşturur
+     * (20 bölüm, 400 ders, 10.000 öğrenci, öğrenci başına 8 not).
+     *
+     * @param tohum Rastgele sayı üretecinin tohumu.
+     */
+    public VeriUretici(long tohum) {
+        this.tohum = tohum;
+    }
+
+    /**
+     * Üretilen veri setini servislere yükler.
+     * <p>
+     * Servislerin boş olması beklenir; aynı numara veya adla mevcut kayıtlar varsa o kayıtlar atlanır.
+     * </p>
+     *
+     * @return Yüklenen veri setinin özeti.
+     */
+    public VeriSeti yukle(BolumService bolumService, DersService dersService,
+                          OgrenciService ogrenciService, GpaService gpaService) {
+        SplittableRandom rastgele = new SplittableRandom(tohum);
+
+        Bolum[] bolumler = new Bolum[bolumSayisi];
+        for (int i = 0; i < bolumSayisi; i++) {
+            bolumler[i] = new Bolum(ad(rastgele, i, 2) + " Bölümü", "https://" + (i + 1) + ".bolum.edu.tr",
+                    LocalDate.of(1950 + rastgele.nextInt(70), 1 + rastgele.nextInt(12), 1 + rastgele.nextInt(28)));
+            bolumService.bolumEkle(bolumler[i]);
+        }
+
+        Ders[] dersler = new Ders[dersSayisi];
+        for (int i = 0; i < dersSayisi; i++) {
+            dersler[i] = new Ders(ad(rastgele, i, 3), "D" + (1000 + i), 2 + rastgele.nextInt(7));
+            dersService.dersEkle(dersler[i]);
+        }
+
+        double[] birikimli = birikimliDagilim();
+        int[] numaralar = new int[ogrenciSayisi];
+        long notSayisi = 0;
+        int notAdedi = Math.min(ogrenciBasinaNot, dersSayisi);
+        for (int i = 0; i < ogrenciSayisi; i++) {
+            numaralar[i] = ogrenciNo(i);
+            Ogrenci ogrenci = new Ogrenci(ad(rastgele, i, 2), ad(rastgele, i + 7, 3), numaralar[i],
+                    LocalDate.of(1995 + rastgele.nextInt(12), 1 + rastgele.nextInt(12), 1 + rastgele.nextInt(28)),
+                    bolumler[rastgele.nextInt(bolumSayisi)]);
+            if (!ogrenciService.ogrenciEkle(ogrenci)) {
+                continue;
+            }
+
+            // Dersler, dersSayisi ile aralarında asal bir adımla seçilir; böylece aynı ders tekrar seçilmez.
+            int bas = rastgele.nextInt(dersSayisi);
+            int adim = asalAdim(rastgele);
+            for (int j = 0; j < notAdedi; j++) {
+                Ders ders = dersler[(int) ((bas + (long) j * adim) % dersSayisi)];
+                if (gpaService.notEkle(ogrenci, ders, HarfNotu.metin(harfNotu(rastgele, birikimli)))) {
+                    notSayisi++;
+                }
+            }
+        }
+
+        return new VeriSeti(bolumler, dersler, numaralar, notSayisi, tohum);
+    }
+
+    /**
+     * Sıra numarasını 9 haneli, benzersiz bir öğrenci numarasına dönüştürür.
+     *
+     * @param sira 0 tabanlı öğrenci sırası.
+     * @return Öğrenci numarası.
+     */
+    public static int ogrenciNo(int sira) {
+        return (int) (ILK_NUMARA + Math.floorMod(sira * NUMARA_CARPANI, NUMARA_ARALIGI));
+    }
+
+    /**
+     * Harf notu kodunu ağırlıklara göre rastgele seçer.
+     *
+     * @param rastgele  Rastgele sayı üreteci.
+     * @param birikimli {@link #birikimliDagilim()} ile elde edilen birikimli olasılıklar.
+     * @return Harf notu kodu.
+     */
+    static byte harfNotu(SplittableRandom rastgele, double[] birikimli) {
+        double r = rastgele.nextDouble();
+        for (byte kod = 0; kod < birikimli.length - 1; kod++) {
+            if (r < birikimli[kod]) {
+                return kod;
+            }
+        }
+        return (byte) (birikimli.length - 1);
+    }
+
+    /**
+     * Harf notu ağırlıklarını 0-1 aralığında birikimli olasılıklara dönüştürür.
+     *
+     * @return Birikimli olasılıklar (indeks = harf notu kodu).
+     */
+    double[] birikimliDagilim() {
+        double toplam = 0;
+        for (double agirlik : harfNotuDagilimi) {
+            toplam += agirlik;
+        }
+        double[] birikimli = new double[HarfNotu.ADET];
+        double kismi = 0;
+        for (int i = 0; i < birikimli.length; i++) {
+            kismi += harfNotuDagilimi[i];
+            birikimli[i] = kismi / toplam;
+        }
+        return birikimli;
+    }
+
+    /**
+     * Ders sayısıyla aralarında asal bir adım seçer.
+     */
+    private int asalAdim(SplittableRandom rastgele) {
+        if (dersSayisi == 1) {
+            return 1;
+        }
+        int adim;
+        do {
+            adim = 1 + rastgele.nextInt(dersSayisi - 1);
+        } while (ebob(adim, dersSayisi) != 1);
+        return adim;
+    }
+
+    private static int ebob(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Hecelerden, menülerin ad doğrulamasına (yalnızca harf) uyan bir ad üretir. Sıra numarası adın
+     * sonuna harflerle kodlanır; böylece bölüm adları her zaman benzersiz olur.
+     */
+    private static String ad(SplittableRandom rastgele, int sira, int heceSayisi) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < heceSayisi; i++) {
+            sb.append(HECELER[rastgele.nextInt(HECELER.length)]);
+        }
+        sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        int kalan = sira;
+        do {
+            sb.append((char) ('a' + kalan % 26));
+            kalan /= 26;
+        } while (kalan > 0);
+        return sb.toString();
+    }
+
+    public void setBolumSayisi(int bolumSayisi) {
+        this.bolumSayisi = Math.max(1, bolumSayisi);
+    }
+
+    public void setDersSayisi(int dersSayisi) {
+        this.dersSayisi = Math.max(1, dersSayisi);
+    }
+
+    public void setOgrenciSayisi(int ogrenciSayisi) {
+        this.ogrenciSayisi = Math.max(0, ogrenciSayisi);
+    }
+
+    public void setOgrenciBasinaNot(int ogrenciBasinaNot) {
+        this.ogrenciBasinaNot = Math.max(0, ogrenciBasinaNot);
+    }
+
+    /**
+     * AA..FF harf notlarının göreli ağırlıklarını atar.
+     *
+     * @param agirliklar 9 adet negatif olmayan ağırlık (indeks = harf notu kodu); toplamları 0 olamaz.
+     * @return Ağırlıklar geçerliyse true.
+     */
+    public boolean setHarfNotuDagilimi(double[] agirliklar) {
+        if (agirliklar == null || agirliklar.length != HarfNotu.ADET) {
+            return false;
+        }
+        double toplam = 0;
+        for (double agirlik : agirliklar) {
+            if (agirlik < 0 || Double.isNaN(agirlik)) {
+                return false;
+            }
+            toplam += agirlik;
+        }
+        if (toplam <= 0) {
+            return false;
+        }
+        this.harfNotuDagilimi = agirliklar.clone();
+        return true;
+    }
+}
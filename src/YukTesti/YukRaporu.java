@@ -0,0 +1,77 @@
+package YukTesti;
+
+import Util.GecikmeHistogrami;
+
+import java.io.PrintStream;
+
+/**
+ * Bir yük testi çalıştırmasının işlem türlerine göre verim ve gecikme sonuçlarıdır.
+ */
+public class YukRaporu {
+
+    /** Raporda gösterilen yüzdelik dilimler. */
+    private static final double[] YUZDELIKLER = {50, 90, 99, 99.9};
+
+    private final GecikmeHistogrami[] histogramlar;
+    private final GecikmeHistogrami toplam = new GecikmeHistogrami();
+    private final long sureMs;
+    private final int isParcacigiSayisi;
+    private final double yazmaOrani;
+
+    YukRaporu(GecikmeHistogrami[] histogramlar, long sureMs, int isParcacigiSayisi, double yazmaOrani) {
+        this.histogramlar = histogramlar;
+        this.sureMs = sureMs;
+        this.isParcacigiSayisi = isParcacigiSayisi;
+        this.yazmaOrani = yazmaOrani;
+        for (GecikmeHistogrami histogram : histogramlar) {
+            toplam.birlestir(histogram);
+        }
+    }
+
+    /**
+     * @param islem İşlem türü.
+     * @return İşlem türünün gecikme histogramı (nanosaniye).
+     */
+    public GecikmeHistogrami histogram(YukSurucusu.Islem islem) {
+        return histogramlar[islem.ordinal()];
+    }
+
+    /**
+     * @return Tüm işlemlerin birleşik gecikme histogramı (nanosaniye).
+     */
+    public GecikmeHistogrami toplamHistogram() {
+        return toplam;
+    }
+
+    /**
+     * @return Ölçüm süresi boyunca saniyede tamamlanan toplam işlem sayısı.
+     */
+    public double saniyedeIslem() {
+        return toplam.getSayi() * 1000.0 / sureMs;
+    }
+
+    /**
+     * Raporu tablo halinde yazdırır; gecikmeler mikrosaniye cinsindendir.
+     *
+     * @param cikti Raporun yazılacağı akış.
+     */
+    public void yazdir(PrintStream cikti) {
+        cikti.printf("Süre: %.1f sn | İş parçacığı: %d | Yazma oranı: %%%.0f%n",
+                sureMs / 1000.0, isParcacigiSayisi, yazmaOrani * 100);
+        cikti.printf("%-14s %12s %12s %10s %10s %10s %10s %10s %10s%n",
+                "İşlem", "Adet", "İşlem/sn", "Ort(µs)", "p50", "p90", "p99", "p99.9", "Max");
+        for (YukSurucusu.Islem islem : YukSurucusu.Islem.values()) {
+            satirYaz(cikti, islem.name(), histogramlar[islem.ordinal()]);
+        }
+        satirYaz(cikti, "TOPLAM", toplam);
+    }
+
+    private void satirYaz(PrintStream cikti, String ad, GecikmeHistogrami histogram) {
+        cikti.printf("%-14s %12d %12.0f %10.2f", ad, histogram.getSayi(),
+                histogram.getSayi() * 1000.0 / sureMs, histogram.getOrtalama() / 1000.0);
+        for (double yuzdelik : YUZDELIKLER) {
+            cikti.printf(" %10.2f", histogram.yuzdelik(yuzdelik) / 1000.0);
+        }
+        cikti.printf(" %10.2f%n", histogram.getEnBuyuk() / 1000.0);
+    }
+}
@@ -0,0 +1,208 @@
+package YukTesti;
+
+import Model.Ders;
+import Model.HarfNotu;
+import Model.Ogrenci;
+import Service.DersService;
+import Service.GpaService;
+import Service.OgrenciService;
+import Util.GecikmeHistogrami;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Yüklenmiş bir veri seti üzerinde karma okuma/yazma iş yükü çalıştıran yük testi sürücüsüdür.
+ * <p>
+ * Her iş parçacığı kendi rastgele sayı üretecini (ana tohumdan türetilmiş) kullanarak işlemleri
+ * {@link #setYazmaOrani(double) yazma oranına} göre seçer ve her işlemin süresini işlem türüne ait
+ * {@link GecikmeHistogrami}'na kaydeder. Isınma süresi boyunca yapılan işlemler ölçüme dahil edilmez.
+ * İş parçacıkları kendi histogramlarına yazar; sonuçlar test sonunda birleştirilir, böylece ölçüm
+ * ortak sayaçlar üzerinde yarışma yaratmaz.
+ * </p>
+ */
+public class YukSurucusu {
+
+    /**
+     * Yük testinde uygulanan işlem türleri.
+     */
+    public enum Islem {
+        OGRENCI_ARA(false),
+        DERS_ARA(false),
+        GPA_HESAPLA(false),
+        NOT_BUL(false),
+        NOT_EKLE(true),
+        NOT_GUNCELLE(true);
+
+        private final boolean yazma;
+
+        Islem(boolean yazma) {
+            this.yazma = yazma;
+        }
+
+        /**
+         * @return İşlem veriyi değiştiriyorsa true.
+         */
+        public boolean isYazma() {
+            return yazma;
+        }
+    }
+
+    private static final Islem[] OKUMALAR = {Islem.OGRENCI_ARA, Islem.DERS_ARA, Islem.GPA_HESAPLA, Islem.NOT_BUL};
+    private static final Islem[] YAZMALAR = {Islem.NOT_EKLE, Islem.NOT_GUNCELLE};
+
+    private final OgrenciService ogrenciService;
+    private final DersService dersService;
+    private final GpaService gpaService;
+    private final VeriSeti veriSeti;
+    private final long tohum;
+
+    private int isParcacigiSayisi = Runtime.getRuntime().availableProcessors();
+    private long sureMs = 10_000;
+    private long isinmaSuresiMs = 2_000;
+    private double yazmaOrani = 0.1;
+
+    /**
+     * Yeni bir yük sürücüsü oluşturur.
+     *
+     * @param veriSeti Servislere daha önce yüklenmiş veri seti.
+     * @param tohum    İş parçacıklarının rastgele sayı üreteçlerinin türetileceği tohum.
+     */
+    public YukSurucusu(OgrenciService ogrenciService, DersService dersService, GpaService gpaService,
+                       VeriSeti veriSeti, long tohum) {
+        this.ogrenciService = ogrenciService;
+        this.dersService = dersService;
+        this.gpaService = gpaService;
+        this.veriSeti = veriSeti;
+        this.tohum = tohum;
+    }
+
+    /**
+     * İş yükünü ısınma ve ölçüm süreleri boyunca çalıştırır.
+     *
+     * @return İşlem türlerine göre sonuçları içeren rapor.
+     * @throws InterruptedException Bekleme sırasında kesilirse.
+     */
+    public YukRaporu calistir() throws InterruptedException {
+        SplittableRandom ana = new SplittableRandom(tohum);
+        List<Isci> isciler = new ArrayList<>();
+        for (int i = 0; i < isParcacigiSayisi; i++) {
+            isciler.add(new Isci(ana.split()));
+        }
+
+        long baslangic = System.nanoTime();
+        long olcumBaslangici = baslangic + isinmaSuresiMs * 1_000_000L;
+        long bitis = olcumBaslangici + sureMs * 1_000_000L;
+
+        try (ExecutorService havuz = Executors.newFixedThreadPool(isParcacigiSayisi)) {
+            List<Future<?>> gorevler = new ArrayList<>();
+            for (Isci isci : isciler) {
+                gorevler.add(havuz.submit(() -> isci.calis(olcumBaslangici, bitis)));
+            }
+            for (Future<?> gorev : gorevler) {
+                try {
+                    gorev.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Yük testi iş parçacığı hata ile sonlandı", e.getCause());
+                }
+            }
+        }
+
+        GecikmeHistogrami[] toplam = new GecikmeHistogrami[Islem.values().length];
+        for (int i = 0; i < toplam.length; i++) {
+            toplam[i] = new GecikmeHistogrami();
+            for (Isci isci : isciler) {
+                toplam[i].birlestir(isci.histogramlar[i]);
+            }
+        }
+        return new YukRaporu(toplam, sureMs, isParcacigiSayisi, yazmaOrani);
+    }
+
+    /**
+     * Tek bir iş parçacığının iş yükü döngüsü ve ölçümleri.
+     */
+    private class Isci {
+        final SplittableRandom rastgele;
+        final GecikmeHistogrami[] histogramlar = new GecikmeHistogrami[Islem.values().length];
+
+        Isci(SplittableRandom rastgele) {
+            this.rastgele = rastgele;
+            for (int i = 0; i < histogramlar.length; i++) {
+                histogramlar[i] = new GecikmeHistogrami();
+            }
+        }
+
+        void calis(long olcumBaslangici, long bitis) {
+            int[] numaralar = veriSeti.getOgrenciNolari();
+            Ders[] dersler = veriSeti.getDersler();
+            if (numaralar.length == 0 || dersler.length == 0) {
+                return;
+            }
+
+            while (true) {
+                Islem islem = rastgele.nextDouble() < yazmaOrani
+                        ? YAZMALAR[rastgele.nextInt(YAZMALAR.length)]
+                        : OKUMALAR[rastgele.nextInt(OKUMALAR.length)];
+                int no = numaralar[rastgele.nextInt(numaralar.length)];
+                Ders ders = dersler[rastgele.nextInt(dersler.length)];
+                String harfNotu = HarfNotu.metin((byte) rastgele.nextInt(HarfNotu.ADET));
+
+                // Öğrenci nesnesi ve güncellenecek ders ölçüm dışında belirlenir.
+                Ogrenci ogrenci = islem == Islem.OGRENCI_ARA ? null : ogrenciService.ogrenciAra(no);
+                if (islem == Islem.NOT_GUNCELLE && ogrenci != null) {
+                    List<Ders> alinan = gpaService.ogrencininDersleri(ogrenci);
+                    if (!alinan.isEmpty()) {
+                        ders = alinan.get(rastgele.nextInt(alinan.size()));
+                    }
+                }
+
+                long bas = System.nanoTime();
+                if (bas >= bitis) {
+                    return;
+                }
+                switch (islem) {
+                    case OGRENCI_ARA -> ogrenciService.ogrenciAra(no);
+                    case DERS_ARA -> dersService.dersAra(ders.getKod());
+                    case GPA_HESAPLA -> gpaService.gpaHesapla(ogrenci);
+                    case NOT_BUL -> gpaService.harfNotuBul(ogrenci, ders);
+                    case NOT_EKLE -> gpaService.notEkle(ogrenci, ders, harfNotu);
+                    case NOT_GUNCELLE -> gpaService.notGuncelle(ogrenci, ders, harfNotu);
+                }
+                long son = System.nanoTime();
+                if (bas >= olcumBaslangici) {
+                    histogramlar[islem.ordinal()].kaydet(son - bas);
+                }
+            }
+        }
+    }
+
+    public void setIsParcacigiSayisi(int isParcacigiSayisi) {
+        this.isParcacigiSayisi = Math.max(1, isParcacigiSayisi);
+    }
+
+    /**
+     * @param sureMs Ölçüm süresi (milisaniye).
+     */
+    public void setSureMs(long sureMs) {
+        this.sureMs = Math.max(1, sureMs);
+    }
+
+    /**
+     * @param isinmaSuresiMs Ölçüm öncesi, sonuçlara dahil edilmeyen ısınma süresi (milisaniye).
+     */
+    public void setIsinmaSuresiMs(long isinmaSuresiMs) {
+        this.isinmaSuresiMs = Math.max(0, isinmaSuresiMs);
+    }
+
+    /**
+     * @param yazmaOrani İşlemlerin yazma (not ekleme/güncelleme) olma olasılığı, 0 ile 1 arasında.
+     */
+    public void setYazmaOrani(double yazmaOrani) {
+        this.yazmaOrani = Math.min(1.0, Math.max(0.0, yazmaOrani));
+    }
+}
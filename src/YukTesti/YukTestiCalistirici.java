@@ -0,0 +1,117 @@
+package YukTesti;
+
+import Metrik.Metrikler;
+import Service.BolumService;
+import Service.DersService;
+import Service.GpaService;
+import Service.KolonselNotDeposu;
+import Service.NesneNotDeposu;
+import Service.NotDeposu;
+import Service.OgrenciService;
+import Service.SeritliNotDeposu;
+
+/**
+ * Sentetik veri üretimi ve yük testini komut satırından çalıştıran giriş noktasıdır.
+ * <p>
+ * Servisler kalıcılık katmanı olmadan bellekte oluşturulur; üretilen veri etkileşimli uygulamanın
+ * dosyalarına yazılmaz. Argümanlar {@code --anahtar=deger} biçimindedir:
+ * </p>
+ * <ul>
+ *     <li>{@code --tohum} (42), {@code --bolum} (20), {@code --ders} (400), {@code --ogrenci} (10000),
+ *     {@code --not} (öğrenci başına not, 8), {@code --dagilim} (AA..FF ağırlıkları, virgülle ayrılmış)</li>
+ *     <li>{@code --depo} (nesne, kolonsel veya seritli; varsayılan seritli)</li>
+ *     <li>{@code --is-parcacigi} (işlemci sayısı), {@code --sure} (saniye, 10), {@code --isinma} (saniye, 2),
+ *     {@code --yazma-orani} (0-1, 0.1)</li>
+ * </ul>
+ */
+public class YukTestiCalistirici {
+
+    public static void main(String[] args) throws InterruptedException {
+        long tohum = 42;
+        String depoAdi = "seritli";
+        int isParcacigi = Runtime.getRuntime().availableProcessors();
+        double sure = 10, isinma = 2, yazmaOrani = 0.1;
+        int bolum = 20, ders = 400, ogrenci = 10_000, not = 8;
+        double[] dagilim = null;
+
+        for (String arg : args) {
+            int esittir = arg.indexOf('=');
+            if (!arg.startsWith("--") || esittir < 0) {
+                System.out.println("Uyarı: Tanınmayan argüman yoksayıldı: " + arg);
+                continue;
+            }
+            String anahtar = arg.substring(2, esittir);
+            String deger = arg.substring(esittir + 1);
+            try {
+                switch (anahtar) {
+                    case "tohum" -> tohum = Long.parseLong(deger);
+                    case "bolum" -> bolum = Integer.parseInt(deger);
+                    case "ders" -> ders = Integer.parseInt(deger);
+                    case "ogrenci" -> ogrenci = Integer.parseInt(deger);
+                    case "not" -> not = Integer.parseInt(deger);
+                    case "dagilim" -> {
+                        String[] parcalar = deger.split(",");
+                        dagilim = new double[parcalar.length];
+                        for (int i = 0; i < parcalar.length; i++) {
+                            dagilim[i] = Double.parseDouble(parcalar[i].trim());
+                        }
+                    }
+                    case "depo" -> depoAdi = deger;
+                    case "is-parcacigi" -> isParcacigi = Integer.parseInt(deger);
+                    case "sure" -> sure = Double.parseDouble(deger);
+                    case "isinma" -> isinma = Double.parseDouble(deger);
+                    case "yazma-orani" -> yazmaOrani = Double.parseDouble(deger);
+                    default -> System.out.println("Uyarı: Tanınmayan argüman yoksayıldı: " + arg);
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Hata: '" + anahtar + "' için geçersiz değer: " + deger);
+                return;
+            }
+        }
+
+        NotDeposu depo;
+        switch (depoAdi) {
+            case "nesne" -> depo = new NesneNotDeposu();
+            case "kolonsel" -> depo = new KolonselNotDeposu();
+            case "seritli" -> depo = new SeritliNotDeposu();
+            default -> {
+                System.out.println("Hata: Bilinmeyen depo türü: " + depoAdi + " (nesne, kolonsel, seritli)");
+                return;
+            }
+        }
+
+        VeriUretici uretici = new VeriUretici(tohum);
+        uretici.setBolumSayisi(bolum);
+        uretici.setDersSayisi(ders);
+        uretici.setOgrenciSayisi(ogrenci);
+        uretici.setOgrenciBasinaNot(not);
+        if (dagilim != null && !uretici.setHarfNotuDagilimi(dagilim)) {
+            System.out.println("Hata: Dağılım 9 adet negatif olmayan ağırlıktan oluşmalıdır (AA..FF).");
+            return;
+        }
+
+        // Test sürerken servis metrikleri JConsole/VisualVM ile izlenebilir.
+        Metrikler.jmxYayinla();
+
+        BolumService bolumService = new BolumService();
+        DersService dersService = new DersService();
+        OgrenciService ogrenciService = new OgrenciService();
+        GpaService gpaService = new GpaService(depo);
+
+        long bas = System.nanoTime();
+        VeriSeti veriSeti = uretici.yukle(bolumService, dersService, ogrenciService, gpaService);
+        double yuklemeSuresi = (System.nanoTime() - bas) / 1e9;
+        System.out.printf("Veri seti yüklendi (tohum %d): %d bölüm, %d ders, %d öğrenci, %d not — %.2f sn%n",
+                veriSeti.getTohum(), veriSeti.getBolumler().length, veriSeti.getDersler().length,
+                veriSeti.getOgrenciNolari().length, veriSeti.getNotSayisi(), yuklemeSuresi);
+
+        YukSurucusu surucu = new YukSurucusu(ogrenciService, dersService, gpaService, veriSeti, tohum);
+        surucu.setIsParcacigiSayisi(isParcacigi);
+        surucu.setSureMs((long) (sure * 1000));
+        surucu.setIsinmaSuresiMs((long) (isinma * 1000));
+        surucu.setYazmaOrani(yazmaOrani);
+
+        System.out.println("Yük testi çalışıyor (" + depo.getClass().getSimpleName() + ")...");
+        surucu.calistir().yazdir(System.out);
+    }
+}